@@ -0,0 +1,92 @@
+package cs3500.bench;
+
+import cs3500.model.BattleHandler;
+import cs3500.model.Board;
+import cs3500.model.Card;
+import cs3500.model.Coordinate;
+import cs3500.model.GameBattleHandler;
+import cs3500.model.GameCard;
+import cs3500.model.PlayerColor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks combo chains in GameBattleHandler on a board full of flippable cards.
+ * One blue card flips its neighbours, which flip theirs, until the chain has crossed
+ * every reachable cell.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BattleBenchmark {
+  @Param({"3x3BoardNoHoles.txt", "5x5BoardConnectedCardCells.txt",
+      "generated-15x15", "generated-31x31"})
+  public String boardName;
+
+  @Param({"GameBoard", "BitBoard"})
+  public String implementation;
+
+  private Board board;
+  private BattleHandler handler;
+  private Card attacker;
+  private PlayerColor defender;
+  private Coordinate origin;
+
+  /**
+   * Fills the board with the chain and prepares the attacking card.
+   */
+  @Setup
+  public void setup() {
+    board = BenchmarkFixtures.newBoard(boardName, implementation);
+    origin = BenchmarkFixtures.fillWithChain(board);
+    defender = board.getOwnerAt(board.getAllCards().keySet().iterator().next());
+    handler = new GameBattleHandler(board);
+    attacker = new GameCard("Attacker", 10, 10, 10, 10);
+  }
+
+  /**
+   * Resolves the whole chain and rolls it back through the undo journal.
+   */
+  @Benchmark
+  public int applyAndUndoChain() {
+    int flips = handler.applyMove(attacker, origin, PlayerColor.BLUE);
+    handler.undoMove();
+    return flips;
+  }
+
+  /**
+   * Resolves the chain one combo round at a time, as the battle and combo phases report it,
+   * then flips every card back and removes the attacker.
+   */
+  @Benchmark
+  public int comboSteps() {
+    board.placeCard(attacker, origin, PlayerColor.BLUE);
+    List<Coordinate> flipped = handler.runBattle(origin);
+    List<Coordinate> allFlipped = new ArrayList<>();
+    while (!flipped.isEmpty()) {
+      allFlipped.addAll(flipped);
+      flipped = handler.runComboStep(flipped);
+    }
+
+    for (Coordinate position : allFlipped) {
+      board.flipCard(position, defender);
+    }
+    board.removeCard(origin);
+    return allFlipped.size();
+  }
+}
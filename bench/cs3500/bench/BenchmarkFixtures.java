@@ -0,0 +1,178 @@
+package cs3500.bench;
+
+import cs3500.model.BasicThreeTriosGame;
+import cs3500.model.BitBoard;
+import cs3500.model.Board;
+import cs3500.model.Card;
+import cs3500.model.CellState;
+import cs3500.model.Coordinate;
+import cs3500.model.GameBoard;
+import cs3500.model.GameCard;
+import cs3500.model.GameCoordinate;
+import cs3500.model.GameGrid;
+import cs3500.model.Grid;
+import cs3500.model.PlayerColor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+/**
+ * Shared setup for the benchmarks.
+ * Builds boards and games either from the shipped configuration files or from generated
+ * layouts, so every benchmark runs on the same inputs.
+ *
+ * <p>Board names are either a configuration file name (resolved against the working
+ * directory, so run the benchmarks from the project root) or {@code generated-NxN}, which
+ * builds an N by N grid with a fixed pattern of holes and a matching seeded card set.
+ */
+final class BenchmarkFixtures {
+  static final String CARD_CONFIG = "CompleteCardSet.txt";
+  private static final String GENERATED_PREFIX = "generated-";
+  private static final long SEED = 3500L;
+
+  private BenchmarkFixtures() {
+  }
+
+  /**
+   * Returns the board factory for the given implementation name.
+   *
+   * @param implementation either "GameBoard" or "BitBoard"
+   * @return factory creating that board from a grid
+   * @throws IllegalArgumentException if the implementation is unknown
+   */
+  static Function<Grid, Board> boardFactory(String implementation) {
+    switch (implementation) {
+      case "GameBoard":
+        return GameBoard::new;
+      case "BitBoard":
+        return BitBoard::new;
+      default:
+        throw new IllegalArgumentException("Unknown board implementation: " + implementation);
+    }
+  }
+
+  /**
+   * Creates a started game on the named board, dealt with a seeded shuffle.
+   *
+   * @param boardName configuration file name or generated-NxN
+   * @param implementation board implementation name
+   * @return a game waiting for red's first move
+   */
+  static BasicThreeTriosGame newGame(String boardName, String implementation) {
+    BasicThreeTriosGame game = new BasicThreeTriosGame();
+    game.setBoardFactory(boardFactory(implementation));
+    game.setShuffleRandom(new Random(SEED));
+    if (boardName.startsWith(GENERATED_PREFIX)) {
+      Grid grid = generatedGrid(boardName);
+      game.initializeGame(grid, generatedCards(grid.getCardCellCount() + 1));
+    } else {
+      game.initializeGameFromFiles(boardName, CARD_CONFIG);
+    }
+    game.startGame();
+    return game;
+  }
+
+  /**
+   * Creates an empty board of the named layout.
+   *
+   * @param boardName configuration file name or generated-NxN
+   * @param implementation board implementation name
+   * @return an empty board
+   */
+  static Board newBoard(String boardName, String implementation) {
+    return newGame(boardName, implementation).getBoard().copy();
+  }
+
+  /**
+   * Plays the given number of moves, each a seeded random card on a seeded random empty cell.
+   *
+   * @param game a started game
+   * @param moves number of moves to play; stops early if the board fills
+   */
+  static void playRandomMoves(BasicThreeTriosGame game, int moves) {
+    Random random = new Random(SEED);
+    for (int i = 0; i < moves && !game.getBoard().isFull(); i++) {
+      List<Card> hand = game.getPlayerHand(game.getCurrentPlayerColor());
+      List<Coordinate> empty = game.getBoard().getEmptyCardCells();
+      game.playCard(hand.get(random.nextInt(hand.size())),
+              empty.get(random.nextInt(empty.size())));
+    }
+  }
+
+  /**
+   * Fills the board with red cards so that one blue card played on the returned cell sets
+   * off a combo chain across the board. The returned cell is the card cell nearest the
+   * centre; every red card is stronger on the sides facing away from it than on the sides
+   * facing towards it, so each flipped card beats its outward neighbours in turn.
+   *
+   * @param board an empty board
+   * @return the card cell left empty for the attacking card
+   */
+  static Coordinate fillWithChain(Board board) {
+    Grid grid = board.getGrid();
+    List<Coordinate> cells = board.getEmptyCardCells();
+    Coordinate origin = cells.get(0);
+    int centreRow = grid.getTotalRows() / 2;
+    int centreCol = grid.getTotalColumns() / 2;
+    for (Coordinate cell : cells) {
+      if (distance(cell, centreRow, centreCol) < distance(origin, centreRow, centreCol)) {
+        origin = cell;
+      }
+    }
+
+    for (Coordinate cell : cells) {
+      if (cell.equals(origin)) {
+        continue;
+      }
+      int north = cell.getRow() <= origin.getRow() ? 3 : 2;
+      int south = cell.getRow() >= origin.getRow() ? 3 : 2;
+      int east = cell.getCol() >= origin.getCol() ? 3 : 2;
+      int west = cell.getCol() <= origin.getCol() ? 3 : 2;
+      board.placeCard(new GameCard("Chain" + cell.getRow() + "_" + cell.getCol(),
+              north, east, south, west), cell, PlayerColor.RED);
+    }
+    return origin;
+  }
+
+  private static int distance(Coordinate cell, int row, int col) {
+    return Math.abs(cell.getRow() - row) + Math.abs(cell.getCol() - col);
+  }
+
+  /**
+   * Builds an N by N grid from a generated-NxN name. Every cell whose row and column are
+   * both congruent to 3 mod 4 is a hole, which keeps the card cells connected.
+   *
+   * @param boardName name of the form generated-NxN with N odd
+   * @return the generated grid
+   */
+  static Grid generatedGrid(String boardName) {
+    String[] dimensions = boardName.substring(GENERATED_PREFIX.length()).split("x");
+    int rows = Integer.parseInt(dimensions[0]);
+    int cols = Integer.parseInt(dimensions[1]);
+    Grid grid = new GameGrid(rows, cols);
+    for (int row = 3; row < rows; row += 4) {
+      for (int col = 3; col < cols; col += 4) {
+        grid.setCellState(new GameCoordinate(row, col), CellState.HOLE);
+      }
+    }
+    return grid;
+  }
+
+  /**
+   * Generates a seeded card set, rounded up to an even number of cards.
+   *
+   * @param count minimum number of cards
+   * @return cards with values between 1 and 10 and no owner
+   */
+  static List<Card> generatedCards(int count) {
+    Random random = new Random(SEED);
+    int total = count + (count % 2);
+    List<Card> cards = new ArrayList<>(total);
+    for (int i = 0; i < total; i++) {
+      cards.add(new GameCard("Card" + i, 1 + random.nextInt(10), 1 + random.nextInt(10),
+              1 + random.nextInt(10), 1 + random.nextInt(10)));
+    }
+    return cards;
+  }
+}
@@ -0,0 +1,76 @@
+package cs3500.bench;
+
+import cs3500.model.Board;
+import cs3500.model.Card;
+import cs3500.model.Coordinate;
+import cs3500.model.GameCard;
+import cs3500.model.PlayerColor;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the raw board operations: placing a card and copying a half-full board.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardBenchmark {
+  @Param({"3x3BoardNoHoles.txt", "5x5BoardConnectedCardCells.txt",
+      "generated-15x15", "generated-31x31"})
+  public String boardName;
+
+  @Param({"GameBoard", "BitBoard"})
+  public String implementation;
+
+  private Board board;
+  private Card card;
+  private List<Coordinate> freeCells;
+  private int next;
+
+  /**
+   * Fills every other card cell so that placement and copying see a mid-game board.
+   */
+  @Setup
+  public void setup() {
+    board = BenchmarkFixtures.newBoard(boardName, implementation);
+    List<Coordinate> cells = board.getEmptyCardCells();
+    for (int i = 0; i < cells.size(); i += 2) {
+      board.placeCard(new GameCard("Filler" + i, 5, 5, 5, 5), cells.get(i), PlayerColor.RED);
+    }
+    freeCells = board.getEmptyCardCells();
+    card = new GameCard("Placed", 5, 5, 5, 5);
+  }
+
+  /**
+   * Places a card on the next free cell and removes it again, keeping the board unchanged
+   * between invocations.
+   */
+  @Benchmark
+  public Card placeCard() {
+    Coordinate position = freeCells.get(next);
+    next = (next + 1) % freeCells.size();
+    board.placeCard(card, position, PlayerColor.BLUE);
+    Card placed = board.getCardAt(position);
+    board.removeCard(position);
+    return placed;
+  }
+
+  @Benchmark
+  public Board copy() {
+    return board.copy();
+  }
+}
@@ -0,0 +1,63 @@
+package cs3500.bench;
+
+import cs3500.model.BasicThreeTriosGame;
+import cs3500.model.Card;
+import cs3500.model.Coordinate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks getPotentialFlips over every card in hand and every empty cell,
+ * which is the work a strategy does to score one position.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelBenchmark {
+  @Param({"3x3BoardNoHoles.txt", "5x5BoardConnectedCardCells.txt",
+      "generated-15x15", "generated-31x31"})
+  public String boardName;
+
+  @Param({"GameBoard", "BitBoard"})
+  public String implementation;
+
+  private BasicThreeTriosGame game;
+  private List<Card> hand;
+  private List<Coordinate> emptyCells;
+
+  /**
+   * Plays a third of the card cells so candidate moves have neighbours to battle.
+   */
+  @Setup
+  public void setup() {
+    game = BenchmarkFixtures.newGame(boardName, implementation);
+    BenchmarkFixtures.playRandomMoves(game, game.getBoard().getGrid().getCardCellCount() / 3);
+    hand = game.getPlayerHand(game.getCurrentPlayerColor());
+    emptyCells = game.getBoard().getEmptyCardCells();
+  }
+
+  @Benchmark
+  public int potentialFlipsAllMoves() {
+    int total = 0;
+    for (Card card : hand) {
+      for (Coordinate position : emptyCells) {
+        total += game.getPotentialFlips(card, position);
+      }
+    }
+    return total;
+  }
+}
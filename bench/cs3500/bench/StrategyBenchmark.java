@@ -0,0 +1,68 @@
+package cs3500.bench;
+
+import cs3500.model.BasicThreeTriosGame;
+import cs3500.strategy.CornerStrategy;
+import cs3500.strategy.MaxFlipsStrategy;
+import cs3500.strategy.Move;
+import cs3500.strategy.Strategy;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks a single chooseMove call of each AI strategy, on an opening position and
+ * on a position with a third of the card cells played.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StrategyBenchmark {
+  @Param({"3x3BoardNoHoles.txt", "5x5BoardConnectedCardCells.txt",
+      "generated-15x15", "generated-31x31"})
+  public String boardName;
+
+  @Param({"GameBoard", "BitBoard"})
+  public String implementation;
+
+  @Param({"opening", "midgame"})
+  public String phase;
+
+  private BasicThreeTriosGame game;
+  private Strategy maxFlips;
+  private Strategy corner;
+
+  /**
+   * Builds the position for the selected phase.
+   */
+  @Setup
+  public void setup() {
+    game = BenchmarkFixtures.newGame(boardName, implementation);
+    if ("midgame".equals(phase)) {
+      BenchmarkFixtures.playRandomMoves(game, game.getBoard().getGrid().getCardCellCount() / 3);
+    }
+    maxFlips = new MaxFlipsStrategy();
+    corner = new CornerStrategy();
+  }
+
+  @Benchmark
+  public Move maxFlipsChooseMove() {
+    return maxFlips.chooseMove(game, game.getCurrentPlayerColor());
+  }
+
+  @Benchmark
+  public Move cornerChooseMove() {
+    return corner.chooseMove(game, game.getCurrentPlayerColor());
+  }
+}
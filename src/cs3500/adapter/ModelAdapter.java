@@ -62,11 +62,12 @@ public class ModelAdapter implements TTModel {
 
   @Override
   public ArrayList<TTCard> getHand(Player player) {
-    List<Card> hand = model.getPlayerHand(convertToPlayerColor(player));
+    PlayerColor color = convertToPlayerColor(player);
+    List<Card> hand = model.getPlayerHand(color);
     ArrayList<TTCard> convertedHand = new ArrayList<>();
     for (Card card : hand) {
-      if (card != null && card.getOwner() != null) {
-        convertedHand.add(convertToProviderCard(card));
+      if (card != null) {
+        convertedHand.add(convertToProviderCard(card, color));
       }
     }
     return convertedHand;
@@ -81,7 +82,7 @@ public class ModelAdapter implements TTModel {
     for (int i = 0; i < ourGrid.getTotalRows(); i++) {
       ArrayList<Cell> row = new ArrayList<>();
       for (int j = 0; j < ourGrid.getTotalColumns(); j++) {
-        Coordinate pos = new GameCoordinate(i, j);
+        Coordinate pos = ourGrid.getCoordinate(i, j);
         Cell cell = createCell(board, pos);
         // Verify consistency before adding
         if (!cell.isEmpty() && cell.getCard() == null) {
@@ -180,10 +181,10 @@ public class ModelAdapter implements TTModel {
             return Optional.empty();
           }
 
-          // Then get the card and check its owner
-          Card card = board.getCardAt(pos);
-          if (card != null && card.getOwner() != null) {
-            return Optional.of(convertToProviderPlayer(card.getOwner().getColor()));
+          // Then check the owner of the cell's card
+          PlayerColor owner = board.getOwnerAt(pos);
+          if (owner != null) {
+            return Optional.of(convertToProviderPlayer(owner));
           }
         } catch (IllegalStateException e) {
           // Fall through to empty
@@ -207,8 +208,9 @@ public class ModelAdapter implements TTModel {
 
           // Get the card and ensure it has an owner
           Card card = board.getCardAt(pos);
-          if (card != null && card.getOwner() != null) {
-            return convertToProviderCard(card);
+          PlayerColor owner = board.getOwnerAt(pos);
+          if (card != null && owner != null) {
+            return convertToProviderCard(card, owner);
           }
         } catch (IllegalStateException e) {
           // Fall through to null
@@ -223,20 +225,20 @@ public class ModelAdapter implements TTModel {
     };
   }
 
-  private TTCard convertToProviderCard(Card card) {
-    if (card == null || card.getOwner() == null) {
+  private TTCard convertToProviderCard(Card card, PlayerColor owner) {
+    if (card == null || owner == null) {
       return null;
     }
 
     return new TTCard() {
       @Override
       public Player getOwner() {
-        return convertToProviderPlayer(card.getOwner().getColor());
+        return convertToProviderPlayer(owner);
       }
 
       @Override
       public void setOwner(Player owner) {
-        // Not needed for view
+        // Not needed for view; ownership changes through our model's board
       }
 
       @Override
@@ -1,10 +1,12 @@
 package cs3500.adapter;
 
 import cs3500.controller.Features;
+import cs3500.model.Coordinate;
 import cs3500.model.PlayerColor;
 import cs3500.model.ReadOnlyThreeTriosModel;
 import cs3500.providerstrios.provider.controller.controller.TTController;
 import cs3500.providerstrios.provider.controller.view.TTGUIView;
+import java.util.List;
 import javax.swing.JOptionPane;
 import javax.swing.SwingUtilities;
 
@@ -46,6 +48,15 @@ public class ProviderViewAdapter implements cs3500.view.ThreeTriosView {
     providerView.updateTitle();
   }
 
+  @Override
+  public void refreshCells(List<Coordinate> positions) {
+    if (positions == null) {
+      throw new IllegalArgumentException("Positions cannot be null");
+    }
+    // The provider's view only repaints as a whole
+    refresh();
+  }
+
   @Override
   public void addFeatures(Features features) {
     if (features == null) {
@@ -0,0 +1,255 @@
+package cs3500.config;
+
+import cs3500.model.Card;
+import cs3500.model.CellState;
+import cs3500.model.GameGrid;
+import cs3500.model.Grid;
+import cs3500.model.PackedCard;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Compact binary form of the grid and card configuration files, and the converter from the
+ * text form.
+ *
+ * <p>Every file starts with a header of the magic number {@link #MAGIC}, a format version
+ * short and a kind byte. All numbers are big-endian.
+ * <ul>
+ *   <li>A grid file ({@link #GRID}) continues with the row and column counts as ints and a
+ *       bitset of the holes in row-major order, eight cells per byte, lowest bit first.</li>
+ *   <li>A card file ({@link #CARDS}) continues with the card count as an int, then one
+ *       fixed-size record per card: its {@link PackedCard} values as a short, the offset of
+ *       its identifier in the name pool as an int and the identifier's length as a short.
+ *       The name pool of UTF-8 identifiers follows the records.</li>
+ * </ul>
+ * Fixed-size records let {@link MappedCardLibrary} read any card straight from a mapped file
+ * without parsing the ones before it.
+ */
+public final class BinaryConfig {
+  /**
+   * Magic number at the start of every binary configuration file, "TTRI" in ASCII.
+   */
+  public static final int MAGIC = 0x54545249;
+  /**
+   * Kind byte of a grid file.
+   */
+  public static final byte GRID = 1;
+  /**
+   * Kind byte of a card file.
+   */
+  public static final byte CARDS = 2;
+
+  static final short VERSION = 1;
+  static final int HEADER_SIZE = 7;
+  static final int CARD_RECORD_SIZE = 8;
+
+  private BinaryConfig() {
+  }
+
+  /**
+   * Tells whether a file is in the binary format, by its magic number.
+   *
+   * @param path the file to check
+   * @return true if the file starts with {@link #MAGIC}
+   * @throws IOException if the file cannot be read
+   */
+  public static boolean isBinary(String path) throws IOException {
+    byte[] start = new byte[4];
+    try (InputStream in = Files.newInputStream(toPath(path))) {
+      if (in.readNBytes(start, 0, 4) < 4) {
+        return false;
+      }
+    }
+    return ByteBuffer.wrap(start).getInt() == MAGIC;
+  }
+
+  /**
+   * Writes a grid in the binary format.
+   *
+   * @param grid the grid to write
+   * @param path the file to create or replace
+   * @throws IOException if the file cannot be written
+   * @throws IllegalArgumentException if grid or path is null
+   */
+  public static void writeGrid(Grid grid, String path) throws IOException {
+    if (grid == null) {
+      throw new IllegalArgumentException("Grid cannot be null");
+    }
+    int rows = grid.getTotalRows();
+    int cols = grid.getTotalColumns();
+    byte[] holes = new byte[(rows * cols + 7) / 8];
+    for (int cell = 0; cell < rows * cols; cell++) {
+      if (grid.getCellState(grid.getCoordinate(cell / cols, cell % cols)) == CellState.HOLE) {
+        holes[cell >>> 3] |= (byte) (1 << (cell & 7));
+      }
+    }
+    try (DataOutputStream out = open(path)) {
+      writeHeader(out, GRID);
+      out.writeInt(rows);
+      out.writeInt(cols);
+      out.write(holes);
+    }
+  }
+
+  /**
+   * Writes cards in the binary format.
+   *
+   * @param cards the cards to write, in order
+   * @param path the file to create or replace
+   * @throws IOException if the file cannot be written
+   * @throws IllegalArgumentException if cards or path is null, or a card cannot be packed
+   */
+  public static void writeCards(List<Card> cards, String path) throws IOException {
+    if (cards == null) {
+      throw new IllegalArgumentException("Cards cannot be null");
+    }
+    byte[][] names = new byte[cards.size()][];
+    for (int i = 0; i < names.length; i++) {
+      names[i] = cards.get(i).getIdentifier().getBytes(StandardCharsets.UTF_8);
+      if (names[i].length > Short.MAX_VALUE) {
+        throw new IllegalArgumentException("Card identifier is too long");
+      }
+    }
+    try (DataOutputStream out = open(path)) {
+      writeHeader(out, CARDS);
+      out.writeInt(cards.size());
+      int offset = 0;
+      for (int i = 0; i < names.length; i++) {
+        out.writeShort(PackedCard.pack(cards.get(i)));
+        out.writeInt(offset);
+        out.writeShort(names[i].length);
+        offset += names[i].length;
+      }
+      for (byte[] name : names) {
+        out.write(name);
+      }
+    }
+  }
+
+  /**
+   * Loads a grid from a binary grid file.
+   *
+   * @param path the file to read
+   * @return a new grid
+   * @throws IOException if the file cannot be read
+   * @throws IllegalArgumentException if the file is not a valid binary grid
+   */
+  public static Grid loadGrid(String path) throws IOException {
+    ByteBuffer data = map(path, GRID);
+    int rows = data.getInt(HEADER_SIZE);
+    int cols = data.getInt(HEADER_SIZE + 4);
+    int holesStart = HEADER_SIZE + 8;
+    if (rows <= 0 || cols <= 0
+            || data.limit() != holesStart + ((long) rows * cols + 7) / 8) {
+      throw new IllegalArgumentException(path + ": invalid binary grid size");
+    }
+    Grid grid = new GameGrid(rows, cols);
+    for (int cell = 0; cell < rows * cols; cell++) {
+      if ((data.get(holesStart + (cell >>> 3)) & (1 << (cell & 7))) != 0) {
+        grid.setCellState(grid.getCoordinate(cell / cols, cell % cols), CellState.HOLE);
+      }
+    }
+    return grid;
+  }
+
+  /**
+   * Converts a text grid file to the binary format.
+   *
+   * @param textPath the text file to read
+   * @param binaryPath the binary file to create or replace
+   * @throws IOException if either file cannot be accessed
+   * @throws ConfigParseException if the text file is malformed
+   */
+  public static void convertGrid(String textPath, String binaryPath) throws IOException {
+    writeGrid(ConfigLoader.loadGrid(textPath), binaryPath);
+  }
+
+  /**
+   * Converts a text card file to the binary format.
+   *
+   * @param textPath the text file to read
+   * @param binaryPath the binary file to create or replace
+   * @throws IOException if either file cannot be accessed
+   * @throws ConfigParseException if the text file is malformed
+   */
+  public static void convertCards(String textPath, String binaryPath) throws IOException {
+    writeCards(ConfigLoader.loadCards(textPath), binaryPath);
+  }
+
+  /**
+   * Maps a binary configuration file read-only and checks its header.
+   *
+   * @param path the file to map
+   * @param kind the expected kind byte
+   * @return the mapped file, positioned at its start
+   * @throws IOException if the file cannot be mapped
+   * @throws IllegalArgumentException if the header does not match
+   */
+  static MappedByteBuffer map(String path, byte kind) throws IOException {
+    MappedByteBuffer data;
+    try (FileChannel channel = FileChannel.open(toPath(path), StandardOpenOption.READ)) {
+      data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    }
+    if (data.limit() < HEADER_SIZE || data.getInt(0) != MAGIC) {
+      throw new IllegalArgumentException(path + ": not a binary configuration file");
+    }
+    if (data.getShort(4) != VERSION) {
+      throw new IllegalArgumentException(path + ": unsupported format version "
+              + data.getShort(4));
+    }
+    if (data.get(6) != kind) {
+      throw new IllegalArgumentException(path + ": expected a "
+              + (kind == GRID ? "grid" : "card") + " file");
+    }
+    return data;
+  }
+
+  private static void writeHeader(DataOutputStream out, byte kind) throws IOException {
+    out.writeInt(MAGIC);
+    out.writeShort(VERSION);
+    out.writeByte(kind);
+  }
+
+  private static DataOutputStream open(String path) throws IOException {
+    return new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(toPath(path))));
+  }
+
+  private static Path toPath(String path) {
+    if (path == null) {
+      throw new IllegalArgumentException("Path cannot be null");
+    }
+    return Paths.get(path);
+  }
+
+  /**
+   * Converts text configuration files to the binary format from the command line.
+   *
+   * @param args "grid" or "cards", the text file and the binary file to write
+   */
+  public static void main(String[] args) {
+    if (args.length != 3 || !("grid".equals(args[0]) || "cards".equals(args[0]))) {
+      System.err.println("Usage: java BinaryConfig <grid|cards> <textFile> <binaryFile>");
+      return;
+    }
+    try {
+      if ("grid".equals(args[0])) {
+        convertGrid(args[1], args[2]);
+      } else {
+        convertCards(args[1], args[2]);
+      }
+    } catch (IOException | IllegalArgumentException e) {
+      System.err.println("Error: " + e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,166 @@
+package cs3500.config;
+
+import cs3500.model.Card;
+import cs3500.model.CellState;
+import cs3500.model.GameCard;
+import cs3500.model.GameGrid;
+import cs3500.model.Grid;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Reads the text grid and card configuration files.
+ *
+ * <p>A grid file starts with a line holding the number of rows and columns, followed by one
+ * line per row with a character per cell: C for a card cell and X for a hole. A card file
+ * holds one card per line: its identifier and its north, east, south and west values, each
+ * from 1 to 9 or A for 10. Blank lines are ignored and tokens may be separated by any run of
+ * spaces and tabs.
+ *
+ * <p>Files are read in a single pass through a small fixed buffer. Card files can also be
+ * streamed card by card with {@link #readCards(Reader, String, Consumer)}, so a library of any
+ * size is loaded in memory proportional to what the caller keeps. Malformed input is reported
+ * with a {@link ConfigParseException} giving the line and column of the problem; a file that
+ * cannot be opened or read is reported with an IOException.
+ */
+public final class ConfigLoader {
+  private static final int MAX_CARD_VALUE = 10;
+
+  private ConfigLoader() {
+  }
+
+  /**
+   * Loads a grid from a file, in the text format or the {@link BinaryConfig} format.
+   *
+   * @param path path to the grid configuration file
+   * @return grid loaded from the file
+   * @throws IOException if the file cannot be read
+   * @throws ConfigParseException if the file is malformed
+   */
+  public static Grid loadGrid(String path) throws IOException {
+    if (BinaryConfig.isBinary(path)) {
+      return BinaryConfig.loadGrid(path);
+    }
+    try (Reader in = open(path)) {
+      return readGrid(in, path);
+    }
+  }
+
+  /**
+   * Loads every card of a file into a list, in the text format or the {@link BinaryConfig}
+   * format. Binary files are read through the shared {@link MappedCardLibrary}, and every
+   * load of the same binary file returns its one unmodifiable list of cards.
+   *
+   * @param path path to the card configuration file
+   * @return cards in file order
+   * @throws IOException if the file cannot be read
+   * @throws ConfigParseException if the file is malformed
+   */
+  public static List<Card> loadCards(String path) throws IOException {
+    if (BinaryConfig.isBinary(path)) {
+      return MappedCardLibrary.open(path).toCards();
+    }
+    List<Card> cards = new ArrayList<>();
+    try (Reader in = open(path)) {
+      readCards(in, path, cards::add);
+    }
+    return cards;
+  }
+
+  /**
+   * Reads a grid in the grid file format.
+   *
+   * @param in the input to read; not closed
+   * @param source name of the input, used in error messages
+   * @return the grid described by the input
+   * @throws IOException if the input cannot be read
+   * @throws ConfigParseException if the input is malformed
+   */
+  public static Grid readGrid(Reader in, String source) throws IOException {
+    if (in == null || source == null) {
+      throw new IllegalArgumentException("Input and source cannot be null");
+    }
+    ConfigScanner scanner = new ConfigScanner(in, source);
+    scanner.skipBlankLines();
+    int rows = scanner.number("row count");
+    int line = scanner.getTokenLine();
+    int column = scanner.getTokenColumn();
+    int cols = scanner.number("column count");
+    Grid grid;
+    try {
+      grid = new GameGrid(rows, cols);
+    } catch (IllegalArgumentException e) {
+      throw scanner.errorAt(line, column, e.getMessage());
+    }
+    scanner.endLine();
+
+    for (int row = 0; row < rows; row++) {
+      scanner.skipBlankLines();
+      for (int col = 0; col < cols; col++) {
+        char cell = scanner.character("row " + (row + 1) + " to have " + cols + " cells");
+        if (cell == 'X') {
+          grid.setCellState(grid.getCoordinate(row, col), CellState.HOLE);
+        } else if (cell != 'C') {
+          throw scanner.errorAtToken("Invalid cell type: " + cell);
+        }
+      }
+      scanner.endLine();
+    }
+    scanner.skipBlankLines();
+    if (!scanner.atEndOfInput()) {
+      throw scanner.error("Unexpected content after the last row");
+    }
+    return grid;
+  }
+
+  /**
+   * Reads cards in the card file format, handing each to the given action as soon as its line
+   * is parsed.
+   *
+   * @param in the input to read; not closed
+   * @param source name of the input, used in error messages
+   * @param action receives the cards in input order
+   * @throws IOException if the input cannot be read
+   * @throws ConfigParseException if the input is malformed
+   */
+  public static void readCards(Reader in, String source, Consumer<Card> action)
+          throws IOException {
+    if (in == null || source == null || action == null) {
+      throw new IllegalArgumentException("Input, source and action cannot be null");
+    }
+    ConfigScanner scanner = new ConfigScanner(in, source);
+    scanner.skipBlankLines();
+    while (!scanner.atEndOfInput()) {
+      String identifier = scanner.word("card identifier");
+      int north = cardValue(scanner, "north value");
+      int east = cardValue(scanner, "east value");
+      int south = cardValue(scanner, "south value");
+      int west = cardValue(scanner, "west value");
+      scanner.endLine();
+      action.accept(new GameCard(identifier, north, east, south, west));
+      scanner.skipBlankLines();
+    }
+  }
+
+  private static int cardValue(ConfigScanner scanner, String what) throws IOException {
+    int value = scanner.number(what, 'A', MAX_CARD_VALUE);
+    if (value < 1 || value > MAX_CARD_VALUE) {
+      throw scanner.errorAtToken("Card values must be between 1 and 10, found " + value);
+    }
+    return value;
+  }
+
+  private static Reader open(String path) throws IOException {
+    if (path == null) {
+      throw new IllegalArgumentException("Path cannot be null");
+    }
+    return new InputStreamReader(Files.newInputStream(Paths.get(path)), StandardCharsets.UTF_8);
+  }
+}
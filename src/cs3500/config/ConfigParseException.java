@@ -0,0 +1,66 @@
+package cs3500.config;
+
+/**
+ * Thrown when a configuration file does not follow its format. Carries the position of the
+ * offending input, so the message reads like a compiler error: source:line:column: problem.
+ */
+public class ConfigParseException extends IllegalArgumentException {
+  private static final long serialVersionUID = 1L;
+
+  private final String source;
+  private final int line;
+  private final int column;
+  private final String problem;
+
+  /**
+   * Constructor for the ConfigParseException class.
+   *
+   * @param source name of the file or stream being parsed
+   * @param line line of the error, starting at 1
+   * @param column column of the error, starting at 1
+   * @param problem description of what is wrong
+   */
+  public ConfigParseException(String source, int line, int column, String problem) {
+    super(source + ":" + line + ":" + column + ": " + problem);
+    this.source = source;
+    this.line = line;
+    this.column = column;
+    this.problem = problem;
+  }
+
+  /**
+   * Gets the name of the file or stream being parsed.
+   *
+   * @return the source name
+   */
+  public String getSource() {
+    return source;
+  }
+
+  /**
+   * Gets the line of the error.
+   *
+   * @return the line, starting at 1
+   */
+  public int getLine() {
+    return line;
+  }
+
+  /**
+   * Gets the column of the error.
+   *
+   * @return the column, starting at 1
+   */
+  public int getColumn() {
+    return column;
+  }
+
+  /**
+   * Gets the description of the error without its position.
+   *
+   * @return the problem
+   */
+  public String getProblem() {
+    return problem;
+  }
+}
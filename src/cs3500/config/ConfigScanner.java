@@ -0,0 +1,244 @@
+package cs3500.config;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Single-pass tokenizer for the line-based configuration formats.
+ *
+ * <p>Reads through a fixed-size buffer of its own, so memory use does not grow with the input,
+ * and tracks the line and column of every character. Tokens are runs of characters other than
+ * spaces, tabs and line breaks; numbers are accumulated digit by digit rather than cut out
+ * and handed to {@link Integer#parseInt}. Both "\n" and "\r\n" end a line.
+ */
+final class ConfigScanner {
+  private static final int EOF = -1;
+
+  private final Reader in;
+  private final String source;
+  private final char[] buffer = new char[8192];
+  private final StringBuilder word = new StringBuilder();
+  private int position;
+  private int limit;
+  private int line = 1;
+  private int column = 1;
+  private int tokenLine;
+  private int tokenColumn;
+
+  /**
+   * Constructor for the ConfigScanner class.
+   *
+   * @param in the input to scan; not closed by the scanner
+   * @param source name of the input, used in error messages
+   */
+  ConfigScanner(Reader in, String source) {
+    this.in = in;
+    this.source = source;
+  }
+
+  /**
+   * Skips spaces and tabs.
+   */
+  void skipBlanks() throws IOException {
+    int c = peek();
+    while (c == ' ' || c == '\t') {
+      read();
+      c = peek();
+    }
+  }
+
+  /**
+   * Skips lines holding nothing but spaces and tabs.
+   */
+  void skipBlankLines() throws IOException {
+    while (true) {
+      skipBlanks();
+      int c = peek();
+      if (c != '\n' && c != '\r') {
+        return;
+      }
+      endLine();
+    }
+  }
+
+  boolean atEndOfInput() throws IOException {
+    return peek() == EOF;
+  }
+
+  /**
+   * Consumes the end of the current line, allowing trailing blanks before it. The end of the
+   * input also counts as the end of a line.
+   *
+   * @throws ConfigParseException if anything else is left on the line
+   */
+  void endLine() throws IOException {
+    skipBlanks();
+    int c = peek();
+    if (c == EOF) {
+      return;
+    }
+    if (c == '\r') {
+      read();
+      c = peek();
+    }
+    if (c != '\n') {
+      throw error("Unexpected '" + (char) c + "', expected end of line");
+    }
+    read();
+  }
+
+  /**
+   * Reads the next token on the current line.
+   *
+   * @param what description of the expected token, used in error messages
+   * @return the token
+   * @throws ConfigParseException if the line has no more tokens
+   */
+  String word(String what) throws IOException {
+    startToken(what);
+    word.setLength(0);
+    int c = peek();
+    while (!isSeparator(c)) {
+      word.append((char) read());
+      c = peek();
+    }
+    return word.toString();
+  }
+
+  /**
+   * Reads the next token on the current line as a non-negative decimal number.
+   *
+   * @param what description of the expected number, used in error messages
+   * @return the number
+   * @throws ConfigParseException if the token is missing, not a number or too large
+   */
+  int number(String what) throws IOException {
+    return number(what, '0', 0);
+  }
+
+  /**
+   * Reads the next token on the current line as a non-negative decimal number, or as a
+   * single letter that stands for a number.
+   *
+   * @param what description of the expected number, used in error messages
+   * @param letter the letter accepted in place of a number
+   * @param letterValue the number the letter stands for
+   * @return the number
+   * @throws ConfigParseException if the token is missing, not a number or too large
+   */
+  int number(String what, char letter, int letterValue) throws IOException {
+    startToken(what);
+    word.setLength(0);
+    long value = 0;
+    boolean digits = true;
+    int c = peek();
+    while (!isSeparator(c)) {
+      digits &= c >= '0' && c <= '9';
+      if (digits && value <= Integer.MAX_VALUE) {
+        value = value * 10 + (c - '0');
+      }
+      word.append((char) read());
+      c = peek();
+    }
+    if (!digits) {
+      if (word.length() == 1 && word.charAt(0) == letter) {
+        return letterValue;
+      }
+      throw errorAtToken("Expected " + what + " but found '" + word + "'");
+    }
+    if (value > Integer.MAX_VALUE) {
+      throw errorAtToken(capitalize(what) + " is too large");
+    }
+    return (int) value;
+  }
+
+  /**
+   * Reads one character of the current line, which must not end the line.
+   *
+   * @param what description of the expected character, used in error messages
+   * @return the character
+   * @throws ConfigParseException if the line ends here
+   */
+  char character(String what) throws IOException {
+    tokenLine = line;
+    tokenColumn = column;
+    int c = peek();
+    if (c == EOF || c == '\n' || c == '\r') {
+      throw error("Expected " + what);
+    }
+    return (char) read();
+  }
+
+  /**
+   * Creates an error at the position of the next character.
+   */
+  ConfigParseException error(String problem) {
+    return new ConfigParseException(source, line, column, problem);
+  }
+
+  int getTokenLine() {
+    return tokenLine;
+  }
+
+  int getTokenColumn() {
+    return tokenColumn;
+  }
+
+  /**
+   * Creates an error at the given position.
+   */
+  ConfigParseException errorAt(int line, int column, String problem) {
+    return new ConfigParseException(source, line, column, problem);
+  }
+
+  /**
+   * Creates an error at the start of the most recent token.
+   */
+  ConfigParseException errorAtToken(String problem) {
+    return new ConfigParseException(source, tokenLine, tokenColumn, problem);
+  }
+
+  private void startToken(String what) throws IOException {
+    skipBlanks();
+    tokenLine = line;
+    tokenColumn = column;
+    if (isSeparator(peek())) {
+      throw error("Expected " + what);
+    }
+  }
+
+  private static boolean isSeparator(int c) {
+    return c == EOF || c == ' ' || c == '\t' || c == '\n' || c == '\r';
+  }
+
+  private static String capitalize(String what) {
+    return Character.toUpperCase(what.charAt(0)) + what.substring(1);
+  }
+
+  private int peek() throws IOException {
+    if (position == limit) {
+      limit = in.read(buffer, 0, buffer.length);
+      position = 0;
+      if (limit <= 0) {
+        limit = 0;
+        return EOF;
+      }
+    }
+    return buffer[position];
+  }
+
+  private int read() throws IOException {
+    int c = peek();
+    if (c == EOF) {
+      return EOF;
+    }
+    position++;
+    if (c == '\n') {
+      line++;
+      column = 1;
+    } else {
+      column++;
+    }
+    return c;
+  }
+}
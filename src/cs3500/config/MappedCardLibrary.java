@@ -0,0 +1,162 @@
+package cs3500.config;
+
+import cs3500.model.Card;
+import cs3500.model.PackedCard;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Read-only card library backed by a memory-mapped binary card file.
+ *
+ * <p>{@link #open} maps each file once per process and hands the same library to every caller,
+ * so any number of worker threads share one mapped copy of the cards rather than each parsing
+ * the text file. Cards are decoded from their fixed-size records on demand with absolute reads,
+ * which are safe from several threads at once. A library keeps the mapping it was opened with;
+ * rewrite a file under a new name rather than in place while it is in use.
+ */
+public final class MappedCardLibrary {
+  private static final Map<String, MappedCardLibrary> OPEN = new ConcurrentHashMap<>();
+
+  private final ByteBuffer data;
+  private final int size;
+  private final int namesStart;
+  // Every card, decoded on the first call to toCards
+  private volatile List<Card> cards;
+
+  private MappedCardLibrary(ByteBuffer data, String path) {
+    this.data = data;
+    if (data.limit() < BinaryConfig.HEADER_SIZE + 4) {
+      throw new IllegalArgumentException(path + ": truncated card file");
+    }
+    this.size = data.getInt(BinaryConfig.HEADER_SIZE);
+    long recordsEnd = BinaryConfig.HEADER_SIZE + 4 + (long) size * BinaryConfig.CARD_RECORD_SIZE;
+    if (size < 0 || recordsEnd > data.limit()) {
+      throw new IllegalArgumentException(path + ": invalid card count " + size);
+    }
+    this.namesStart = (int) recordsEnd;
+    for (int i = 0; i < size; i++) {
+      if (nameOffset(i) < 0 || nameLength(i) < 0
+              || (long) namesStart + nameOffset(i) + nameLength(i) > data.limit()) {
+        throw new IllegalArgumentException(path + ": card " + i + " has no identifier");
+      }
+    }
+  }
+
+  /**
+   * Opens the library in a binary card file, mapping it on first use.
+   *
+   * @param path the binary card file
+   * @return the shared library for that file
+   * @throws IOException if the file cannot be mapped
+   * @throws IllegalArgumentException if path is null or the file is not a binary card file
+   */
+  public static MappedCardLibrary open(String path) throws IOException {
+    if (path == null) {
+      throw new IllegalArgumentException("Path cannot be null");
+    }
+    String key = Paths.get(path).toRealPath().toString();
+    try {
+      return OPEN.computeIfAbsent(key, file -> {
+        try {
+          return new MappedCardLibrary(BinaryConfig.map(file, BinaryConfig.CARDS), path);
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      });
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
+  /**
+   * Gets the number of cards in the library.
+   *
+   * @return number of cards
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Gets the packed values of a card.
+   *
+   * @param index the card's position in the file
+   * @return the card's {@link PackedCard} values
+   * @throws IndexOutOfBoundsException if index is outside the library
+   */
+  public short getPacked(int index) {
+    return data.getShort(record(index));
+  }
+
+  /**
+   * Gets the identifier of a card.
+   *
+   * @param index the card's position in the file
+   * @return the card's identifier
+   * @throws IndexOutOfBoundsException if index is outside the library
+   */
+  public String getIdentifier(int index) {
+    byte[] name = new byte[nameLength(index)];
+    data.get(namesStart + nameOffset(index), name);
+    return new String(name, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Creates a card from the library.
+   *
+   * @param index the card's position in the file
+   * @return a new card with the stored identifier and values
+   * @throws IndexOutOfBoundsException if index is outside the library
+   */
+  public Card getCard(int index) {
+    return PackedCard.toCard(getIdentifier(index), getPacked(index));
+  }
+
+  /**
+   * Gets every card of the library. The cards are decoded once, on the first call, and every
+   * later call from any thread returns the same list; the cards are immutable, so one list
+   * can back any number of games.
+   *
+   * @return unmodifiable list of the cards in file order
+   */
+  public List<Card> toCards() {
+    List<Card> decoded = cards;
+    if (decoded == null) {
+      synchronized (this) {
+        decoded = cards;
+        if (decoded == null) {
+          List<Card> all = new ArrayList<>(size);
+          for (int i = 0; i < size; i++) {
+            all.add(getCard(i));
+          }
+          decoded = Collections.unmodifiableList(all);
+          cards = decoded;
+        }
+      }
+    }
+    return decoded;
+  }
+
+  private int record(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Card " + index + " outside library of " + size);
+    }
+    return BinaryConfig.HEADER_SIZE + 4 + index * BinaryConfig.CARD_RECORD_SIZE;
+  }
+
+  private int nameOffset(int index) {
+    return data.getInt(record(index) + 2);
+  }
+
+  private int nameLength(int index) {
+    return data.getShort(record(index) + 6);
+  }
+}
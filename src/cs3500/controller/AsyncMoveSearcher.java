@@ -0,0 +1,144 @@
+package cs3500.controller;
+
+import cs3500.model.PlayerColor;
+import cs3500.model.ReadOnlyThreeTriosModel;
+import cs3500.strategy.Move;
+import cs3500.strategy.Strategy;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import javax.swing.SwingUtilities;
+
+/**
+ * Runs AI move searches on a background thread and hands the chosen move back on the
+ * Swing event dispatch thread, so the views keep painting while a strategy thinks.
+ *
+ * <p>Searches must be given a model the search may own, such as a ScratchModel copy,
+ * never the live model. When the time budget runs out the search thread is interrupted;
+ * strategies that watch for interruption return their best move so far, and that move
+ * is still delivered. A strategy that throws delivers its exception instead of a move.
+ * A cancelled search never delivers anything.
+ */
+public class AsyncMoveSearcher {
+  private static final ThreadFactory DAEMON_THREADS = runnable -> {
+    Thread thread = new Thread(runnable, "three-trios-ai");
+    thread.setDaemon(true);
+    return thread;
+  };
+
+  private final ExecutorService searchExecutor;
+  private final ScheduledExecutorService timer;
+  private final Executor delivery;
+  private final long timeBudgetMillis;
+  private final AtomicLong generation;
+  private volatile boolean searching;
+  private Future<?> pending;
+
+  /**
+   * Creates a searcher that delivers moves on the event dispatch thread.
+   *
+   * @param timeBudgetMillis time a search may run before it is interrupted
+   * @throws IllegalArgumentException if the budget is not positive
+   */
+  public AsyncMoveSearcher(long timeBudgetMillis) {
+    this(timeBudgetMillis, SwingUtilities::invokeLater);
+  }
+
+  /**
+   * Creates a searcher that delivers moves through the given executor.
+   *
+   * @param timeBudgetMillis time a search may run before it is interrupted
+   * @param delivery runs the move callbacks
+   * @throws IllegalArgumentException if the budget is not positive or delivery is null
+   */
+  public AsyncMoveSearcher(long timeBudgetMillis, Executor delivery) {
+    if (timeBudgetMillis < 1) {
+      throw new IllegalArgumentException("Time budget must be positive");
+    }
+    if (delivery == null) {
+      throw new IllegalArgumentException("Delivery executor cannot be null");
+    }
+    // A cached pool never queues a new search behind one that ignores its interrupt
+    this.searchExecutor = Executors.newCachedThreadPool(DAEMON_THREADS);
+    this.timer = Executors.newSingleThreadScheduledExecutor(DAEMON_THREADS);
+    this.delivery = delivery;
+    this.timeBudgetMillis = timeBudgetMillis;
+    this.generation = new AtomicLong();
+  }
+
+  /**
+   * Starts searching for a move, cancelling any search still in progress.
+   *
+   * @param snapshot a model owned by the search
+   * @param strategy the strategy to run
+   * @param player the player to move
+   * @param onMove receives the chosen move and null, or a null move and the exception the
+   *     strategy threw
+   * @throws IllegalArgumentException if any argument is null
+   */
+  public void search(ReadOnlyThreeTriosModel snapshot, Strategy strategy, PlayerColor player,
+                     BiConsumer<? super Move, ? super RuntimeException> onMove) {
+    if (snapshot == null || strategy == null || player == null || onMove == null) {
+      throw new IllegalArgumentException("Arguments cannot be null");
+    }
+
+    cancel();
+    long ticket = generation.get();
+    searching = true;
+    Future<?> task = searchExecutor.submit(() -> {
+      Move move = null;
+      RuntimeException failure = null;
+      try {
+        move = strategy.chooseMove(snapshot, player);
+      } catch (RuntimeException e) {
+        failure = e;
+      }
+      Move chosen = move;
+      RuntimeException thrown = failure;
+      delivery.execute(() -> {
+        if (generation.get() == ticket) {
+          searching = false;
+          onMove.accept(chosen, thrown);
+        }
+      });
+    });
+    pending = task;
+    timer.schedule(() -> task.cancel(true), timeBudgetMillis, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Cancels the search in progress, if any. Its move will not be delivered.
+   */
+  public void cancel() {
+    generation.incrementAndGet();
+    searching = false;
+    if (pending != null) {
+      pending.cancel(true);
+      pending = null;
+    }
+  }
+
+  /**
+   * Returns whether a search has been started and its move not yet delivered.
+   *
+   * @return true while a search is outstanding
+   */
+  public boolean isSearching() {
+    return searching;
+  }
+
+  /**
+   * Cancels any search and stops the background threads.
+   */
+  public void shutdown() {
+    cancel();
+    searchExecutor.shutdownNow();
+    timer.shutdownNow();
+  }
+}
@@ -3,29 +3,38 @@ package cs3500.controller;
 import cs3500.model.Card;
 import cs3500.model.Coordinate;
 import cs3500.model.GameState;
+import cs3500.model.ModelListener;
 import cs3500.model.PlayerColor;
+import cs3500.model.ScratchModel;
 import cs3500.model.ThreeTriosModel;
 import cs3500.strategy.Move;
 import cs3500.strategy.Strategy;
-import cs3500.threetrios.GameControllerRegistry;
+import cs3500.threetrios.GameSession;
 import cs3500.view.ThreeTriosView;
+import java.util.List;
 import javax.swing.SwingUtilities;
 
 /**
  * Controller for managing player interactions with the game.
+ * Listens to the model, so both players' controllers learn about every move as it happens,
+ * whichever controller made it.
  */
-public class GameController implements ThreeTriosController, Features {
+public class GameController implements ThreeTriosController, Features, ModelListener {
+  private static final long DEFAULT_AI_TIME_BUDGET_MILLIS = 1000;
+
   private final ThreeTriosModel model;
   private final ThreeTriosView view;
   private final PlayerColor playerColor;
   private final Strategy strategy;
+  private final AsyncMoveSearcher searcher;
+  private final GameSession session;
 
   // Only used for human players
   private Card selectedCard;
   private Coordinate selectedPosition;
 
   /**
-   * Creates a new game controller.
+   * Creates a new game controller that is not part of a session, so it notifies no opponent.
    *
    * @param model the game model
    * @param view the view for this player
@@ -35,18 +44,75 @@ public class GameController implements ThreeTriosController, Features {
    */
   public GameController(ThreeTriosModel model, ThreeTriosView view,
                         PlayerColor playerColor, Strategy strategy) {
+    this(null, model, view, playerColor, strategy);
+  }
+
+  /**
+   * Creates a new game controller that is not part of a session and whose AI moves are
+   * searched by the given searcher.
+   *
+   * @param model the game model
+   * @param view the view for this player
+   * @param playerColor the color this controller manages
+   * @param strategy the strategy to use (null for human players)
+   * @param searcher runs the strategy off the event dispatch thread (null for human players)
+   * @throws IllegalArgumentException if model, view, or playerColor is null,
+   *     or if only one of strategy and searcher is given
+   */
+  public GameController(ThreeTriosModel model, ThreeTriosView view, PlayerColor playerColor,
+                        Strategy strategy, AsyncMoveSearcher searcher) {
+    this(null, model, view, playerColor, strategy, searcher);
+  }
+
+  /**
+   * Creates a new game controller that notifies its opponent through the given session.
+   *
+   * @param session the session of this controller's game (null to notify no opponent)
+   * @param model the game model
+   * @param view the view for this player
+   * @param playerColor the color this controller manages
+   * @param strategy the strategy to use (null for human players)
+   * @throws IllegalArgumentException if model, view, or playerColor is null
+   */
+  public GameController(GameSession session, ThreeTriosModel model, ThreeTriosView view,
+                        PlayerColor playerColor, Strategy strategy) {
+    this(session, model, view, playerColor, strategy,
+            strategy == null ? null : new AsyncMoveSearcher(DEFAULT_AI_TIME_BUDGET_MILLIS));
+  }
+
+  /**
+   * Creates a new game controller that notifies its opponent through the given session and
+   * whose AI moves are searched by the given searcher.
+   *
+   * @param session the session of this controller's game (null to notify no opponent)
+   * @param model the game model
+   * @param view the view for this player
+   * @param playerColor the color this controller manages
+   * @param strategy the strategy to use (null for human players)
+   * @param searcher runs the strategy off the event dispatch thread (null for human players)
+   * @throws IllegalArgumentException if model, view, or playerColor is null,
+   *     or if only one of strategy and searcher is given
+   */
+  public GameController(GameSession session, ThreeTriosModel model, ThreeTriosView view,
+                        PlayerColor playerColor, Strategy strategy, AsyncMoveSearcher searcher) {
     if (model == null || view == null || playerColor == null) {
       throw new IllegalArgumentException("Required arguments cannot be null");
     }
+    if ((strategy == null) != (searcher == null)) {
+      throw new IllegalArgumentException("AI players need both a strategy and a searcher");
+    }
+    this.session = session;
     this.model = model;
     this.view = view;
     this.playerColor = playerColor;
     this.strategy = strategy;
+    this.searcher = searcher;
   }
 
   @Override
   public void start() {
     view.addFeatures(this);
+    model.addModelListener(this);
     updateTitle();
     checkGameState();
   }
@@ -120,36 +186,34 @@ public class GameController implements ThreeTriosController, Features {
   }
 
   private void handleAITurn() {
+    if (searcher.isSearching()) {
+      return;
+    }
     view.updateStatus("AI is thinking...");
-    SwingUtilities.invokeLater(new Runnable() {
-      @Override
-      public void run() {
-        makeAIMove();
-      }
-    });
+
+    // Search on a private copy so the views can keep reading the live model
+    ScratchModel snapshot = new ScratchModel(model);
+    searcher.search(snapshot, strategy, playerColor, this::makeAIMove);
   }
 
-  private void makeAIMove() {
+  private void makeAIMove(Move move, RuntimeException failure) {
     if (!isMyTurn() || !isAIPlayer()) {
       return;
     }
 
-    Move move = strategy.chooseMove(model, playerColor);
-    if (move != null) {
-      try {
-        model.playCard(move.getCard(), move.getPosition());
-
-        // Notify opponent's controller
-        ThreeTriosController opponent = GameControllerRegistry.getController(
-                playerColor.getOpponentColor());
-        if (opponent != null) {
-          opponent.refresh();
-        }
-
-        view.refresh();
-      } catch (IllegalStateException | IllegalArgumentException e) {
-        view.showError("AI Move failed: " + e.getMessage());
-      }
+    if (failure != null) {
+      view.showError("AI failed to find a move: " + failure.getMessage());
+      return;
+    }
+    if (move == null) {
+      view.showError("AI failed to find a move");
+      return;
+    }
+
+    try {
+      model.playCard(move.getCard(), move.getPosition());
+    } catch (IllegalStateException | IllegalArgumentException e) {
+      view.showError("AI Move failed: " + e.getMessage());
     }
   }
 
@@ -209,15 +273,6 @@ public class GameController implements ThreeTriosController, Features {
       model.playCard(selectedCard, selectedPosition);
       selectedCard = null;
       selectedPosition = null;
-
-      // Notify opponent's controller
-      ThreeTriosController opponent = GameControllerRegistry.getController(
-              playerColor.getOpponentColor());
-      if (opponent != null) {
-        opponent.refresh();
-      }
-
-      view.refresh();
     } catch (IllegalStateException | IllegalArgumentException e) {
       view.showError(e.getMessage());
     }
@@ -241,12 +296,33 @@ public class GameController implements ThreeTriosController, Features {
     updateTitle();
     view.refresh();
 
-    // Notify opponent's controller
-    ThreeTriosController opponent = GameControllerRegistry.getController(
-            playerColor.getOpponentColor());
-    if (opponent != null) {
-      opponent.refresh();
-    }
+    notifyOpponent();
+  }
+
+  @Override
+  public void cardPlaced(Card card, Coordinate position, PlayerColor owner) {
+    SwingUtilities.invokeLater(() -> view.refreshCells(List.of(position)));
+  }
+
+  @Override
+  public void cardsFlipped(List<Coordinate> positions, PlayerColor newOwner) {
+    SwingUtilities.invokeLater(() -> view.refreshCells(positions));
+  }
+
+  @Override
+  public void turnChanged(PlayerColor player) {
+    SwingUtilities.invokeLater(() -> {
+      checkGameState();
+      updateTitle();
+    });
+  }
+
+  @Override
+  public void gameOver(PlayerColor winner) {
+    SwingUtilities.invokeLater(() -> {
+      handleGameOver();
+      view.refresh();
+    });
   }
 
   private boolean isMyTurn() {
@@ -263,4 +339,10 @@ public class GameController implements ThreeTriosController, Features {
   public boolean isAIPlayer() {
     return strategy != null;
   }
-}
\ No newline at end of file
+
+  private void notifyOpponent() {
+    if (session != null) {
+      session.notifyOpponent(playerColor);
+    }
+  }
+}
@@ -48,6 +48,7 @@ public class AIThreeTriosGame extends AbstractThreeTriosGame {
     }
     currentPlayer = PlayerColor.RED;
     gameState = GameState.WAITING_FOR_MOVE;
+    fireTurnChanged();
 
     // If first player is AI, make their move
     checkAndExecuteAIMove();
@@ -72,8 +73,8 @@ public class AIThreeTriosGame extends AbstractThreeTriosGame {
     }
 
     // Execute the move
-    board.placeCard(card, position);
-    getCurrentPlayer().removeCardFromHand(card);
+    board.placeCard(card, position, currentPlayer);
+    removeFromCurrentHand(card);
     handleBattles(position);
 
     // Check game end
@@ -83,12 +84,14 @@ public class AIThreeTriosGame extends AbstractThreeTriosGame {
       System.out.println("Final Scores - Red: " + getScore(PlayerColor.RED)
               + ", Blue: " + getScore(PlayerColor.BLUE));
       System.out.println("Winner: " + getWinner());
+      fireGameOver();
       return;
     }
 
     // Switch turns
     currentPlayer = currentPlayer.getOpponentColor();
     gameState = GameState.WAITING_FOR_MOVE;
+    fireTurnChanged();
 
     // If next player is AI, make their move
     checkAndExecuteAIMove();
@@ -97,13 +100,6 @@ public class AIThreeTriosGame extends AbstractThreeTriosGame {
   private void checkAndExecuteAIMove() {
     Player currentPlayerObj = players.get(currentPlayer);
     if (currentPlayerObj instanceof AIPlayer && gameState == GameState.WAITING_FOR_MOVE) {
-      // Add small delay to make AI moves visible
-      try {
-        Thread.sleep(500);
-      } catch (InterruptedException e) {
-        Thread.currentThread().interrupt();
-      }
-
       if (!((AIPlayer) currentPlayerObj).makeMove()) {
         System.err.println("AI failed to make a move");
       }
@@ -1,13 +1,15 @@
 package cs3500.model;
 
-import java.io.BufferedReader;
-import java.io.FileReader;
+import cs3500.config.ConfigLoader;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
 
 /**
  * Abstract base class for Three Trios game implementations.
@@ -19,6 +21,11 @@ public abstract class AbstractThreeTriosGame implements ThreeTriosModel {
   protected Board board;
   protected GameState gameState;
   protected BattleHandler battleHandler;
+  private Function<Grid, Board> boardFactory;
+  private Random shuffleRandom;
+  private final List<ModelListener> listeners;
+  // XOR of the Zobrist hand keys of every card in both hands
+  private long handHash;
 
   /**
    * Constructor for the AbstractThreeTriosGame class.
@@ -27,10 +34,41 @@ public abstract class AbstractThreeTriosGame implements ThreeTriosModel {
     this.players = new HashMap<>();
     this.currentPlayer = PlayerColor.RED;
     this.gameState = GameState.INITIALIZATION;
+    this.boardFactory = GameBoard::new;
+    this.shuffleRandom = new Random();
+    this.listeners = new CopyOnWriteArrayList<>();
     this.board = new GameBoard(new GameGrid(3, 3));
     this.battleHandler = new GameBattleHandler(this.board);
   }
 
+  /**
+   * Selects the board implementation used by subsequent calls to initializeGame.
+   * Defaults to GameBoard; BitBoard::new selects the bitset-backed board.
+   *
+   * @param boardFactory creates a board from the configured grid
+   * @throws IllegalArgumentException if boardFactory is null
+   */
+  public void setBoardFactory(Function<Grid, Board> boardFactory) {
+    if (boardFactory == null) {
+      throw new IllegalArgumentException("Board factory cannot be null");
+    }
+    this.boardFactory = boardFactory;
+  }
+
+  /**
+   * Sets the source of randomness used to shuffle the cards before they are dealt.
+   * Passing a seeded Random makes the deal of every subsequent initializeGame reproducible.
+   *
+   * @param shuffleRandom the random source for shuffling
+   * @throws IllegalArgumentException if shuffleRandom is null
+   */
+  public void setShuffleRandom(Random shuffleRandom) {
+    if (shuffleRandom == null) {
+      throw new IllegalArgumentException("Shuffle random cannot be null");
+    }
+    this.shuffleRandom = shuffleRandom;
+  }
+
   @Override
   public void initializeGameFromFiles(String gridConfig, String cardsConfig) {
     if (gridConfig == null || cardsConfig == null) {
@@ -52,39 +90,10 @@ public abstract class AbstractThreeTriosGame implements ThreeTriosModel {
    * @param gridConfig path to grid configuration file
    * @return grid loaded from file
    * @throws IOException if an error occurs reading the file
+   * @throws cs3500.config.ConfigParseException if the file is malformed
    */
   protected Grid loadGridFromFile(String gridConfig) throws IOException {
-    try (BufferedReader reader = new BufferedReader(new FileReader(gridConfig))) {
-      String[] dimensions = reader.readLine().split(" ");
-      if (dimensions.length != 2) {
-        throw new IllegalArgumentException("Invalid grid dimensions format");
-      }
-
-      int rows = Integer.parseInt(dimensions[0]);
-      int cols = Integer.parseInt(dimensions[1]);
-      Grid grid = new GameGrid(rows, cols);
-
-      for (int i = 0; i < rows; i++) {
-        String row = reader.readLine();
-        if (row == null || row.length() != cols) {
-          throw new IllegalArgumentException("Invalid grid row length");
-        }
-
-        for (int j = 0; j < cols; j++) {
-          char cell = row.charAt(j);
-          Coordinate pos = new GameCoordinate(i, j);
-
-          if (cell == 'X') {
-            grid.setCellState(pos, CellState.HOLE);
-          } else if (cell == 'C') {
-            grid.setCellState(pos, CellState.AVAILABLE);
-          } else {
-            throw new IllegalArgumentException("Invalid cell type: " + cell);
-          }
-        }
-      }
-      return grid;
-    }
+    return ConfigLoader.loadGrid(gridConfig);
   }
 
   /**
@@ -93,52 +102,10 @@ public abstract class AbstractThreeTriosGame implements ThreeTriosModel {
    * @param cardsConfig path to cards configuration file
    * @return list of cards
    * @throws IOException if an error occurs reading the file
+   * @throws cs3500.config.ConfigParseException if the file is malformed
    */
   protected List<Card> loadCardsFromFile(String cardsConfig) throws IOException {
-    List<Card> cards = new ArrayList<>();
-
-    try (BufferedReader reader = new BufferedReader(new FileReader(cardsConfig))) {
-      String line;
-      while ((line = reader.readLine()) != null) {
-        String[] cardData = line.split(" ");
-        if (cardData.length != 5) {
-          throw new IllegalArgumentException("Invalid card data format");
-        }
-
-        String identifier = cardData[0];
-        int northValue = parseCardValue(cardData[1]);
-        int eastValue = parseCardValue(cardData[2]);
-        int southValue = parseCardValue(cardData[3]);
-        int westValue = parseCardValue(cardData[4]);
-
-        Card card = new GameCard(identifier, null,
-              northValue, eastValue, southValue, westValue);
-        cards.add(card);
-      }
-    }
-    return cards;
-  }
-
-  /**
-   * Parses a card value from a string.
-   *
-   * @param value string representation of card value
-   * @return integer value of card
-   * @throws IllegalArgumentException if value is invalid
-   */
-  protected int parseCardValue(String value) {
-    if (value.equals("A")) {
-      return 10;
-    }
-    try {
-      int numValue = Integer.parseInt(value);
-      if (numValue < 1 || numValue > 10) {
-        throw new IllegalArgumentException("Card values must be between 1 and 10");
-      }
-      return numValue;
-    } catch (NumberFormatException e) {
-      throw new IllegalArgumentException("Invalid card value: " + value);
-    }
+    return ConfigLoader.loadCards(cardsConfig);
   }
 
   @Override
@@ -150,7 +117,7 @@ public abstract class AbstractThreeTriosGame implements ThreeTriosModel {
       throw new IllegalArgumentException("Number of cards must be even");
     }
 
-    this.board = new GameBoard(grid);
+    this.board = boardFactory.apply(grid);
     this.battleHandler = new GameBattleHandler(this.board);
     this.gameState = GameState.INITIALIZATION;
     this.currentPlayer = PlayerColor.RED;
@@ -170,44 +137,88 @@ public abstract class AbstractThreeTriosGame implements ThreeTriosModel {
     }
 
     List<Card> shuffledCards = new ArrayList<>(cards);
-    Collections.shuffle(shuffledCards);
+    Collections.shuffle(shuffledCards, shuffleRandom);
     int cardsPerPlayer = cards.size() / 2;
 
     Player redPlayer = players.get(PlayerColor.RED);
     Player bluePlayer = players.get(PlayerColor.BLUE);
+    handHash = 0;
 
     // Distribute first half to Red player
     for (int i = 0; i < cardsPerPlayer; i++) {
       Card card = shuffledCards.get(i);
-      card.setOwner(redPlayer);
       redPlayer.addCardToHand(card);
+      handHash ^= Zobrist.handKey(Zobrist.cardKey(card), PlayerColor.RED);
     }
 
     // Distribute second half to Blue player
     for (int i = cardsPerPlayer; i < shuffledCards.size(); i++) {
       Card card = shuffledCards.get(i);
-      card.setOwner(bluePlayer);
       bluePlayer.addCardToHand(card);
+      handHash ^= Zobrist.handKey(Zobrist.cardKey(card), PlayerColor.BLUE);
     }
   }
 
+  @Override
+  public void addModelListener(ModelListener listener) {
+    if (listener == null) {
+      throw new IllegalArgumentException("Listener cannot be null");
+    }
+    listeners.add(listener);
+  }
+
+  @Override
+  public void removeModelListener(ModelListener listener) {
+    if (listener == null) {
+      throw new IllegalArgumentException("Listener cannot be null");
+    }
+    listeners.remove(listener);
+  }
+
   /**
-   * Handles the end of the game.
+   * Resolves the battles of a card just played, telling listeners about the placement and
+   * then about every flip of the battle and its combo chain as one batch.
    *
    * @param position position of the last card played
    */
   protected void handleBattles(Coordinate position) {
+    Card played = board.getCardAt(position);
+    PlayerColor mover = board.getOwnerAt(position);
+    for (ModelListener listener : listeners) {
+      listener.cardPlaced(played, position, mover);
+    }
+
     gameState = GameState.BATTLE_PHASE;
-    List<Coordinate> flippedCards = battleHandler.runBattle(position);
+    int flippedCards = battleHandler.resolveBattles(position);
 
-    if (!flippedCards.isEmpty()) {
+    if (flippedCards > 0) {
       gameState = GameState.COMBO_PHASE;
-      while (!flippedCards.isEmpty()) {
-        flippedCards = battleHandler.runComboStep(flippedCards);
+      List<Coordinate> flipped = Collections.unmodifiableList(battleHandler.getLastFlips());
+      for (ModelListener listener : listeners) {
+        listener.cardsFlipped(flipped, mover);
       }
     }
   }
 
+  /**
+   * Tells listeners that the current player is to move.
+   */
+  protected void fireTurnChanged() {
+    for (ModelListener listener : listeners) {
+      listener.turnChanged(currentPlayer);
+    }
+  }
+
+  /**
+   * Tells listeners that the game is over.
+   */
+  protected void fireGameOver() {
+    PlayerColor winner = getWinner();
+    for (ModelListener listener : listeners) {
+      listener.gameOver(winner);
+    }
+  }
+
   @Override
   public Board getBoard() {
     return board;
@@ -235,18 +246,12 @@ public abstract class AbstractThreeTriosGame implements ThreeTriosModel {
       return 0;
     }
 
-    Board tempBoard = board.copy();
-    BattleHandler tempBattleHandler = new GameBattleHandler(tempBoard);
-
-    tempBoard.placeCard(card, position);
-    List<Coordinate> flippedCards = tempBattleHandler.runBattle(position);
-    int totalFlips = flippedCards.size();
-
-    while (!flippedCards.isEmpty()) {
-      flippedCards = tempBattleHandler.runComboStep(flippedCards);
-      totalFlips += flippedCards.size();
-    }
-
+    // A card from the opponent's hand attacks for the opponent, any other for the mover
+    PlayerColor owner = players.get(currentPlayer.getOpponentColor()).getHand().contains(card)
+            ? currentPlayer.getOpponentColor() : currentPlayer;
+    // Simulate in place and roll back, rather than copying the board per candidate
+    int totalFlips = battleHandler.applyMove(card, position, owner);
+    battleHandler.undoMove();
     return totalFlips;
   }
 
@@ -280,6 +285,23 @@ public abstract class AbstractThreeTriosGame implements ThreeTriosModel {
     }
   }
 
+  @Override
+  public long getPositionHash() {
+    long hash = board.getHash() ^ handHash;
+    return currentPlayer == PlayerColor.BLUE ? hash ^ Zobrist.SIDE_KEY : hash;
+  }
+
+  /**
+   * Removes a card from the current player's hand, keeping the position hash up to date.
+   *
+   * @param card the card to remove
+   * @throws IllegalArgumentException if the card is not in the current player's hand
+   */
+  protected void removeFromCurrentHand(Card card) {
+    getCurrentPlayer().removeCardFromHand(card);
+    handHash ^= Zobrist.handKey(Zobrist.cardKey(card), currentPlayer);
+  }
+
   protected Player getCurrentPlayer() {
     return players.get(currentPlayer);
   }
@@ -21,6 +21,7 @@ public class BasicThreeTriosGame extends AbstractThreeTriosGame {
     }
     currentPlayer = PlayerColor.RED;
     gameState = GameState.WAITING_FOR_MOVE;
+    fireTurnChanged();
   }
 
   @Override
@@ -41,16 +42,18 @@ public class BasicThreeTriosGame extends AbstractThreeTriosGame {
       throw new IllegalStateException("Cannot place card at position");
     }
 
-    board.placeCard(card, position);
-    getCurrentPlayer().removeCardFromHand(card);
+    board.placeCard(card, position, currentPlayer);
+    removeFromCurrentHand(card);
 
     handleBattles(position);
 
     if (board.isFull()) {
       gameState = GameState.GAME_OVER;
+      fireGameOver();
     } else {
       currentPlayer = currentPlayer.getOpponentColor();
       gameState = GameState.WAITING_FOR_MOVE;
+      fireTurnChanged();
     }
   }
 }
\ No newline at end of file
@@ -24,6 +24,25 @@ public interface BattleHandler {
    */
   List<Coordinate> runComboStep(List<Coordinate> newlyFlippedPositions);
 
+  /**
+   * Processes the battle phase for a newly placed card followed by every combo step,
+   * until no further cards flip.
+   *
+   * @param playedPosition position of newly played card
+   * @return total number of cards flipped
+   * @throws IllegalArgumentException if position is null or invalid
+   * @throws IllegalStateException if there is no card at the position
+   */
+  int resolveBattles(Coordinate playedPosition);
+
+  /**
+   * Gets the positions flipped by the most recent resolveBattles or applyMove, in the order
+   * they flipped: the battle first, then each combo round.
+   *
+   * @return positions of the flipped cards
+   */
+  List<Coordinate> getLastFlips();
+
   /**
    * Determines if cards should flip in battle.
    *
@@ -35,4 +54,26 @@ public interface BattleHandler {
    */
   boolean shouldFlip(Card attackingCard, Card defendingCard, Coordinate attackPos,
                      Coordinate defendPos);
+
+  /**
+   * Places a card and resolves its battle phase and every combo step, journaling each
+   * change so the whole move can be reverted with undoMove. Moves may be nested; each
+   * undoMove reverts the most recent move that is still applied.
+   *
+   * @param card card to place
+   * @param position position to place the card at
+   * @param owner the attacking player, who owns the placed card
+   * @return total number of cards flipped by the move
+   * @throws IllegalArgumentException if any argument is null or position is invalid
+   * @throws IllegalStateException if the card cannot be placed at position
+   */
+  int applyMove(Card card, Coordinate position, PlayerColor owner);
+
+  /**
+   * Reverts the most recent move made with applyMove: restores the previous owner of
+   * every flipped card and takes the placed card back off the board.
+   *
+   * @throws IllegalStateException if there is no applied move to undo
+   */
+  void undoMove();
 }
\ No newline at end of file
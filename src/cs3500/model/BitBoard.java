@@ -0,0 +1,473 @@
+package cs3500.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Board implementation that stores holes, occupancy and ownership as bitsets.
+ * Each cell is addressed by its row-major index (row * columns + col), and cards are held
+ * in a flat array under the same index, so lookups never hash or walk cell objects.
+ * The grid returned by {@link #getGrid()} is a live view over the same bitsets.
+ */
+public class BitBoard implements Board {
+  private final int rows;
+  private final int cols;
+  private final long[] holes;
+  private final long[] occupied;
+  private final long[] redOwned;
+  private final long[] blueOwned;
+  private final Card[] cards;
+  // Canonical coordinate of every cell, shared with copies of the board
+  private final Coordinate[] coordinates;
+  private final Grid gridView;
+  private NeighborTable neighborTable;
+  private int cardCellCount;
+  private int placedCount;
+  private int redCount;
+  private int blueCount;
+  private long hash;
+
+  /**
+   * Constructor for the BitBoard class.
+   * Copies the dimensions and cell states of the given grid.
+   *
+   * @param grid the grid layout to use
+   * @throws IllegalArgumentException if grid is null
+   */
+  public BitBoard(Grid grid) {
+    if (grid == null) {
+      throw new IllegalArgumentException("Grid cannot be null");
+    }
+
+    this.rows = grid.getTotalRows();
+    this.cols = grid.getTotalColumns();
+    int words = (rows * cols + 63) >>> 6;
+    this.holes = new long[words];
+    this.occupied = new long[words];
+    this.redOwned = new long[words];
+    this.blueOwned = new long[words];
+    this.cards = new Card[rows * cols];
+    this.coordinates = new Coordinate[rows * cols];
+    this.cardCellCount = grid.getCardCellCount();
+    this.gridView = new BitGrid();
+
+    for (int row = 0; row < rows; row++) {
+      for (int col = 0; col < cols; col++) {
+        int index = row * cols + col;
+        coordinates[index] = grid.getCoordinate(row, col);
+        CellState state = grid.getCellState(coordinates[index]);
+        if (state == CellState.HOLE) {
+          setBit(holes, index);
+        } else if (state == CellState.OCCUPIED) {
+          setBit(occupied, index);
+        }
+      }
+    }
+  }
+
+  /**
+   * Copy constructor used by {@link #copy()}.
+   *
+   * @param other the board to copy
+   */
+  private BitBoard(BitBoard other) {
+    this.rows = other.rows;
+    this.cols = other.cols;
+    this.holes = other.holes.clone();
+    this.occupied = other.occupied.clone();
+    this.redOwned = other.redOwned.clone();
+    this.blueOwned = other.blueOwned.clone();
+    this.cards = other.cards.clone();
+    this.coordinates = other.coordinates;
+    this.cardCellCount = other.cardCellCount;
+    this.placedCount = other.placedCount;
+    this.neighborTable = other.neighborTable;
+    this.redCount = other.redCount;
+    this.blueCount = other.blueCount;
+    this.hash = other.hash;
+    this.gridView = new BitGrid();
+  }
+
+  @Override
+  public Grid getGrid() {
+    return this.gridView;
+  }
+
+  @Override
+  public boolean canPlaceCard(Coordinate position) {
+    int index = indexOf(position);
+    return !testBit(holes, index) && !testBit(occupied, index);
+  }
+
+  @Override
+  public void placeCard(Card card, Coordinate position, PlayerColor owner) {
+    if (card == null || position == null || owner == null) {
+      throw new IllegalArgumentException("Card, position and owner cannot be null");
+    }
+    int index = indexOf(position);
+    if (testBit(holes, index)) {
+      throw new IllegalStateException("Cannot place card in hole");
+    }
+    if (testBit(occupied, index)) {
+      throw new IllegalStateException("Position already occupied");
+    }
+
+    cards[index] = card;
+    setBit(occupied, index);
+    setOwnerBits(index, owner);
+    placedCount++;
+    hash ^= Zobrist.boardKey(index, card, owner);
+  }
+
+  @Override
+  public void removeCard(Coordinate position) {
+    int index = indexOf(position);
+    if (cards[index] == null) {
+      throw new IllegalStateException("Position has no card");
+    }
+
+    hash ^= Zobrist.boardKey(index, cards[index], ownerOf(index));
+    cards[index] = null;
+    clearBit(occupied, index);
+    setOwnerBits(index, null);
+    placedCount--;
+  }
+
+  @Override
+  public Card getCardAt(Coordinate position) {
+    int index = indexOf(position);
+    if (testBit(holes, index)) {
+      throw new IllegalStateException("Cannot get card from hole");
+    }
+    return cards[index];
+  }
+
+  @Override
+  public PlayerColor getOwnerAt(Coordinate position) {
+    return ownerOf(indexOf(position));
+  }
+
+  private PlayerColor ownerOf(int index) {
+    if (testBit(redOwned, index)) {
+      return PlayerColor.RED;
+    }
+    return testBit(blueOwned, index) ? PlayerColor.BLUE : null;
+  }
+
+  @Override
+  public List<Card> getAdjacentCards(Coordinate position) {
+    int index = indexOf(position);
+    int row = index / cols;
+    int col = index % cols;
+
+    // Return cards in order: North, South, East, West
+    // Add null for positions without cards
+    List<Card> adjacentCards = new ArrayList<>(4);
+    adjacentCards.add(row > 0 ? cards[index - cols] : null);
+    adjacentCards.add(row < rows - 1 ? cards[index + cols] : null);
+    adjacentCards.add(col < cols - 1 ? cards[index + 1] : null);
+    adjacentCards.add(col > 0 ? cards[index - 1] : null);
+    return adjacentCards;
+  }
+
+  @Override
+  public List<Card> getAdjacentOpponentCards(Coordinate position, PlayerColor currentPlayerColor) {
+    int index = indexOf(position);
+    int row = index / cols;
+    int col = index % cols;
+    long[] opponentOwned = currentPlayerColor == PlayerColor.RED ? blueOwned : redOwned;
+    // Same order as getAdjacentCards: North, South, East, West
+    int[] neighbors = {
+      row > 0 ? index - cols : -1,
+      row < rows - 1 ? index + cols : -1,
+      col < cols - 1 ? index + 1 : -1,
+      col > 0 ? index - 1 : -1
+    };
+    List<Card> opponentCards = new ArrayList<>(4);
+    for (int adj : neighbors) {
+      opponentCards.add(adj >= 0 && testBit(opponentOwned, adj) ? cards[adj] : null);
+    }
+    return opponentCards;
+  }
+
+  @Override
+  public void flipCard(Coordinate position, PlayerColor newOwner) {
+    if (newOwner == null) {
+      throw new IllegalArgumentException("New owner cannot be null");
+    }
+    int index = indexOf(position);
+    if (!testBit(occupied, index)) {
+      throw new IllegalStateException("Position has no card");
+    }
+
+    Card card = cards[index];
+    if (card == null) {
+      throw new IllegalStateException("Card cannot be found at position");
+    }
+    PlayerColor oldOwner = ownerOf(index);
+    if (newOwner == oldOwner) {
+      throw new IllegalStateException("Cannot flip card to same owner");
+    }
+
+    hash ^= Zobrist.boardKey(index, card, oldOwner);
+    setOwnerBits(index, newOwner);
+    hash ^= Zobrist.boardKey(index, card, newOwner);
+  }
+
+  @Override
+  public boolean isFull() {
+    return placedCount == cardCellCount;
+  }
+
+  @Override
+  public int getCardCount(PlayerColor player) {
+    if (player == null) {
+      throw new IllegalArgumentException("Player cannot be null");
+    }
+    assert redCount == bitCount(redOwned) && blueCount == bitCount(blueOwned)
+            : "Card counts out of sync with ownership bits";
+    return player == PlayerColor.RED ? redCount : blueCount;
+  }
+
+  private static int bitCount(long[] bits) {
+    int count = 0;
+    for (long word : bits) {
+      count += Long.bitCount(word);
+    }
+    return count;
+  }
+
+  @Override
+  public List<Coordinate> getEmptyCardCells() {
+    List<Coordinate> emptyCells = new ArrayList<>();
+    int cellCount = rows * cols;
+    for (int word = 0; word < holes.length; word++) {
+      long free = ~(holes[word] | occupied[word]);
+      while (free != 0) {
+        int index = (word << 6) + Long.numberOfTrailingZeros(free);
+        if (index >= cellCount) {
+          break;
+        }
+        emptyCells.add(coordinates[index]);
+        free &= free - 1;
+      }
+    }
+    return emptyCells;
+  }
+
+  @Override
+  public Map<Coordinate, Card> getAllCards() {
+    Map<Coordinate, Card> allCards = new HashMap<>();
+    for (int index = 0; index < cards.length; index++) {
+      if (cards[index] != null) {
+        allCards.put(coordinates[index], cards[index]);
+      }
+    }
+    return allCards;
+  }
+
+  @Override
+  public boolean isCardWinningBattle(Card attacker, Card defender, Direction direction) {
+    if (attacker == null || defender == null || direction == null) {
+      throw new IllegalArgumentException("Arguments cannot be null");
+    }
+    return attacker.getValue(direction) > defender.getValue(direction.getOpposite());
+  }
+
+  @Override
+  public void clear() {
+    Arrays.fill(cards, null);
+    Arrays.fill(occupied, 0L);
+    Arrays.fill(redOwned, 0L);
+    Arrays.fill(blueOwned, 0L);
+    placedCount = 0;
+    redCount = 0;
+    blueCount = 0;
+    hash = 0;
+  }
+
+  @Override
+  public Board copy() {
+    return new BitBoard(this);
+  }
+
+  @Override
+  public long getHash() {
+    return hash;
+  }
+
+  /**
+   * Converts a coordinate into its row-major cell index.
+   *
+   * @param position the position to convert
+   * @return the cell index
+   * @throws IllegalArgumentException if position is null or out of bounds
+   */
+  private int indexOf(Coordinate position) {
+    if (position == null) {
+      throw new IllegalArgumentException("Position cannot be null");
+    }
+    if (!gridView.isValidPosition(position)) {
+      throw new IllegalArgumentException("Invalid position");
+    }
+    return position.getRow() * cols + position.getCol();
+  }
+
+  /**
+   * Records the owner of a cell in the ownership bits and keeps the per-player counts in
+   * step with them. A null owner marks the cell as owned by nobody.
+   */
+  private void setOwnerBits(int index, PlayerColor owner) {
+    if (testBit(redOwned, index)) {
+      clearBit(redOwned, index);
+      redCount--;
+    } else if (testBit(blueOwned, index)) {
+      clearBit(blueOwned, index);
+      blueCount--;
+    }
+    if (owner != null) {
+      if (owner == PlayerColor.RED) {
+        setBit(redOwned, index);
+        redCount++;
+      } else {
+        setBit(blueOwned, index);
+        blueCount++;
+      }
+    }
+  }
+
+  private static boolean testBit(long[] bits, int index) {
+    return (bits[index >>> 6] & (1L << index)) != 0;
+  }
+
+  private static void setBit(long[] bits, int index) {
+    bits[index >>> 6] |= 1L << index;
+  }
+
+  private static void clearBit(long[] bits, int index) {
+    bits[index >>> 6] &= ~(1L << index);
+  }
+
+  /**
+   * Grid view backed by the board's bitsets.
+   * Follows the same state transition rules as GameGrid and GameCell.
+   */
+  private class BitGrid implements Grid {
+    @Override
+    public int getTotalRows() {
+      return rows;
+    }
+
+    @Override
+    public int getTotalColumns() {
+      return cols;
+    }
+
+    @Override
+    public Coordinate getCoordinate(int row, int col) {
+      if (row < 0 || row >= rows || col < 0 || col >= cols) {
+        throw new IllegalArgumentException("Invalid position");
+      }
+      return coordinates[row * cols + col];
+    }
+
+    @Override
+    public CellState getCellState(Coordinate position) {
+      int index = indexOf(position);
+      if (testBit(holes, index)) {
+        return CellState.HOLE;
+      }
+      return testBit(occupied, index) ? CellState.OCCUPIED : CellState.AVAILABLE;
+    }
+
+    @Override
+    public void setCellState(Coordinate position, CellState state) {
+      if (state == null) {
+        throw new IllegalArgumentException("State cannot be null");
+      }
+      CellState currentState = getCellState(position);
+      if (currentState == state) {
+        return;
+      }
+      if (currentState == CellState.OCCUPIED) {
+        throw new IllegalStateException("Cannot change state of occupied cell");
+      }
+      if (currentState == CellState.HOLE) {
+        throw new IllegalStateException("Cannot change state of hole cell");
+      }
+
+      int index = indexOf(position);
+      if (state == CellState.HOLE) {
+        cardCellCount--;
+        setBit(holes, index);
+        neighborTable = null;
+      } else {
+        setBit(occupied, index);
+      }
+    }
+
+    @Override
+    public void vacateCell(Coordinate position) {
+      int index = indexOf(position);
+      if (!testBit(occupied, index)) {
+        throw new IllegalStateException("Cell is not occupied");
+      }
+      if (cards[index] != null) {
+        removeCard(position);
+      } else {
+        clearBit(occupied, index);
+      }
+    }
+
+    @Override
+    public boolean isValidPosition(Coordinate position) {
+      return position.getRow() >= 0 && position.getRow() < rows
+          && position.getCol() >= 0 && position.getCol() < cols;
+    }
+
+    @Override
+    public List<Coordinate> getAdjacentPositions(Coordinate position) {
+      int index = indexOf(position);
+      int row = index / cols;
+      int col = index % cols;
+
+      List<Coordinate> adjacents = new ArrayList<>(4);
+      if (row > 0) {
+        adjacents.add(coordinates[index - cols]);
+      }
+      if (row < rows - 1) {
+        adjacents.add(coordinates[index + cols]);
+      }
+      if (col > 0) {
+        adjacents.add(coordinates[index - 1]);
+      }
+      if (col < cols - 1) {
+        adjacents.add(coordinates[index + 1]);
+      }
+      return adjacents;
+    }
+
+    @Override
+    public NeighborTable getNeighborTable() {
+      NeighborTable table = neighborTable;
+      if (table == null) {
+        table = NeighborTable.of(this);
+        neighborTable = table;
+      }
+      return table;
+    }
+
+    @Override
+    public int getCardCellCount() {
+      return cardCellCount;
+    }
+
+    @Override
+    public Grid copy() {
+      return BitBoard.this.copy().getGrid();
+    }
+  }
+}
@@ -6,6 +6,9 @@ import java.util.Map;
 /**
  * Manages the game board state and card interactions.
  * Delegates structural concerns to the model.Grid interface.
+ *
+ * <p>The board records the owner of every card on it. Cards themselves are immutable and
+ * may be shared with other boards and games.
  */
 public interface Board {
   /**
@@ -29,10 +32,20 @@ public interface Board {
    *
    * @param card card to place
    * @param position position to place card
-   * @throws IllegalArgumentException if card or position is null or if position is invalid
+   * @param owner the player the card belongs to
+   * @throws IllegalArgumentException if any argument is null or if position is invalid
    * @throws IllegalStateException if position is OCCUPIED or a HOLE
    */
-  void placeCard(Card card, Coordinate position);
+  void placeCard(Card card, Coordinate position, PlayerColor owner);
+
+  /**
+   * Takes back the card at the specified position, undoing placeCard.
+   *
+   * @param position position of the card to remove
+   * @throws IllegalArgumentException if position is null or invalid
+   * @throws IllegalStateException if position has no card
+   */
+  void removeCard(Coordinate position);
 
   /**
    * Gets the card at the specified position.
@@ -44,6 +57,15 @@ public interface Board {
    */
   Card getCardAt(Coordinate position);
 
+  /**
+   * Gets the owner of the card at the specified position.
+   *
+   * @param position position to check
+   * @return owner of the card at position, or null if there is no card
+   * @throws IllegalArgumentException if position is null or invalid
+   */
+  PlayerColor getOwnerAt(Coordinate position);
+
   /**
    * Gets all cards adjacent to the specified position.
    *
@@ -68,10 +90,10 @@ public interface Board {
    *
    * @param position position of card to flip
    * @param newOwner new owner's color
-   * @throws IllegalArgumentException if position is null or invalid
-   * @throws IllegalStateException if position has no card
+   * @throws IllegalArgumentException if position or newOwner is null, or position is invalid
+   * @throws IllegalStateException if position has no card or newOwner already owns it
    */
-  void flipCard(Coordinate position, Player newOwner);
+  void flipCard(Coordinate position, PlayerColor newOwner);
 
   /**
    * Checks if board has no empty card cells.
@@ -82,9 +104,12 @@ public interface Board {
 
   /**
    * Gets total number of cards owned by specified player.
+   * Boards keep running counts as cards are placed, removed and flipped, so this is a
+   * constant-time read rather than a scan of the board.
    *
    * @param player player color to count cards for
    * @return number of cards owned by player
+   * @throws IllegalArgumentException if player is null
    */
   int getCardCount(PlayerColor player);
 
@@ -118,9 +143,19 @@ public interface Board {
   void clear();
 
   /**
-   * Creates a deep copy of the current board state.
+   * Creates a copy of the current board state. The copy shares the immutable cards but
+   * keeps its own owners, so changes to either board do not affect the other.
    *
    * @return copy of the board
    */
   Board copy();
-}
\ No newline at end of file
+
+  /**
+   * Gets the Zobrist hash of the cards on the board and their owners, as defined by
+   * {@link Zobrist}. Boards update it as cards are placed, removed and flipped, so reading
+   * it is constant time.
+   *
+   * @return the board's hash
+   */
+  long getHash();
+}
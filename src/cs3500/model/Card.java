@@ -1,10 +1,13 @@
 package cs3500.model;
 
 import cs3500.model.Direction;
-import cs3500.model.Player;
 
 /**
- * Represents a single card in the game with four directional values and ownership.
+ * Represents a single card in the game with four directional values.
+ *
+ * <p>Cards are immutable definitions. Who owns a card is part of a game's state, kept by the
+ * board for cards in play and by the hand holding it otherwise, so one card may take part in
+ * any number of games at once.
  */
 public interface Card {
   /**
@@ -22,19 +25,4 @@ public interface Card {
    * @throws IllegalArgumentException if the direction is invalid
    */
   int getValue(Direction direction);
-
-  /**
-   * Gets the current owner of this card.
-   *
-   * @return current owner's color
-   */
-  Player getOwner();
-
-  /**
-   * Changes the ownership of this card.
-   *
-   * @param newOwner the new owner's color
-   * @throws IllegalArgumentException if newOwner is null
-   */
-  void setOwner(Player newOwner);
 }
\ No newline at end of file
@@ -37,6 +37,13 @@ interface Cell {
    */
   void setCard(Card card);
 
+  /**
+   * Removes the card from this cell, returning it to the available state.
+   *
+   * @throws IllegalStateException if the cell is not occupied
+   */
+  void removeCard();
+
   /**
    * Gets the coordinate of this cell.
    *
@@ -0,0 +1,332 @@
+package cs3500.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Thread-safe wrapper around a game that applies every change through a single-writer
+ * command queue and publishes an immutable {@link GameSnapshot} after each one.
+ *
+ * <p>Commands from any thread are queued per game and run one at a time, in submission order,
+ * on a shared executor, so the wrapped game is only ever touched by one thread at a time and
+ * needs no locks of its own. A game holds no thread while its queue is empty, which lets one
+ * small pool serve thousands of games. Reads never wait: every read method answers from the
+ * most recently published snapshot, which is safe to keep and read from any thread.
+ *
+ * <p>The ThreeTriosModel methods block until their command has run and rethrow its exception,
+ * so this class can replace the game it wraps; {@link #submit} and {@link #playCardAsync}
+ * return without waiting. The wrapped game must not be used directly once it is wrapped.
+ *
+ * <p>After a move, the next snapshot is derived from the previous one by replaying the moves
+ * the wrapped game reports, so consecutive snapshots share all cells the move did not touch.
+ * Initializing and starting, and commands given to {@link #submit}, take a full snapshot
+ * instead. A command that throws is taken to have left the game unchanged, so nothing new
+ * is published for it.
+ *
+ * <p>Model listeners are called on the writer after the snapshot reflecting their change is
+ * published, so they can read this game and see the change they are told about.
+ */
+public final class ConcurrentThreeTriosGame implements ThreeTriosModel {
+  // Commands run per turn on the executor before the game yields to other games
+  private static final int BATCH_SIZE = 32;
+
+  private final ThreeTriosModel game;
+  private final Executor executor;
+  private final Queue<Runnable> commands;
+  private final AtomicBoolean scheduled;
+  private volatile GameSnapshot published;
+  private volatile Thread writer;
+  private final List<ModelListener> listeners;
+  // Changes reported by the wrapped game during the current command; writer only
+  private final List<Consumer<ModelListener>> pending;
+  // Published snapshot with the current command's moves replayed on it, or null if the
+  // command is not a move or a move could not be replayed; writer only
+  private GameSnapshot derived;
+
+  /**
+   * Wraps a game, running its commands on the common fork-join pool.
+   *
+   * @param game the game to wrap, with its players set up
+   * @throws IllegalArgumentException if game is null
+   */
+  public ConcurrentThreeTriosGame(ThreeTriosModel game) {
+    this(game, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Wraps a game, running its commands on the given executor. Any number of games may
+   * share one executor.
+   *
+   * @param game the game to wrap, with its players set up
+   * @param executor runs the queued commands
+   * @throws IllegalArgumentException if game or executor is null
+   */
+  public ConcurrentThreeTriosGame(ThreeTriosModel game, Executor executor) {
+    if (game == null || executor == null) {
+      throw new IllegalArgumentException("Game and executor cannot be null");
+    }
+    this.game = game;
+    this.executor = executor;
+    this.commands = new ConcurrentLinkedQueue<>();
+    this.scheduled = new AtomicBoolean();
+    this.published = GameSnapshot.of(game);
+    this.listeners = new CopyOnWriteArrayList<>();
+    this.pending = new ArrayList<>();
+    game.addModelListener(new ModelListener() {
+      @Override
+      public void cardPlaced(Card card, Coordinate position, PlayerColor owner) {
+        if (derived != null) {
+          try {
+            derived = derived.play(card, position);
+          } catch (IllegalArgumentException | IllegalStateException e) {
+            // The snapshot disagrees with the game; take a full snapshot after the command
+            derived = null;
+          }
+        }
+        pending.add(listener -> listener.cardPlaced(card, position, owner));
+      }
+
+      @Override
+      public void cardsFlipped(List<Coordinate> positions, PlayerColor newOwner) {
+        pending.add(listener -> listener.cardsFlipped(positions, newOwner));
+      }
+
+      @Override
+      public void turnChanged(PlayerColor player) {
+        pending.add(listener -> listener.turnChanged(player));
+      }
+
+      @Override
+      public void gameOver(PlayerColor winner) {
+        pending.add(listener -> listener.gameOver(winner));
+      }
+    });
+  }
+
+  /**
+   * Gets the most recently published position. Snapshots never change, so the result can be
+   * read for as long as needed without seeing later moves.
+   *
+   * @return the current snapshot
+   */
+  public GameSnapshot snapshot() {
+    return published;
+  }
+
+  /**
+   * Queues a command against the wrapped game and returns without waiting for it.
+   *
+   * @param command the change to make; runs on the game's writer
+   * @return completes with the snapshot published after the command, or exceptionally with
+   *     the exception it threw
+   * @throws IllegalArgumentException if command is null
+   */
+  public CompletableFuture<GameSnapshot> submit(Consumer<? super ThreeTriosModel> command) {
+    if (command == null) {
+      throw new IllegalArgumentException("Command cannot be null");
+    }
+    return enqueue(command, false);
+  }
+
+  /**
+   * Queues a move and returns without waiting for it.
+   *
+   * @param card card to play from the current player's hand
+   * @param position position to play card at
+   * @return completes with the snapshot after the move, or exceptionally as playCard would
+   *     throw
+   * @throws IllegalArgumentException if card or position is null
+   */
+  public CompletableFuture<GameSnapshot> playCardAsync(Card card, Coordinate position) {
+    if (card == null || position == null) {
+      throw new IllegalArgumentException("Card and position cannot be null");
+    }
+    return enqueue(model -> model.playCard(card, position), true);
+  }
+
+  private CompletableFuture<GameSnapshot> enqueue(Consumer<? super ThreeTriosModel> command,
+                                                  boolean move) {
+    CompletableFuture<GameSnapshot> result = new CompletableFuture<>();
+    commands.add(() -> apply(command, move, result));
+    schedule();
+    return result;
+  }
+
+  /**
+   * Runs a command on the writer and publishes the position after it.
+   *
+   * @param move whether the command only plays cards, so its snapshot can be derived from
+   *     the published one
+   */
+  private void apply(Consumer<? super ThreeTriosModel> command, boolean move,
+                     CompletableFuture<GameSnapshot> result) {
+    derived = move ? published : null;
+    RuntimeException failure = null;
+    try {
+      command.accept(game);
+    } catch (RuntimeException e) {
+      failure = e;
+    }
+    GameSnapshot snapshot = published;
+    if (failure == null) {
+      snapshot = derived != null && derived.getPositionHash() == game.getPositionHash()
+              && derived.getGameState() == game.getGameState()
+              ? derived : GameSnapshot.of(game);
+      // Publish before completing, so a caller sees its own change on return
+      published = snapshot;
+    }
+    derived = null;
+    // Take the events first; a listener may run a nested command on this writer
+    List<Consumer<ModelListener>> events = new ArrayList<>(pending);
+    pending.clear();
+    try {
+      for (Consumer<ModelListener> event : events) {
+        for (ModelListener listener : listeners) {
+          event.accept(listener);
+        }
+      }
+    } finally {
+      if (failure == null) {
+        result.complete(snapshot);
+      } else {
+        result.completeExceptionally(failure);
+      }
+    }
+  }
+
+  private void schedule() {
+    if (scheduled.compareAndSet(false, true)) {
+      try {
+        executor.execute(this::drain);
+      } catch (RejectedExecutionException e) {
+        scheduled.set(false);
+        throw e;
+      }
+    }
+  }
+
+  private void drain() {
+    writer = Thread.currentThread();
+    try {
+      for (int i = 0; i < BATCH_SIZE; i++) {
+        Runnable command = commands.poll();
+        if (command == null) {
+          break;
+        }
+        command.run();
+      }
+    } finally {
+      writer = null;
+      scheduled.set(false);
+      // Commands queued after the last poll found the flag still set; pick them up
+      if (!commands.isEmpty()) {
+        schedule();
+      }
+    }
+  }
+
+  private void await(Consumer<? super ThreeTriosModel> command, boolean move) {
+    CompletableFuture<GameSnapshot> result;
+    if (writer == Thread.currentThread()) {
+      // Called from a command of this game; queueing behind ourselves would never finish
+      result = new CompletableFuture<>();
+      apply(command, move, result);
+    } else {
+      result = enqueue(command, move);
+    }
+    try {
+      result.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  @Override
+  public void initializeGameFromFiles(String gridConfig, String cardsConfig) {
+    await(model -> model.initializeGameFromFiles(gridConfig, cardsConfig), false);
+  }
+
+  @Override
+  public void initializeGame(Grid grid, List<Card> cards) {
+    await(model -> model.initializeGame(grid, cards), false);
+  }
+
+  @Override
+  public void startGame() {
+    await(ThreeTriosModel::startGame, false);
+  }
+
+  @Override
+  public void playCard(Card card, Coordinate position) {
+    await(model -> model.playCard(card, position), true);
+  }
+
+  @Override
+  public void addModelListener(ModelListener listener) {
+    if (listener == null) {
+      throw new IllegalArgumentException("Listener cannot be null");
+    }
+    listeners.add(listener);
+  }
+
+  @Override
+  public void removeModelListener(ModelListener listener) {
+    if (listener == null) {
+      throw new IllegalArgumentException("Listener cannot be null");
+    }
+    listeners.remove(listener);
+  }
+
+  @Override
+  public Board getBoard() {
+    return published.getBoard();
+  }
+
+  @Override
+  public List<Card> getPlayerHand(PlayerColor player) {
+    return published.getPlayerHand(player);
+  }
+
+  @Override
+  public PlayerColor getCurrentPlayerColor() {
+    return published.getCurrentPlayerColor();
+  }
+
+  @Override
+  public int getPotentialFlips(Card card, Coordinate position) {
+    return published.getPotentialFlips(card, position);
+  }
+
+  @Override
+  public GameState getGameState() {
+    return published.getGameState();
+  }
+
+  @Override
+  public int getScore(PlayerColor player) {
+    return published.getScore(player);
+  }
+
+  @Override
+  public PlayerColor getWinner() {
+    return published.getWinner();
+  }
+
+  @Override
+  public long getPositionHash() {
+    return published.getPositionHash();
+  }
+}
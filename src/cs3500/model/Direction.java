@@ -29,4 +29,29 @@ public enum Direction {
         throw new IllegalStateException("Unknown direction: " + this);
     }
   }
+
+  /**
+   * Gets the direction a card at the source coordinate attacks in to reach the target.
+   *
+   * @param source the source coordinate
+   * @param target the target coordinate, adjacent to the source
+   * @return the direction from source to target
+   * @throws IllegalArgumentException if the coordinates are not adjacent
+   */
+  public static Direction between(Coordinate source, Coordinate target) {
+    int rowDiff = target.getRow() - source.getRow();
+    int colDiff = target.getCol() - source.getCol();
+
+    if (rowDiff < 0) {
+      return NORTH;  // Target is above source, attack north
+    } else if (rowDiff > 0) {
+      return SOUTH;  // Target is below source, attack south
+    } else if (colDiff < 0) {
+      return WEST;   // Target is left of source, attack west
+    } else if (colDiff > 0) {
+      return EAST;   // Target is right of source, attack east
+    }
+
+    throw new IllegalArgumentException("Coordinates must be adjacent");
+  }
 }
\ No newline at end of file
@@ -0,0 +1,143 @@
+package cs3500.model;
+
+/**
+ * Ordered set of the free card cells of a board, kept as a doubly linked list in arrays.
+ *
+ * <p>Cells are addressed by row-major index and linked in increasing order, so walking the
+ * list from {@link #first} visits the free cells in row-major order without touching holes
+ * or occupied cells. Removing a cell unlinks it in constant time but leaves its own links in
+ * place, in the manner of dancing links: putting cells back in the reverse order they were
+ * taken, as undoing moves does, relinks each of them in constant time too. A cell put back
+ * out of that order searches backwards for its predecessor instead.
+ */
+final class FreeCellIndex {
+  private final int head;
+  private final int[] next;
+  private final int[] prev;
+  private final boolean[] free;
+  private int size;
+
+  /**
+   * Creates an index over the given number of cells, none of them free.
+   *
+   * @param cellCount number of cells in the grid
+   */
+  FreeCellIndex(int cellCount) {
+    this.head = cellCount;
+    this.next = new int[cellCount + 1];
+    this.prev = new int[cellCount + 1];
+    this.free = new boolean[cellCount];
+    next[head] = head;
+    prev[head] = head;
+  }
+
+  private FreeCellIndex(FreeCellIndex other) {
+    this.head = other.head;
+    this.next = other.next.clone();
+    this.prev = other.prev.clone();
+    this.free = other.free.clone();
+    this.size = other.size;
+  }
+
+  /**
+   * Builds the index of the cells of a grid that are available for a card.
+   *
+   * @param grid the grid to index
+   * @return an index of its available cells
+   */
+  static FreeCellIndex of(Grid grid) {
+    int rows = grid.getTotalRows();
+    int cols = grid.getTotalColumns();
+    FreeCellIndex index = new FreeCellIndex(rows * cols);
+    for (int row = 0; row < rows; row++) {
+      for (int col = 0; col < cols; col++) {
+        if (grid.getCellState(grid.getCoordinate(row, col)) == CellState.AVAILABLE) {
+          // Cells arrive in increasing order, so each one goes at the tail
+          index.link(row * cols + col, index.prev[index.head]);
+        }
+      }
+    }
+    return index;
+  }
+
+  boolean contains(int cell) {
+    return free[cell];
+  }
+
+  int size() {
+    return size;
+  }
+
+  /**
+   * Gets the first free cell in row-major order.
+   *
+   * @return the cell, or -1 if no cell is free
+   */
+  int first() {
+    return next[head] == head ? -1 : next[head];
+  }
+
+  /**
+   * Gets the free cell following a free cell in row-major order.
+   *
+   * @param cell a free cell
+   * @return the next free cell, or -1 if cell is the last one
+   */
+  int next(int cell) {
+    return next[cell] == head ? -1 : next[cell];
+  }
+
+  /**
+   * Takes a cell out of the set. Does nothing if it is not free.
+   *
+   * @param cell the cell to remove
+   */
+  void remove(int cell) {
+    if (!free[cell]) {
+      return;
+    }
+    next[prev[cell]] = next[cell];
+    prev[next[cell]] = prev[cell];
+    free[cell] = false;
+    size--;
+  }
+
+  /**
+   * Puts a cell back into the set. Does nothing if it is already free.
+   *
+   * @param cell the cell to add
+   */
+  void add(int cell) {
+    if (free[cell]) {
+      return;
+    }
+    int before = prev[cell];
+    // The links left by remove are still right if nothing changed between them since
+    boolean linksValid = (before == head || before < cell && free[before])
+            && next[before] == next[cell];
+    if (!linksValid) {
+      before = cell - 1;
+      while (before >= 0 && !free[before]) {
+        before--;
+      }
+      if (before < 0) {
+        before = head;
+      }
+    }
+    link(cell, before);
+  }
+
+  FreeCellIndex copy() {
+    return new FreeCellIndex(this);
+  }
+
+  private void link(int cell, int before) {
+    int after = next[before];
+    next[cell] = after;
+    prev[cell] = before;
+    next[before] = cell;
+    prev[after] = cell;
+    free[cell] = true;
+    size++;
+  }
+}
@@ -1,14 +1,36 @@
 package cs3500.model;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
  * Implements battle phase logic for the Three Trios game.
  * Handles both initial battles and combo chains.
+ *
+ * <p>Cells are addressed by row-major index. Neighbor indices and attack directions come
+ * from the grid's {@link NeighborTable}, and battles run on a reusable int work-queue, so
+ * resolving a move allocates nothing once the journal arrays have grown to their working
+ * size.
  */
 public class GameBattleHandler implements BattleHandler {
   private final Board board;
+  private final int cols;
+  private final Coordinate[] cellCoordinates;
+
+  // Work-queue of flipped cell indices; processing it in FIFO order is the same as
+  // resolving the combo chain one round at a time
+  private int[] flipQueue;
+  private int queueTail;
+
+  // Undo journal for applyMove: flipped cells with their previous owners,
+  // and per-move frames recording the placed cell and where its flips start
+  private int[] flippedJournal;
+  private PlayerColor[] ownerJournal;
+  private int journalSize;
+  private int[] placedJournal;
+  private int[] frameStarts;
+  private int frameCount;
 
   /**
    * Constructor for the GameBattleHandler.
@@ -21,6 +43,23 @@ public class GameBattleHandler implements BattleHandler {
       throw new IllegalArgumentException("Board cannot be null");
     }
     this.board = board;
+
+    Grid grid = board.getGrid();
+    int rows = grid.getTotalRows();
+    this.cols = grid.getTotalColumns();
+    int cellCount = rows * cols;
+    this.cellCoordinates = new Coordinate[cellCount];
+    for (int row = 0; row < rows; row++) {
+      for (int col = 0; col < cols; col++) {
+        cellCoordinates[row * cols + col] = grid.getCoordinate(row, col);
+      }
+    }
+
+    this.flipQueue = new int[cellCount];
+    this.flippedJournal = new int[cellCount];
+    this.ownerJournal = new PlayerColor[cellCount];
+    this.placedJournal = new int[cellCount];
+    this.frameStarts = new int[cellCount];
   }
 
   @Override
@@ -29,39 +68,16 @@ public class GameBattleHandler implements BattleHandler {
       throw new IllegalArgumentException("Invalid played position");
     }
 
-    List<Coordinate> flippedPositions = new ArrayList<>();
     Card playedCard = board.getCardAt(playedPosition);
 
     if (playedCard == null) {
       throw new IllegalStateException("No card at played position");
     }
 
-    List<Coordinate> adjacentPositions = board.getGrid().getAdjacentPositions(playedPosition);
-
-    // For each adjacent position, check if there's an opponent's card to battle
-    for (Coordinate adjPos : adjacentPositions) {
-      // Skip if position is invalid or has no card
-      if (!board.getGrid().isValidPosition(adjPos)
-              || board.getGrid().getCellState(adjPos) != CellState.OCCUPIED) {
-        continue;
-      }
-
-      Card adjacentCard = board.getCardAt(adjPos);
-      // Only battle opponent's cards
-      if (adjacentCard != null
-              && adjacentCard.getOwner().getColor() != playedCard.getOwner().getColor()) {
-        // Get direction from played card to adjacent card
-        Direction battleDir = ((GameBoard) board).getDirection(playedPosition, adjPos);
-
-        // The played card attacks in battleDir, the adjacent card defends with opposite direction
-        if (board.isCardWinningBattle(playedCard, adjacentCard, battleDir)) {
-          board.flipCard(adjPos, playedCard.getOwner());
-          flippedPositions.add(adjPos);
-        }
-      }
-    }
-
-    return flippedPositions;
+    queueTail = 0;
+    attackNeighbors(indexOf(playedPosition), playedCard, board.getOwnerAt(playedPosition),
+            false);
+    return queuedPositions();
   }
 
   @Override
@@ -70,39 +86,155 @@ public class GameBattleHandler implements BattleHandler {
       throw new IllegalArgumentException("Newly flipped positions cannot be null");
     }
 
-    List<Coordinate> additionalFlips = new ArrayList<>();
+    queueTail = 0;
 
     // Process each newly flipped card for potential combos
     for (Coordinate flippedPos : newlyFlippedPositions) {
       Card flippedCard = board.getCardAt(flippedPos);
-      if (flippedCard == null) {
-        continue;
+      if (flippedCard != null) {
+        attackNeighbors(indexOf(flippedPos), flippedCard, board.getOwnerAt(flippedPos), false);
       }
+    }
 
-      List<Card> adjacentCards = board.getAdjacentCards(flippedPos);
-      List<Coordinate> adjacentPositions = board.getGrid().getAdjacentPositions(flippedPos);
+    return queuedPositions();
+  }
 
-      // Check each adjacent position for potential flips
-      for (int i = 0; i < adjacentPositions.size(); i++) {
-        Coordinate adjPos = adjacentPositions.get(i);
-        if (!board.getGrid().isValidPosition(adjPos)
-                || board.getGrid().getCellState(adjPos) != CellState.OCCUPIED) {
-          continue;
-        }
+  @Override
+  public int resolveBattles(Coordinate playedPosition) {
+    if (playedPosition == null || !board.getGrid().isValidPosition(playedPosition)) {
+      throw new IllegalArgumentException("Invalid played position");
+    }
 
-        Card adjacentCard = board.getCardAt(adjPos);
-        if (adjacentCard != null
-                && adjacentCard.getOwner().getColor() != flippedCard.getOwner().getColor()) {
-          Direction direction = ((GameBoard) board).getDirection(flippedPos, adjPos);
-          if (board.isCardWinningBattle(flippedCard, adjacentCard, direction)) {
-            board.flipCard(adjPos, flippedCard.getOwner());
-            additionalFlips.add(adjPos);
-          }
+    Card playedCard = board.getCardAt(playedPosition);
+    if (playedCard == null) {
+      throw new IllegalStateException("No card at played position");
+    }
+    return resolveChain(indexOf(playedPosition), playedCard,
+            board.getOwnerAt(playedPosition), false);
+  }
+
+  @Override
+  public List<Coordinate> getLastFlips() {
+    return queuedPositions();
+  }
+
+  @Override
+  public int applyMove(Card card, Coordinate position, PlayerColor owner) {
+    if (card == null || position == null || owner == null) {
+      throw new IllegalArgumentException("Card, position and owner cannot be null");
+    }
+
+    board.placeCard(card, position, owner);
+    int index = indexOf(position);
+    if (frameCount == frameStarts.length) {
+      frameStarts = Arrays.copyOf(frameStarts, frameCount * 2);
+      placedJournal = Arrays.copyOf(placedJournal, frameCount * 2);
+    }
+    placedJournal[frameCount] = index;
+    frameStarts[frameCount] = journalSize;
+    frameCount++;
+
+    try {
+      return resolveChain(index, card, owner, true);
+    } catch (RuntimeException e) {
+      // Leave the board as it was before the failed move
+      undoMove();
+      throw e;
+    }
+  }
+
+  @Override
+  public void undoMove() {
+    if (frameCount == 0) {
+      throw new IllegalStateException("No move to undo");
+    }
+
+    frameCount--;
+    int frameStart = frameStarts[frameCount];
+    while (journalSize > frameStart) {
+      journalSize--;
+      board.flipCard(cellCoordinates[flippedJournal[journalSize]], ownerJournal[journalSize]);
+      ownerJournal[journalSize] = null;
+    }
+    board.removeCard(cellCoordinates[placedJournal[frameCount]]);
+  }
+
+  /**
+   * Runs the battle from the played cell and then every combo round until nothing flips.
+   *
+   * @param playedIndex cell index of the played card
+   * @param playedCard the played card
+   * @param mover owner of the played card, who every flip goes to
+   * @param journal whether to record previous owners for undoMove
+   * @return total number of cards flipped
+   */
+  private int resolveChain(int playedIndex, Card playedCard, PlayerColor mover,
+                           boolean journal) {
+    queueTail = 0;
+    attackNeighbors(playedIndex, playedCard, mover, journal);
+
+    for (int head = 0; head < queueTail; head++) {
+      int flippedIndex = flipQueue[head];
+      attackNeighbors(flippedIndex, board.getCardAt(cellCoordinates[flippedIndex]), mover,
+              journal);
+    }
+    return queueTail;
+  }
+
+  /**
+   * Battles every adjacent opponent card from the attacker's cell, flipping the losers
+   * and appending their indices to the work-queue.
+   *
+   * @param attackIndex cell index of the attacking card
+   * @param attacker the attacking card
+   * @param mover owner of the attacking card
+   * @param journal whether to record previous owners for undoMove
+   */
+  private void attackNeighbors(int attackIndex, Card attacker, PlayerColor mover,
+                               boolean journal) {
+    // Edges and holes are already left out of the table
+    NeighborTable table = board.getGrid().getNeighborTable();
+    for (int i = 0; i < table.getNeighborCount(attackIndex); i++) {
+      int adjIndex = table.getNeighbor(attackIndex, i);
+      Coordinate adjPos = cellCoordinates[adjIndex];
+      Card adjacentCard = board.getCardAt(adjPos);
+      PlayerColor previousOwner = board.getOwnerAt(adjPos);
+      // Only battle opponent's cards; the defender uses the opposite direction's value
+      if (adjacentCard != null && previousOwner != mover
+              && board.isCardWinningBattle(attacker, adjacentCard,
+                      table.getDirection(attackIndex, i))) {
+        board.flipCard(adjPos, mover);
+        if (journal) {
+          recordFlip(adjIndex, previousOwner);
+        }
+        if (queueTail == flipQueue.length) {
+          flipQueue = Arrays.copyOf(flipQueue, queueTail * 2);
         }
+        flipQueue[queueTail++] = adjIndex;
       }
     }
+  }
+
+  private void recordFlip(int index, PlayerColor previousOwner) {
+    if (journalSize == flippedJournal.length) {
+      flippedJournal = Arrays.copyOf(flippedJournal, journalSize * 2);
+      ownerJournal = Arrays.copyOf(ownerJournal, journalSize * 2);
+    }
+    flippedJournal[journalSize] = index;
+    ownerJournal[journalSize] = previousOwner;
+    journalSize++;
+  }
+
+  private List<Coordinate> queuedPositions() {
+    List<Coordinate> positions = new ArrayList<>(queueTail);
+    for (int i = 0; i < queueTail; i++) {
+      positions.add(cellCoordinates[flipQueue[i]]);
+    }
+    return positions;
+  }
 
-    return additionalFlips;
+  private int indexOf(Coordinate position) {
+    return position.getRow() * cols + position.getCol();
   }
 
   @Override
@@ -113,7 +245,7 @@ public class GameBattleHandler implements BattleHandler {
       throw new IllegalArgumentException("Arguments cannot be null");
     }
 
-    Direction direction = ((GameBoard) board).getDirection(attackPos, defendPos);
+    Direction direction = Direction.between(attackPos, defendPos);
     return board.isCardWinningBattle(attackingCard, defendingCard, direction);
   }
-}
\ No newline at end of file
+}
@@ -1,6 +1,8 @@
 package cs3500.model;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -15,6 +17,14 @@ import java.util.Map;
 public class GameBoard implements Board {
   private final Grid grid;
   private final Map<Coordinate, Card> cardPositions;
+  // Owner of the card on each cell by row-major index, null where there is no card
+  private final PlayerColor[] owners;
+  // Cards on the board per player, indexed by PlayerColor ordinal
+  private final int[] cardCounts;
+  private long hash;
+  // Free card cells in row-major order, rebuilt whenever the grid's holes change
+  private FreeCellIndex freeCells;
+  private NeighborTable freeCellsLayout;
 
   /**
    * Constructor for the GameBoard class.
@@ -28,6 +38,8 @@ public class GameBoard implements Board {
 
     this.grid = grid;
     this.cardPositions = new HashMap<>();
+    this.owners = new PlayerColor[grid.getTotalRows() * grid.getTotalColumns()];
+    this.cardCounts = new int[PlayerColor.values().length];
   }
 
   @Override
@@ -43,14 +55,13 @@ public class GameBoard implements Board {
     if (!grid.isValidPosition(position)) {
       throw new IllegalArgumentException("Invalid position");
     }
-    return grid.getCellState(position) == CellState.AVAILABLE
-            && !cardPositions.containsKey(position);
+    return freeCells().contains(cellOf(position));
   }
 
   @Override
-  public void placeCard(Card card, Coordinate position) {
-    if (card == null || position == null) {
-      throw new IllegalArgumentException("Card and position cannot be null");
+  public void placeCard(Card card, Coordinate position, PlayerColor owner) {
+    if (card == null || position == null || owner == null) {
+      throw new IllegalArgumentException("Card, position and owner cannot be null");
     }
     if (!grid.isValidPosition(position)) {
       throw new IllegalArgumentException("Invalid position");
@@ -63,8 +74,34 @@ public class GameBoard implements Board {
       throw new IllegalStateException("Position already occupied");
     }
 
-    cardPositions.put(position, card);
+    // Key by the grid's own coordinate so lookups mostly succeed on identity
+    cardPositions.put(grid.getCoordinate(position.getRow(), position.getCol()), card);
     grid.setCellState(position, CellState.OCCUPIED);
+    int cell = cellOf(position);
+    freeCells().remove(cell);
+    owners[cell] = owner;
+    cardCounts[owner.ordinal()]++;
+    hash ^= Zobrist.boardKey(cell, card, owner);
+  }
+
+  @Override
+  public void removeCard(Coordinate position) {
+    if (position == null) {
+      throw new IllegalArgumentException("Position cannot be null");
+    }
+    if (!grid.isValidPosition(position)) {
+      throw new IllegalArgumentException("Invalid position");
+    }
+    Card removed = cardPositions.remove(position);
+    if (removed == null) {
+      throw new IllegalStateException("Position has no card");
+    }
+    grid.vacateCell(position);
+    int cell = cellOf(position);
+    freeCells().add(cell);
+    cardCounts[owners[cell].ordinal()]--;
+    hash ^= Zobrist.boardKey(cell, removed, owners[cell]);
+    owners[cell] = null;
   }
 
   @Override
@@ -83,36 +120,39 @@ public class GameBoard implements Board {
   }
 
   @Override
-  public List<Card> getAdjacentCards(Coordinate position) {
+  public PlayerColor getOwnerAt(Coordinate position) {
     if (position == null) {
       throw new IllegalArgumentException("Position cannot be null");
     }
     if (!grid.isValidPosition(position)) {
       throw new IllegalArgumentException("Invalid position");
     }
+    return owners[cellOf(position)];
+  }
 
-    List<Card> adjacentCards = new ArrayList<>();
-    List<Coordinate> adjacentPositions = grid.getAdjacentPositions(position);
+  @Override
+  public List<Card> getAdjacentCards(Coordinate position) {
+    if (position == null) {
+      throw new IllegalArgumentException("Position cannot be null");
+    }
+    if (!grid.isValidPosition(position)) {
+      throw new IllegalArgumentException("Invalid position");
+    }
 
-    // Return cards in order: North, South, East, West
+    // Return cards in order: North, South, East, West, the Direction declaration order
     // Add null for positions without cards
-    Map<Direction, Card> directionMap = new HashMap<>();
-
-    for (Coordinate adjPos : adjacentPositions) {
-      Direction direction = getDirection(position, adjPos);
-      if (grid.getCellState(adjPos) == CellState.OCCUPIED) {
-        directionMap.put(direction, getCardAt(adjPos));
-      } else {
-        directionMap.put(direction, null);
-      }
+    NeighborTable table = grid.getNeighborTable();
+    Card[] byDirection = new Card[4];
+    int cell = table.indexOf(position);
+    for (int i = 0; i < table.getNeighborCount(cell); i++) {
+      int adj = table.getNeighbor(cell, i);
+      Coordinate adjPos = grid.getCoordinate(adj / grid.getTotalColumns(),
+              adj % grid.getTotalColumns());
+      byDirection[table.getDirection(cell, i).ordinal()] = cardPositions.get(adjPos);
     }
 
-    // Ensure consistent ordering
-    adjacentCards.add(directionMap.get(Direction.NORTH));
-    adjacentCards.add(directionMap.get(Direction.SOUTH));
-    adjacentCards.add(directionMap.get(Direction.EAST));
-    adjacentCards.add(directionMap.get(Direction.WEST));
-
+    List<Card> adjacentCards = new ArrayList<>(4);
+    Collections.addAll(adjacentCards, byDirection);
     return adjacentCards;
   }
 
@@ -126,20 +166,7 @@ public class GameBoard implements Board {
    * @return the direction from source to target
    */
   public Direction getDirection(Coordinate source, Coordinate target) {
-    int rowDiff = target.getRow() - source.getRow();
-    int colDiff = target.getCol() - source.getCol();
-
-    if (rowDiff < 0) {
-      return Direction.NORTH;  // Target is above source, attack north
-    } else if (rowDiff > 0) {
-      return Direction.SOUTH;  // Target is below source, attack south
-    } else if (colDiff < 0) {
-      return Direction.WEST;   // Target is left of source, attack west
-    } else if (colDiff > 0) {
-      return Direction.EAST;   // Target is right of source, attack east
-    }
-
-    throw new IllegalArgumentException("Coordinates must be adjacent");
+    return Direction.between(source, target);
   }
 
   @Override
@@ -151,23 +178,27 @@ public class GameBoard implements Board {
       throw new IllegalArgumentException("Invalid position");
     }
 
-    List<Card> adjacentCards = getAdjacentCards(position);
-    List<Card> opponentCards = new ArrayList<>();
-
-    for (Card card : adjacentCards) {
-      if (card != null && card.getOwner().getColor() == currentPlayerColor.getOpponentColor()) {
-        opponentCards.add(card);
-      } else {
-        opponentCards.add(null);
+    // Same N, S, E, W order as getAdjacentCards
+    NeighborTable table = grid.getNeighborTable();
+    Card[] byDirection = new Card[4];
+    int cell = table.indexOf(position);
+    for (int i = 0; i < table.getNeighborCount(cell); i++) {
+      int adj = table.getNeighbor(cell, i);
+      if (owners[adj] == currentPlayerColor.getOpponentColor()) {
+        byDirection[table.getDirection(cell, i).ordinal()] = cardPositions.get(
+                grid.getCoordinate(adj / grid.getTotalColumns(), adj % grid.getTotalColumns()));
       }
     }
+
+    List<Card> opponentCards = new ArrayList<>(4);
+    Collections.addAll(opponentCards, byDirection);
     return opponentCards;
   }
 
   @Override
-  public void flipCard(Coordinate position, Player newOwner) {
-    if (position == null) {
-      throw new IllegalArgumentException("Position cannot be null");
+  public void flipCard(Coordinate position, PlayerColor newOwner) {
+    if (position == null || newOwner == null) {
+      throw new IllegalArgumentException("Position and new owner cannot be null");
     }
     if (!grid.isValidPosition(position)) {
       throw new IllegalArgumentException("Invalid position");
@@ -181,10 +212,16 @@ public class GameBoard implements Board {
       throw new IllegalStateException("Card cannot be found at position");
     }
 
-    if (newOwner == card.getOwner()) {
+    int cell = cellOf(position);
+    PlayerColor oldOwner = owners[cell];
+    if (newOwner == oldOwner) {
       throw new IllegalStateException("Cannot flip card to same owner");
     } else {
-      card.setOwner(newOwner);
+      cardCounts[oldOwner.ordinal()]--;
+      hash ^= Zobrist.boardKey(cell, card, oldOwner);
+      owners[cell] = newOwner;
+      cardCounts[newOwner.ordinal()]++;
+      hash ^= Zobrist.boardKey(cell, card, newOwner);
     }
   }
 
@@ -195,25 +232,49 @@ public class GameBoard implements Board {
 
   @Override
   public int getCardCount(PlayerColor player) {
-    return (int) cardPositions.values().stream()
-        .filter(card -> card.getOwner().getColor() == player)
-        .count();
+    if (player == null) {
+      throw new IllegalArgumentException("Player cannot be null");
+    }
+    assert countsMatchCards() : "Card counts out of sync with card owners";
+    return cardCounts[player.ordinal()];
+  }
+
+  /**
+   * Recounts the cards on the board by owner, for the consistency check run when
+   * assertions are enabled.
+   */
+  private boolean countsMatchCards() {
+    int[] recount = new int[cardCounts.length];
+    for (Coordinate position : cardPositions.keySet()) {
+      recount[owners[cellOf(position)].ordinal()]++;
+    }
+    return Arrays.equals(recount, cardCounts);
   }
 
   @Override
   public List<Coordinate> getEmptyCardCells() {
-    List<Coordinate> emptyCells = new ArrayList<>();
-    for (int row = 0; row < grid.getTotalRows(); row++) {
-      for (int col = 0; col < grid.getTotalColumns(); col++) {
-        Coordinate pos = new GameCoordinate(row, col);
-        if (canPlaceCard(pos)) {
-          emptyCells.add(pos);
-        }
-      }
+    FreeCellIndex index = freeCells();
+    List<Coordinate> emptyCells = new ArrayList<>(index.size());
+    int cols = grid.getTotalColumns();
+    for (int cell = index.first(); cell >= 0; cell = index.next(cell)) {
+      emptyCells.add(grid.getCoordinate(cell / cols, cell % cols));
     }
     return emptyCells;
   }
 
+  /**
+   * Gets the index of free card cells, rebuilding it first if cells of the grid have become
+   * or stopped being holes since it was built.
+   */
+  private FreeCellIndex freeCells() {
+    NeighborTable layout = grid.getNeighborTable();
+    if (freeCells == null || layout != freeCellsLayout) {
+      freeCells = FreeCellIndex.of(grid);
+      freeCellsLayout = layout;
+    }
+    return freeCells;
+  }
+
   @Override
   public Map<Coordinate, Card> getAllCards() {
     return new HashMap<>(cardPositions);
@@ -234,28 +295,45 @@ public class GameBoard implements Board {
   @Override
   public void clear() {
     cardPositions.clear();
+    Arrays.fill(owners, null);
+    Arrays.fill(cardCounts, 0);
+    hash = 0;
     // Reset all occupied cells to available
     for (int row = 0; row < grid.getTotalRows(); row++) {
       for (int col = 0; col < grid.getTotalColumns(); col++) {
-        Coordinate pos = new GameCoordinate(row, col);
+        Coordinate pos = grid.getCoordinate(row, col);
         if (grid.getCellState(pos) == CellState.OCCUPIED) {
-          grid.setCellState(pos, CellState.AVAILABLE);
+          grid.vacateCell(pos);
         }
       }
     }
+    freeCells = null;
   }
 
   @Override
   public Board copy() {
     GameBoard copy = new GameBoard(grid.copy());
-    // Deep copy the card positions
+    // Grid copies share their coordinates, so the keys carry over as they are
     for (Map.Entry<Coordinate, Card> entry : cardPositions.entrySet()) {
-      GameCoordinate newCoord = new GameCoordinate(
-              entry.getKey().getRow(),
-              entry.getKey().getCol());
-      copy.cardPositions.put(newCoord, entry.getValue());
-      copy.grid.setCellState(newCoord, CellState.OCCUPIED);
+      copy.cardPositions.put(entry.getKey(), entry.getValue());
+      copy.grid.setCellState(entry.getKey(), CellState.OCCUPIED);
+    }
+    System.arraycopy(owners, 0, copy.owners, 0, owners.length);
+    System.arraycopy(cardCounts, 0, copy.cardCounts, 0, cardCounts.length);
+    copy.hash = hash;
+    if (freeCells != null) {
+      copy.freeCells = freeCells.copy();
+      copy.freeCellsLayout = freeCellsLayout;
     }
     return copy;
   }
+
+  @Override
+  public long getHash() {
+    return hash;
+  }
+
+  private int cellOf(Coordinate position) {
+    return position.getRow() * grid.getTotalColumns() + position.getCol();
+  }
 }
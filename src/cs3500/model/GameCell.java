@@ -62,6 +62,15 @@ public class GameCell implements Cell {
     this.state = CellState.OCCUPIED;
   }
 
+  @Override
+  public void removeCard() {
+    if (this.state != CellState.OCCUPIED) {
+      throw new IllegalStateException("Cell is not occupied");
+    }
+    this.card = null;
+    this.state = CellState.AVAILABLE;
+  }
+
   @Override
   public Coordinate getCoordinate() {
     return this.coordinate;
@@ -1,6 +1,7 @@
 package cs3500.model;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -11,8 +12,12 @@ public class GameGrid implements Grid {
   private final Cell[][] grid;
   private final int rows;
   private final int cols;
+  // One canonical coordinate per cell in row-major order, shared with copies of the grid
+  private final Coordinate[] coordinates;
   private int cardCellCount;
-
+  // Built on first use; the table is dropped whenever a hole is added or removed
+  private NeighborTable neighborTable;
+  private List<List<Coordinate>> adjacentPositions;
 
   /**
    * Constructor for the GameGrid class.
@@ -21,6 +26,10 @@ public class GameGrid implements Grid {
    * @param cols the number of columns in the grid
    */
   public GameGrid(int rows, int cols) {
+    this(rows, cols, null);
+  }
+
+  private GameGrid(int rows, int cols, Coordinate[] coordinates) {
     if (rows <= 0 || cols <= 0) {
       throw new IllegalArgumentException("Grid dimensions must be positive");
     }
@@ -32,11 +41,20 @@ public class GameGrid implements Grid {
     this.cols = cols;
     this.grid = new Cell[rows][cols];
     this.cardCellCount = (rows * cols);
+    if (coordinates == null) {
+      coordinates = new Coordinate[rows * cols];
+      for (int i = 0; i < rows; i++) {
+        for (int j = 0; j < cols; j++) {
+          coordinates[i * cols + j] = new GameCoordinate(i, j);
+        }
+      }
+    }
+    this.coordinates = coordinates;
 
     // Initialize the grid with available cells
     for (int i = 0; i < rows; i++) {
       for (int j = 0; j < cols; j++) {
-        this.grid[i][j] = new GameCell(CellState.AVAILABLE, new GameCoordinate(i, j));
+        this.grid[i][j] = new GameCell(CellState.AVAILABLE, coordinates[i * cols + j]);
       }
     }
   }
@@ -51,6 +69,14 @@ public class GameGrid implements Grid {
     return this.cols;
   }
 
+  @Override
+  public Coordinate getCoordinate(int row, int col) {
+    if (row < 0 || row >= rows || col < 0 || col >= cols) {
+      throw new IllegalArgumentException("Invalid position");
+    }
+    return coordinates[row * cols + col];
+  }
+
   @Override
   public CellState getCellState(Coordinate coordinate) {
     return grid[coordinate.getRow()][coordinate.getCol()].getState();
@@ -70,9 +96,18 @@ public class GameGrid implements Grid {
 
       // Update the existing cell's state
       (grid[coordinate.getRow()][coordinate.getCol()]).setState(state);
+      if (currentState == CellState.HOLE || state == CellState.HOLE) {
+        neighborTable = null;
+      }
     }
+  }
 
-
+  @Override
+  public void vacateCell(Coordinate coordinate) {
+    if (coordinate == null || !isValidPosition(coordinate)) {
+      throw new IllegalArgumentException("Invalid position");
+    }
+    grid[coordinate.getRow()][coordinate.getCol()].removeCard();
   }
 
   @Override
@@ -83,24 +118,50 @@ public class GameGrid implements Grid {
 
   @Override
   public List<Coordinate> getAdjacentPositions(Coordinate position) {
+    if (position == null || !isValidPosition(position)) {
+      throw new IllegalArgumentException("Invalid position");
+    }
+    if (adjacentPositions == null) {
+      adjacentPositions = buildAdjacentPositions();
+    }
+    return adjacentPositions.get(position.getRow() * cols + position.getCol());
+  }
 
-    List<Coordinate> adjacents = new ArrayList<>();
-    int row = position.getRow();
-    int col = position.getCol();
-
-    Coordinate[] directions = {
-        new GameCoordinate(row - 1, col),
-        new GameCoordinate(row + 1, col),
-        new GameCoordinate(row, col - 1),
-        new GameCoordinate(row, col + 1)
-    };
-
-    for (Coordinate direction : directions) {
-      if (isValidPosition(direction)) {
-        adjacents.add(direction);
+  /**
+   * Lists the in-bounds neighbors of every cell once, since they only depend on the grid's
+   * dimensions.
+   */
+  private List<List<Coordinate>> buildAdjacentPositions() {
+    List<List<Coordinate>> lists = new ArrayList<>(rows * cols);
+    for (int row = 0; row < rows; row++) {
+      for (int col = 0; col < cols; col++) {
+        List<Coordinate> adjacents = new ArrayList<>(4);
+        if (row > 0) {
+          adjacents.add(getCoordinate(row - 1, col));
+        }
+        if (row < rows - 1) {
+          adjacents.add(getCoordinate(row + 1, col));
+        }
+        if (col > 0) {
+          adjacents.add(getCoordinate(row, col - 1));
+        }
+        if (col < cols - 1) {
+          adjacents.add(getCoordinate(row, col + 1));
+        }
+        lists.add(Collections.unmodifiableList(adjacents));
       }
     }
-    return adjacents;
+    return lists;
+  }
+
+  @Override
+  public NeighborTable getNeighborTable() {
+    NeighborTable table = neighborTable;
+    if (table == null) {
+      table = NeighborTable.of(this);
+      neighborTable = table;
+    }
+    return table;
   }
 
   @Override
@@ -110,8 +171,10 @@ public class GameGrid implements Grid {
 
   @Override
   public Grid copy() {
-    GameGrid copy = new GameGrid(this.rows, this.cols);
+    GameGrid copy = new GameGrid(this.rows, this.cols, this.coordinates);
     copy.cardCellCount = this.cardCellCount;
+    copy.neighborTable = this.neighborTable;
+    copy.adjacentPositions = this.adjacentPositions;
 
     for (int i = 0; i < rows; i++) {
       for (int j = 0; j < cols; j++) {
@@ -0,0 +1,568 @@
+package cs3500.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of a game position: the board, both hands, the player to move and the
+ * game state.
+ *
+ * <p>Playing a move on a snapshot returns a new snapshot and leaves the old one untouched.
+ * Board cells are kept in a {@link PersistentArray}, so the new snapshot copies only the
+ * trie paths of the cells the move changed and shares everything else, including the grid
+ * layout, coordinates and neighbor table, with the snapshot it came from. That makes it
+ * cheap to keep many related positions, such as the nodes of a search tree.
+ *
+ * <p>Cards are immutable, so a snapshot shares them with the model it was taken from and
+ * keeps the owner of each cell in a second persistent array; a flip only writes the new
+ * owner. Since nothing in a snapshot changes, any number of threads may read one without
+ * locking. Its board and grid are read-only views, and trying to modify them throws an
+ * IllegalStateException.
+ */
+public final class GameSnapshot implements ReadOnlyThreeTriosModel {
+  private final Layout layout;
+  private final PersistentArray<Card> cells;
+  private final PersistentArray<PlayerColor> owners;
+  private final List<Card> redHand;
+  private final List<Card> blueHand;
+  private final int redCount;
+  private final int blueCount;
+  private final int emptyCount;
+  private final long boardHash;
+  private final long handHash;
+  private final PlayerColor currentPlayer;
+  private final GameState gameState;
+  // Cards flipped by the move that produced this snapshot
+  private final int lastFlips;
+  // Views are created on first use; they only read final fields, so a race is harmless
+  private Board boardView;
+
+  /**
+   * Parts that never change during a game and are shared by every snapshot of it.
+   */
+  private static final class Layout {
+    private final int rows;
+    private final int cols;
+    private final boolean[] holes;
+    private final Coordinate[] coordinates;
+    private final NeighborTable neighbors;
+    private final int cardCellCount;
+
+    Layout(Grid grid) {
+      this.rows = grid.getTotalRows();
+      this.cols = grid.getTotalColumns();
+      this.holes = new boolean[rows * cols];
+      this.coordinates = new Coordinate[rows * cols];
+      for (int row = 0; row < rows; row++) {
+        for (int col = 0; col < cols; col++) {
+          Coordinate position = grid.getCoordinate(row, col);
+          coordinates[row * cols + col] = position;
+          holes[row * cols + col] = grid.getCellState(position) == CellState.HOLE;
+        }
+      }
+      this.neighbors = grid.getNeighborTable();
+      this.cardCellCount = grid.getCardCellCount();
+    }
+
+    int indexOf(Coordinate position) {
+      if (position == null) {
+        throw new IllegalArgumentException("Position cannot be null");
+      }
+      if (position.getRow() < 0 || position.getRow() >= rows
+              || position.getCol() < 0 || position.getCol() >= cols) {
+        throw new IllegalArgumentException("Invalid position");
+      }
+      return position.getRow() * cols + position.getCol();
+    }
+  }
+
+  private GameSnapshot(Layout layout, PersistentArray<Card> cells,
+                       PersistentArray<PlayerColor> owners, List<Card> redHand,
+                       List<Card> blueHand, int redCount, int blueCount, int emptyCount,
+                       long boardHash, long handHash, PlayerColor currentPlayer,
+                       GameState gameState, int lastFlips) {
+    this.layout = layout;
+    this.cells = cells;
+    this.owners = owners;
+    this.redHand = redHand;
+    this.blueHand = blueHand;
+    this.redCount = redCount;
+    this.blueCount = blueCount;
+    this.emptyCount = emptyCount;
+    this.boardHash = boardHash;
+    this.handHash = handHash;
+    this.currentPlayer = currentPlayer;
+    this.gameState = gameState;
+    this.lastFlips = lastFlips;
+  }
+
+  /**
+   * Takes a snapshot of the current position of a model. The snapshot shares the model's
+   * cards, and snapshots derived from the result with {@link #play} share its cells.
+   *
+   * @param model the model to snapshot
+   * @return a snapshot of the model's position
+   * @throws IllegalArgumentException if model is null
+   */
+  public static GameSnapshot of(ReadOnlyThreeTriosModel model) {
+    if (model == null) {
+      throw new IllegalArgumentException("Model cannot be null");
+    }
+
+    Board board = model.getBoard();
+    Layout layout = new Layout(board.getGrid());
+    PersistentArray<Card> cells = PersistentArray.empty(layout.rows * layout.cols);
+    PersistentArray<PlayerColor> owners = PersistentArray.empty(layout.rows * layout.cols);
+    int redCount = 0;
+    int blueCount = 0;
+    long boardHash = 0;
+    for (Map.Entry<Coordinate, Card> entry : board.getAllCards().entrySet()) {
+      PlayerColor color = board.getOwnerAt(entry.getKey());
+      int cell = layout.indexOf(entry.getKey());
+      cells = cells.with(cell, entry.getValue());
+      owners = owners.with(cell, color);
+      boardHash ^= Zobrist.boardKey(cell, entry.getValue(), color);
+      if (color == PlayerColor.RED) {
+        redCount++;
+      } else {
+        blueCount++;
+      }
+    }
+
+    long handHash = 0;
+    for (PlayerColor color : PlayerColor.values()) {
+      for (Card card : model.getPlayerHand(color)) {
+        handHash ^= Zobrist.handKey(Zobrist.cardKey(card), color);
+      }
+    }
+
+    return new GameSnapshot(layout, cells, owners,
+            copyHand(model.getPlayerHand(PlayerColor.RED)),
+            copyHand(model.getPlayerHand(PlayerColor.BLUE)),
+            redCount, blueCount, board.getEmptyCardCells().size(), boardHash, handHash,
+            model.getCurrentPlayerColor(), model.getGameState(), 0);
+  }
+
+  private static List<Card> copyHand(List<Card> hand) {
+    return Collections.unmodifiableList(new ArrayList<>(hand));
+  }
+
+  /**
+   * Plays a card from the current player's hand and returns the resulting position, with
+   * its battles and combos resolved. This snapshot is unchanged.
+   *
+   * @param card a card from the current player's hand in this snapshot
+   * @param position an empty card cell
+   * @return the snapshot after the move
+   * @throws IllegalArgumentException if card or position is null or position is invalid
+   * @throws IllegalStateException if the game is not in progress, the card is not in the
+   *     current player's hand or the cell cannot be played on
+   */
+  public GameSnapshot play(Card card, Coordinate position) {
+    if (card == null || position == null) {
+      throw new IllegalArgumentException("Card and position cannot be null");
+    }
+    if (gameState == GameState.GAME_OVER) {
+      throw new IllegalStateException("Game is over");
+    }
+    if (gameState == GameState.INITIALIZATION) {
+      throw new IllegalStateException("Game has not started yet");
+    }
+    if (!handOf(currentPlayer).contains(card)) {
+      throw new IllegalStateException("Next player's turn.");
+    }
+    int cell = layout.indexOf(position);
+    if (!isEmptyCardCell(cell)) {
+      throw new IllegalStateException("Cannot place card at position");
+    }
+    return place(card, cell, currentPlayer, true);
+  }
+
+  /**
+   * Places a card for a player and resolves the battle and combo chain, path-copying the
+   * cells that change.
+   */
+  private GameSnapshot place(Card card, int cell, PlayerColor mover, boolean fromHand) {
+    PersistentArray<Card> next = cells.with(cell, card);
+    PersistentArray<PlayerColor> nextOwners = owners.with(cell, mover);
+    long placedKey = Zobrist.cardKey(card);
+    long nextHash = boardHash ^ Zobrist.cellKey(cell, placedKey, mover);
+
+    // Every flip goes to the mover, so a FIFO queue resolves the chain round by round
+    NeighborTable table = layout.neighbors;
+    int[] queue = new int[layout.cardCellCount];
+    int tail = 0;
+    int head = -1;
+    int attackCell = cell;
+    Card attacker = card;
+    while (true) {
+      for (int i = 0; i < table.getNeighborCount(attackCell); i++) {
+        int adj = table.getNeighbor(attackCell, i);
+        Card defender = next.get(adj);
+        Direction direction = table.getDirection(attackCell, i);
+        if (defender != null && nextOwners.get(adj) != mover
+                && attacker.getValue(direction) > defender.getValue(direction.getOpposite())) {
+          nextOwners = nextOwners.with(adj, mover);
+          long defenderKey = Zobrist.cardKey(defender);
+          nextHash ^= Zobrist.cellKey(adj, defenderKey, mover.getOpponentColor())
+                  ^ Zobrist.cellKey(adj, defenderKey, mover);
+          queue[tail++] = adj;
+        }
+      }
+      if (++head == tail) {
+        break;
+      }
+      attackCell = queue[head];
+      attacker = next.get(attackCell);
+    }
+
+    int gained = 1 + tail;
+    int redAfter = mover == PlayerColor.RED ? redCount + gained : redCount - tail;
+    int blueAfter = mover == PlayerColor.BLUE ? blueCount + gained : blueCount - tail;
+    List<Card> redAfterHand = redHand;
+    List<Card> blueAfterHand = blueHand;
+    long nextHandHash = handHash;
+    if (fromHand) {
+      nextHandHash ^= Zobrist.handKey(placedKey, mover);
+      List<Card> remaining = new ArrayList<>(handOf(mover));
+      remaining.remove(card);
+      if (mover == PlayerColor.RED) {
+        redAfterHand = Collections.unmodifiableList(remaining);
+      } else {
+        blueAfterHand = Collections.unmodifiableList(remaining);
+      }
+    }
+
+    int emptyAfter = emptyCount - 1;
+    boolean over = emptyAfter == 0;
+    return new GameSnapshot(layout, next, nextOwners, redAfterHand, blueAfterHand, redAfter,
+            blueAfter, emptyAfter, nextHash, nextHandHash,
+            over ? mover : mover.getOpponentColor(),
+            over ? GameState.GAME_OVER : GameState.WAITING_FOR_MOVE, tail);
+  }
+
+  private boolean isEmptyCardCell(int cell) {
+    return !layout.holes[cell] && cells.get(cell) == null;
+  }
+
+  private List<Card> handOf(PlayerColor player) {
+    return player == PlayerColor.RED ? redHand : blueHand;
+  }
+
+  @Override
+  public Board getBoard() {
+    Board view = boardView;
+    if (view == null) {
+      view = new SnapshotBoard();
+      boardView = view;
+    }
+    return view;
+  }
+
+  @Override
+  public List<Card> getPlayerHand(PlayerColor player) {
+    if (player == null) {
+      throw new IllegalArgumentException("Player cannot be null");
+    }
+    return handOf(player);
+  }
+
+  @Override
+  public PlayerColor getCurrentPlayerColor() {
+    return currentPlayer;
+  }
+
+  @Override
+  public int getPotentialFlips(Card card, Coordinate position) {
+    if (card == null || position == null) {
+      throw new IllegalArgumentException("Card and position cannot be null");
+    }
+    int cell = layout.indexOf(position);
+    if (!isEmptyCardCell(cell)) {
+      return 0;
+    }
+    // A card from the opponent's hand attacks for the opponent, any other for the mover
+    PlayerColor owner = handOf(currentPlayer.getOpponentColor()).contains(card)
+            ? currentPlayer.getOpponentColor() : currentPlayer;
+    return place(card, cell, owner, false).lastFlips;
+  }
+
+  @Override
+  public GameState getGameState() {
+    return gameState;
+  }
+
+  @Override
+  public int getScore(PlayerColor player) {
+    if (player == null) {
+      throw new IllegalArgumentException("Player cannot be null");
+    }
+    return player == PlayerColor.RED ? redCount + redHand.size() : blueCount + blueHand.size();
+  }
+
+  @Override
+  public PlayerColor getWinner() {
+    if (gameState != GameState.GAME_OVER) {
+      return null;
+    }
+    int redScore = getScore(PlayerColor.RED);
+    int blueScore = getScore(PlayerColor.BLUE);
+    if (redScore > blueScore) {
+      return PlayerColor.RED;
+    } else if (blueScore > redScore) {
+      return PlayerColor.BLUE;
+    } else {
+      return null;
+    }
+  }
+
+  @Override
+  public long getPositionHash() {
+    long hash = boardHash ^ handHash;
+    return currentPlayer == PlayerColor.BLUE ? hash ^ Zobrist.SIDE_KEY : hash;
+  }
+
+  private static IllegalStateException readOnly() {
+    return new IllegalStateException("Snapshots cannot be modified");
+  }
+
+  /**
+   * Read-only board view over the snapshot's cells.
+   */
+  private final class SnapshotBoard implements Board {
+    private final Grid grid = new SnapshotGrid();
+
+    @Override
+    public Grid getGrid() {
+      return grid;
+    }
+
+    @Override
+    public boolean canPlaceCard(Coordinate position) {
+      return isEmptyCardCell(layout.indexOf(position));
+    }
+
+    @Override
+    public void placeCard(Card card, Coordinate position, PlayerColor owner) {
+      throw readOnly();
+    }
+
+    @Override
+    public void removeCard(Coordinate position) {
+      throw readOnly();
+    }
+
+    @Override
+    public Card getCardAt(Coordinate position) {
+      int cell = layout.indexOf(position);
+      if (layout.holes[cell]) {
+        throw new IllegalStateException("Cannot get card from hole");
+      }
+      return cells.get(cell);
+    }
+
+    @Override
+    public PlayerColor getOwnerAt(Coordinate position) {
+      return owners.get(layout.indexOf(position));
+    }
+
+    @Override
+    public List<Card> getAdjacentCards(Coordinate position) {
+      // Return cards in order: North, South, East, West, the Direction declaration order
+      int cell = layout.indexOf(position);
+      Card[] byDirection = new Card[4];
+      NeighborTable table = layout.neighbors;
+      for (int i = 0; i < table.getNeighborCount(cell); i++) {
+        byDirection[table.getDirection(cell, i).ordinal()] = cells.get(table.getNeighbor(cell, i));
+      }
+      List<Card> adjacentCards = new ArrayList<>(4);
+      Collections.addAll(adjacentCards, byDirection);
+      return adjacentCards;
+    }
+
+    @Override
+    public List<Card> getAdjacentOpponentCards(Coordinate position,
+                                               PlayerColor currentPlayerColor) {
+      int cell = layout.indexOf(position);
+      Card[] byDirection = new Card[4];
+      NeighborTable table = layout.neighbors;
+      for (int i = 0; i < table.getNeighborCount(cell); i++) {
+        int adj = table.getNeighbor(cell, i);
+        if (owners.get(adj) == currentPlayerColor.getOpponentColor()) {
+          byDirection[table.getDirection(cell, i).ordinal()] = cells.get(adj);
+        }
+      }
+      List<Card> opponentCards = new ArrayList<>(4);
+      Collections.addAll(opponentCards, byDirection);
+      return opponentCards;
+    }
+
+    @Override
+    public void flipCard(Coordinate position, PlayerColor newOwner) {
+      throw readOnly();
+    }
+
+    @Override
+    public boolean isFull() {
+      return emptyCount == 0;
+    }
+
+    @Override
+    public int getCardCount(PlayerColor player) {
+      if (player == null) {
+        throw new IllegalArgumentException("Player cannot be null");
+      }
+      return player == PlayerColor.RED ? redCount : blueCount;
+    }
+
+    @Override
+    public List<Coordinate> getEmptyCardCells() {
+      List<Coordinate> emptyCells = new ArrayList<>(emptyCount);
+      for (int cell = 0; cell < layout.coordinates.length; cell++) {
+        if (isEmptyCardCell(cell)) {
+          emptyCells.add(layout.coordinates[cell]);
+        }
+      }
+      return emptyCells;
+    }
+
+    @Override
+    public Map<Coordinate, Card> getAllCards() {
+      Map<Coordinate, Card> allCards = new HashMap<>();
+      for (int cell = 0; cell < layout.coordinates.length; cell++) {
+        Card card = cells.get(cell);
+        if (card != null) {
+          allCards.put(layout.coordinates[cell], card);
+        }
+      }
+      return allCards;
+    }
+
+    @Override
+    public boolean isCardWinningBattle(Card attacker, Card defender, Direction direction) {
+      if (attacker == null || defender == null || direction == null) {
+        throw new IllegalArgumentException("Arguments cannot be null");
+      }
+      return attacker.getValue(direction) > defender.getValue(direction.getOpposite());
+    }
+
+    @Override
+    public void clear() {
+      throw readOnly();
+    }
+
+    @Override
+    public long getHash() {
+      return boardHash;
+    }
+
+    /**
+     * Copies the position into a new mutable board, which shares the snapshot's cards but
+     * keeps its own owners.
+     */
+    @Override
+    public Board copy() {
+      Board copy = new GameBoard(grid.copy());
+      for (int cell = 0; cell < layout.coordinates.length; cell++) {
+        Card card = cells.get(cell);
+        if (card != null) {
+          copy.placeCard(card, layout.coordinates[cell], owners.get(cell));
+        }
+      }
+      return copy;
+    }
+  }
+
+  /**
+   * Read-only grid view over the snapshot's layout and cells.
+   */
+  private final class SnapshotGrid implements Grid {
+    @Override
+    public int getTotalRows() {
+      return layout.rows;
+    }
+
+    @Override
+    public int getTotalColumns() {
+      return layout.cols;
+    }
+
+    @Override
+    public Coordinate getCoordinate(int row, int col) {
+      if (row < 0 || row >= layout.rows || col < 0 || col >= layout.cols) {
+        throw new IllegalArgumentException("Invalid position");
+      }
+      return layout.coordinates[row * layout.cols + col];
+    }
+
+    @Override
+    public CellState getCellState(Coordinate position) {
+      int cell = layout.indexOf(position);
+      if (layout.holes[cell]) {
+        return CellState.HOLE;
+      }
+      return cells.get(cell) == null ? CellState.AVAILABLE : CellState.OCCUPIED;
+    }
+
+    @Override
+    public void setCellState(Coordinate position, CellState state) {
+      throw readOnly();
+    }
+
+    @Override
+    public void vacateCell(Coordinate position) {
+      throw readOnly();
+    }
+
+    @Override
+    public boolean isValidPosition(Coordinate position) {
+      return position.getRow() >= 0 && position.getRow() < layout.rows
+          && position.getCol() >= 0 && position.getCol() < layout.cols;
+    }
+
+    @Override
+    public List<Coordinate> getAdjacentPositions(Coordinate position) {
+      int cell = layout.indexOf(position);
+      int row = position.getRow();
+      int col = position.getCol();
+      List<Coordinate> adjacents = new ArrayList<>(4);
+      if (row > 0) {
+        adjacents.add(layout.coordinates[cell - layout.cols]);
+      }
+      if (row < layout.rows - 1) {
+        adjacents.add(layout.coordinates[cell + layout.cols]);
+      }
+      if (col > 0) {
+        adjacents.add(layout.coordinates[cell - 1]);
+      }
+      if (col < layout.cols - 1) {
+        adjacents.add(layout.coordinates[cell + 1]);
+      }
+      return adjacents;
+    }
+
+    @Override
+    public NeighborTable getNeighborTable() {
+      return layout.neighbors;
+    }
+
+    @Override
+    public int getCardCellCount() {
+      return layout.cardCellCount;
+    }
+
+    @Override
+    public Grid copy() {
+      Grid copy = new GameGrid(layout.rows, layout.cols);
+      for (int cell = 0; cell < layout.coordinates.length; cell++) {
+        if (layout.holes[cell]) {
+          copy.setCellState(layout.coordinates[cell], CellState.HOLE);
+        }
+      }
+      return copy;
+    }
+  }
+}
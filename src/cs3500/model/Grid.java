@@ -21,6 +21,18 @@ public interface Grid {
    */
   int getTotalColumns();
 
+  /**
+   * Gets the grid's canonical coordinate for a cell. Every call for the same cell returns
+   * the same instance, and copies of the grid share them, so hot loops need not create
+   * coordinates and board maps keyed by them mostly compare by identity.
+   *
+   * @param row the row of the cell
+   * @param col the column of the cell
+   * @return the shared coordinate of the cell
+   * @throws IllegalArgumentException if the cell is outside the grid
+   */
+  Coordinate getCoordinate(int row, int col);
+
   /**
    * Gets the state of the cell at the given position.
    *
@@ -39,6 +51,15 @@ public interface Grid {
    */
   void setCellState(Coordinate position, CellState state);
 
+  /**
+   * Returns an occupied cell to the available state when its card is taken back.
+   *
+   * @param position the position to vacate
+   * @throws IllegalArgumentException if position is null or invalid
+   * @throws IllegalStateException if the cell is not occupied
+   */
+  void vacateCell(Coordinate position);
+
   /**
    * Checks if the given position is within grid bounds and valid.
    *
@@ -48,14 +69,24 @@ public interface Grid {
   boolean isValidPosition(Coordinate position);
 
   /**
-   * Gets all valid adjacent positions for the given position.
+   * Gets all valid adjacent positions for the given position, in the order north, south,
+   * west, east. Unlike the neighbor table, holes are included.
    *
    * @param position the position to find adjacents for
-   * @return list of valid adjacent positions
+   * @return list of valid adjacent positions, which callers must not modify
    * @throws IllegalArgumentException if position is null or invalid
    */
   List<Coordinate> getAdjacentPositions(Coordinate position);
 
+  /**
+   * Gets the neighbor table for the grid's current layout, so battles and searches can walk
+   * adjacent card cells by index without allocating. The same table is returned until a
+   * cell becomes or stops being a hole.
+   *
+   * @return the grid's neighbor table
+   */
+  NeighborTable getNeighborTable();
+
   /**
    * Gets the total number of card cells (non-hole cells) in the grid.
    * Must be odd as per game requirements.
@@ -0,0 +1,55 @@
+package cs3500.model;
+
+import java.util.List;
+
+/**
+ * Listener for changes to a Three Trios game, registered with
+ * {@link ThreeTriosModel#addModelListener}.
+ * Each move is reported as one card placement, then at most one batch of flips covering the
+ * whole battle and combo chain, then either a turn change or the end of the game, so a
+ * listener can update exactly what changed instead of re-reading the board.
+ * Every method does nothing by default; override only the changes of interest.
+ * Listeners are called on the thread that changed the model, after the change is complete.
+ */
+public interface ModelListener {
+  /**
+   * Called when a card has been played onto the board.
+   *
+   * @param card the card played
+   * @param position where it was played
+   * @param owner the player who played it
+   */
+  default void cardPlaced(Card card, Coordinate position, PlayerColor owner) {
+    // Not interested by default
+  }
+
+  /**
+   * Called once per move with every card the move flipped, if it flipped any.
+   *
+   * @param positions positions of the flipped cards, in the order they flipped: the
+   *     battle first, then each combo round
+   * @param newOwner the player who now owns the flipped cards
+   */
+  default void cardsFlipped(List<Coordinate> positions, PlayerColor newOwner) {
+    // Not interested by default
+  }
+
+  /**
+   * Called when a player is to move: once the game starts, and after each move that does
+   * not end the game.
+   *
+   * @param player the player to move
+   */
+  default void turnChanged(PlayerColor player) {
+    // Not interested by default
+  }
+
+  /**
+   * Called when the last move has filled the board.
+   *
+   * @param winner the winning player, or null for a tie
+   */
+  default void gameOver(PlayerColor winner) {
+    // Not interested by default
+  }
+}
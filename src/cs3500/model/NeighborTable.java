@@ -0,0 +1,151 @@
+package cs3500.model;
+
+/**
+ * Immutable table of the neighbors of every cell in a grid.
+ *
+ * <p>Cells are addressed by row-major index (row * columns + col). For each cell the table
+ * lists the indices of its adjacent cells in the order north, south, west, east, together
+ * with the direction a card in the cell attacks to reach each of them. Neighbors past the
+ * edge of the grid and neighbors that are holes are left out, and holes have no neighbors
+ * at all, so callers can battle every listed neighbor without further bounds checks.
+ *
+ * <p>Tables are built once per grid layout. Grids hand out the same table until one of
+ * their cells becomes or stops being a hole, so a table may be shared freely between
+ * threads and board copies.
+ */
+public final class NeighborTable {
+  private static final Direction[] SIDES = {
+    Direction.NORTH, Direction.SOUTH, Direction.WEST, Direction.EAST
+  };
+
+  private final int rows;
+  private final int cols;
+  private final int[] neighbors;
+  private final Direction[] directions;
+  private final byte[] counts;
+
+  private NeighborTable(int rows, int cols, boolean[] holes) {
+    this.rows = rows;
+    this.cols = cols;
+    int cellCount = rows * cols;
+    this.neighbors = new int[cellCount * 4];
+    this.directions = new Direction[cellCount * 4];
+    this.counts = new byte[cellCount];
+
+    for (int row = 0; row < rows; row++) {
+      for (int col = 0; col < cols; col++) {
+        int cell = row * cols + col;
+        if (holes[cell]) {
+          continue;
+        }
+        int[] candidates = {
+          row > 0 ? cell - cols : -1,
+          row < rows - 1 ? cell + cols : -1,
+          col > 0 ? cell - 1 : -1,
+          col < cols - 1 ? cell + 1 : -1
+        };
+        int count = 0;
+        for (int side = 0; side < 4; side++) {
+          int adj = candidates[side];
+          if (adj >= 0 && !holes[adj]) {
+            neighbors[cell * 4 + count] = adj;
+            directions[cell * 4 + count] = SIDES[side];
+            count++;
+          }
+        }
+        counts[cell] = (byte) count;
+      }
+    }
+  }
+
+  /**
+   * Builds the neighbor table for the current layout of a grid.
+   *
+   * @param grid the grid to describe
+   * @return a table of the grid's card cell neighbors
+   * @throws IllegalArgumentException if grid is null
+   */
+  public static NeighborTable of(Grid grid) {
+    if (grid == null) {
+      throw new IllegalArgumentException("Grid cannot be null");
+    }
+    int rows = grid.getTotalRows();
+    int cols = grid.getTotalColumns();
+    boolean[] holes = new boolean[rows * cols];
+    for (int row = 0; row < rows; row++) {
+      for (int col = 0; col < cols; col++) {
+        holes[row * cols + col] =
+                grid.getCellState(grid.getCoordinate(row, col)) == CellState.HOLE;
+      }
+    }
+    return new NeighborTable(rows, cols, holes);
+  }
+
+  /**
+   * Gets the number of rows in the described grid.
+   *
+   * @return number of rows
+   */
+  public int getRows() {
+    return rows;
+  }
+
+  /**
+   * Gets the number of columns in the described grid.
+   *
+   * @return number of columns
+   */
+  public int getColumns() {
+    return cols;
+  }
+
+  /**
+   * Converts a position into its row-major cell index.
+   *
+   * @param position the position to convert
+   * @return the cell index
+   * @throws IllegalArgumentException if position is null or outside the grid
+   */
+  public int indexOf(Coordinate position) {
+    if (position == null) {
+      throw new IllegalArgumentException("Position cannot be null");
+    }
+    if (position.getRow() < 0 || position.getRow() >= rows
+            || position.getCol() < 0 || position.getCol() >= cols) {
+      throw new IllegalArgumentException("Invalid position");
+    }
+    return position.getRow() * cols + position.getCol();
+  }
+
+  /**
+   * Gets how many card cells border a cell.
+   *
+   * @param cell the cell index
+   * @return number of neighbors, from 0 to 4
+   */
+  public int getNeighborCount(int cell) {
+    return counts[cell];
+  }
+
+  /**
+   * Gets the index of one of a cell's neighbors.
+   *
+   * @param cell the cell index
+   * @param i which neighbor, below {@link #getNeighborCount}
+   * @return the neighbor's cell index
+   */
+  public int getNeighbor(int cell, int i) {
+    return neighbors[cell * 4 + i];
+  }
+
+  /**
+   * Gets the direction a card in the cell attacks in to reach one of its neighbors.
+   *
+   * @param cell the cell index
+   * @param i which neighbor, below {@link #getNeighborCount}
+   * @return the attack direction
+   */
+  public Direction getDirection(int cell, int i) {
+    return directions[cell * 4 + i];
+  }
+}
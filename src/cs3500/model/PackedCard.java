@@ -0,0 +1,128 @@
+package cs3500.model;
+
+/**
+ * Encodes a card's four attack values into a single short for the AI engine.
+ *
+ * <p>Each value takes four bits, at bit 4 * {@link Direction#ordinal()}, so values from 0 to
+ * {@link #MAX_VALUE} fit, which covers 1 to 9 and A (10) from the card files. Ownership is
+ * not part of a card; engines keep it on their board, for example as a bitset of the cells
+ * owned by blue. Battles are decided by table lookups on the packed values instead of calls
+ * through {@link Card#getValue}.
+ *
+ * <p>Packing drops only the identifier, which {@link #toCard} takes back, so a card
+ * converts to a short and back without loss.
+ */
+public final class PackedCard {
+  /**
+   * Largest value a packed card can hold.
+   */
+  public static final int MAX_VALUE = 15;
+
+  private static final int BITS = 4;
+  // Bit offset of the value a card defends with against an attack in each direction
+  private static final int[] DEFEND_SHIFT = new int[4];
+  // WINS[attack << 4 | defend] tells whether the attack value beats the defending one
+  private static final boolean[] WINS = new boolean[256];
+
+  static {
+    for (Direction direction : Direction.values()) {
+      DEFEND_SHIFT[direction.ordinal()] = direction.getOpposite().ordinal() * BITS;
+    }
+    for (int attack = 0; attack <= MAX_VALUE; attack++) {
+      for (int defend = 0; defend <= MAX_VALUE; defend++) {
+        WINS[attack << BITS | defend] = attack > defend;
+      }
+    }
+  }
+
+  private PackedCard() {
+  }
+
+  /**
+   * Packs the values of a card.
+   *
+   * @param card the card to pack
+   * @return the packed values
+   * @throws IllegalArgumentException if card is null or has a value above {@link #MAX_VALUE}
+   */
+  public static short pack(Card card) {
+    if (card == null) {
+      throw new IllegalArgumentException("Card cannot be null");
+    }
+    return pack(card.getValue(Direction.NORTH), card.getValue(Direction.SOUTH),
+            card.getValue(Direction.EAST), card.getValue(Direction.WEST));
+  }
+
+  /**
+   * Packs four attack values.
+   *
+   * @param north the value in the north direction
+   * @param south the value in the south direction
+   * @param east the value in the east direction
+   * @param west the value in the west direction
+   * @return the packed values
+   * @throws IllegalArgumentException if a value is negative or above {@link #MAX_VALUE}
+   */
+  public static short pack(int north, int south, int east, int west) {
+    int packed = 0;
+    int[] values = {north, south, east, west};
+    for (int side = 0; side < 4; side++) {
+      if (values[side] < 0 || values[side] > MAX_VALUE) {
+        throw new IllegalArgumentException("Card values must be between 0 and " + MAX_VALUE);
+      }
+      packed |= values[side] << (side * BITS);
+    }
+    return (short) packed;
+  }
+
+  /**
+   * Gets one value of a packed card.
+   *
+   * @param packed the packed values
+   * @param direction the direction of the value
+   * @return the value
+   */
+  public static int getValue(short packed, Direction direction) {
+    return getValue(packed, direction.ordinal());
+  }
+
+  /**
+   * Gets one value of a packed card by direction ordinal.
+   *
+   * @param packed the packed values
+   * @param side the {@link Direction#ordinal()} of the value
+   * @return the value
+   */
+  public static int getValue(short packed, int side) {
+    return (packed >>> (side * BITS)) & MAX_VALUE;
+  }
+
+  /**
+   * Tells whether a card attacking in the given direction beats the card it reaches, as
+   * {@link Board#isCardWinningBattle} does for unpacked cards.
+   *
+   * @param attacker the attacking card's packed values
+   * @param defender the defending card's packed values
+   * @param side the {@link Direction#ordinal()} of the attack
+   * @return true if the attacker wins
+   */
+  public static boolean beats(short attacker, short defender, int side) {
+    int attack = (attacker >>> (side * BITS)) & MAX_VALUE;
+    int defend = (defender >>> DEFEND_SHIFT[side]) & MAX_VALUE;
+    return WINS[attack << BITS | defend];
+  }
+
+  /**
+   * Rebuilds a card from its packed values.
+   *
+   * @param identifier the card's identifier
+   * @param packed the packed values
+   * @return a new card with the given identifier and values
+   * @throws IllegalArgumentException if identifier is null
+   */
+  public static Card toCard(String identifier, short packed) {
+    return new GameCard(identifier,
+            getValue(packed, Direction.NORTH), getValue(packed, Direction.EAST),
+            getValue(packed, Direction.SOUTH), getValue(packed, Direction.WEST));
+  }
+}
@@ -0,0 +1,99 @@
+package cs3500.model;
+
+/**
+ * Immutable fixed-size array that shares structure between versions.
+ *
+ * <p>Elements live in the leaves of a trie with 16 slots per node. Changing an element copies
+ * only the nodes on the path from the root to its leaf, so a new version costs a few small
+ * arrays and shares every other node with the version it came from. A missing node stands
+ * for a run of nulls, which keeps a mostly empty array small.
+ *
+ * @param <T> the element type
+ */
+final class PersistentArray<T> {
+  private static final int BITS = 4;
+  private static final int WIDTH = 1 << BITS;
+  private static final int MASK = WIDTH - 1;
+
+  private final int size;
+  private final int shift;
+  private final Object[] root;
+
+  private PersistentArray(int size, int shift, Object[] root) {
+    this.size = size;
+    this.shift = shift;
+    this.root = root;
+  }
+
+  /**
+   * Creates an array of the given size with every element null.
+   *
+   * @param size number of elements
+   * @param <T> the element type
+   * @return an empty array
+   * @throws IllegalArgumentException if size is negative
+   */
+  static <T> PersistentArray<T> empty(int size) {
+    if (size < 0) {
+      throw new IllegalArgumentException("Size cannot be negative");
+    }
+    int shift = 0;
+    while (size > (WIDTH << shift)) {
+      shift += BITS;
+    }
+    return new PersistentArray<>(size, shift, null);
+  }
+
+  int size() {
+    return size;
+  }
+
+  /**
+   * Gets an element.
+   *
+   * @param index the element's index
+   * @return the element, or null if it was never set
+   * @throws IndexOutOfBoundsException if index is outside the array
+   */
+  @SuppressWarnings("unchecked")
+  T get(int index) {
+    checkIndex(index);
+    Object[] node = root;
+    for (int level = shift; node != null && level > 0; level -= BITS) {
+      node = (Object[]) node[(index >>> level) & MASK];
+    }
+    return node == null ? null : (T) node[index & MASK];
+  }
+
+  /**
+   * Returns a version of this array with one element replaced. This array is unchanged.
+   *
+   * @param index the element's index
+   * @param value the new element, or null
+   * @return the new version, or this array if the element already had that value
+   * @throws IndexOutOfBoundsException if index is outside the array
+   */
+  PersistentArray<T> with(int index, T value) {
+    if (get(index) == value) {
+      return this;
+    }
+    return new PersistentArray<>(size, shift, withIn(root, shift, index, value));
+  }
+
+  private static Object[] withIn(Object[] node, int level, int index, Object value) {
+    Object[] copy = node == null ? new Object[WIDTH] : node.clone();
+    int slot = (index >>> level) & MASK;
+    if (level == 0) {
+      copy[slot] = value;
+    } else {
+      copy[slot] = withIn((Object[]) copy[slot], level - BITS, index, value);
+    }
+    return copy;
+  }
+
+  private void checkIndex(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index " + index + " outside array of size " + size);
+    }
+  }
+}
@@ -64,4 +64,14 @@ public interface ReadOnlyThreeTriosModel {
    * @return the winner of the game, or null if game is not over
    */
   PlayerColor getWinner();
-}
\ No newline at end of file
+
+  /**
+   * Gets a 64-bit Zobrist hash of the position: the cards on the board and their owners,
+   * the cards in both hands and the player to move, combined as described in
+   * {@link Zobrist}. The hash is kept up to date as moves are played, so reading it is
+   * constant time, and equal positions hash equally across separate copies of a game.
+   *
+   * @return the position's hash
+   */
+  long getPositionHash();
+}
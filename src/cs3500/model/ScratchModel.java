@@ -0,0 +1,113 @@
+package cs3500.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Private copy of a model's position for evaluating moves away from the live model.
+ *
+ * <p>Cards are immutable and ownership lives on the board, so a scratch model copies only
+ * the board and shares every card with the live model; {@link #getPotentialFlips} simulates
+ * moves on its own board only, and moves chosen on it can be played on the live model as is.
+ * Each scratch model must be used by one thread at a time; give every worker its own.
+ */
+public class ScratchModel implements ReadOnlyThreeTriosModel {
+  private final Board board;
+  private final BattleHandler battleHandler;
+  private final Map<PlayerColor, List<Card>> hands;
+  private final PlayerColor currentPlayer;
+  private final GameState gameState;
+  private final PlayerColor winner;
+  private final long handHash;
+
+  /**
+   * Copies the current position of the given model.
+   *
+   * @param model the model to copy
+   * @throws IllegalArgumentException if model is null
+   */
+  public ScratchModel(ReadOnlyThreeTriosModel model) {
+    if (model == null) {
+      throw new IllegalArgumentException("Model cannot be null");
+    }
+
+    this.board = model.getBoard().copy();
+    this.hands = new EnumMap<>(PlayerColor.class);
+    long hashOfHands = 0;
+    for (PlayerColor color : PlayerColor.values()) {
+      List<Card> hand = new ArrayList<>(model.getPlayerHand(color));
+      for (Card card : hand) {
+        hashOfHands ^= Zobrist.handKey(Zobrist.cardKey(card), color);
+      }
+      hands.put(color, Collections.unmodifiableList(hand));
+    }
+
+    this.battleHandler = new GameBattleHandler(board);
+    this.currentPlayer = model.getCurrentPlayerColor();
+    this.gameState = model.getGameState();
+    this.winner = model.getWinner();
+    this.handHash = hashOfHands;
+  }
+
+  @Override
+  public Board getBoard() {
+    return board;
+  }
+
+  @Override
+  public List<Card> getPlayerHand(PlayerColor player) {
+    if (player == null) {
+      throw new IllegalArgumentException("Player cannot be null");
+    }
+    return hands.get(player);
+  }
+
+  @Override
+  public PlayerColor getCurrentPlayerColor() {
+    return currentPlayer;
+  }
+
+  @Override
+  public int getPotentialFlips(Card card, Coordinate position) {
+    if (card == null || position == null) {
+      throw new IllegalArgumentException("Card and position cannot be null");
+    }
+    if (!board.canPlaceCard(position)) {
+      return 0;
+    }
+
+    // A card from the opponent's hand attacks for the opponent, any other for the mover
+    PlayerColor owner = hands.get(currentPlayer.getOpponentColor()).contains(card)
+            ? currentPlayer.getOpponentColor() : currentPlayer;
+    int totalFlips = battleHandler.applyMove(card, position, owner);
+    battleHandler.undoMove();
+    return totalFlips;
+  }
+
+  @Override
+  public GameState getGameState() {
+    return gameState;
+  }
+
+  @Override
+  public int getScore(PlayerColor player) {
+    if (player == null) {
+      throw new IllegalArgumentException("Player cannot be null");
+    }
+    return board.getCardCount(player) + hands.get(player).size();
+  }
+
+  @Override
+  public PlayerColor getWinner() {
+    return winner;
+  }
+
+  @Override
+  public long getPositionHash() {
+    long hash = board.getHash() ^ handHash;
+    return currentPlayer == PlayerColor.BLUE ? hash ^ Zobrist.SIDE_KEY : hash;
+  }
+}
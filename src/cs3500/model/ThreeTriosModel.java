@@ -54,4 +54,21 @@ public interface ThreeTriosModel extends ReadOnlyThreeTriosModel {
    * @throws IllegalStateException if move is illegal or not current player's turn
    */
   void playCard(Card card, Coordinate position);
+
+  /**
+   * Registers a listener to be told about every later change to the game.
+   *
+   * @param listener the listener to add
+   * @throws IllegalArgumentException if listener is null
+   */
+  void addModelListener(ModelListener listener);
+
+  /**
+   * Stops telling a listener about changes. Removing a listener that is not registered
+   * does nothing.
+   *
+   * @param listener the listener to remove
+   * @throws IllegalArgumentException if listener is null
+   */
+  void removeModelListener(ModelListener listener);
 }
\ No newline at end of file
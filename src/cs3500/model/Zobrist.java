@@ -0,0 +1,92 @@
+package cs3500.model;
+
+/**
+ * Zobrist keys for hashing game positions.
+ *
+ * <p>A position hash is the XOR of one key per card on the board (for its cell and owner),
+ * one key per card in a hand (for that hand) and {@link #SIDE_KEY} when blue is to move.
+ * Placing, flipping or removing a card therefore updates a hash with one or two XORs.
+ *
+ * <p>Keys are derived from each card's identifier and values with the SplitMix64 finalizer
+ * instead of being drawn from a random table, so separate copies of one game, and separate
+ * runs of the program, hash the same position to the same value. Cells are addressed by
+ * row-major index, as in {@link NeighborTable}.
+ */
+public final class Zobrist {
+  /**
+   * Key XORed into a position hash while blue is the player to move.
+   */
+  public static final long SIDE_KEY = mix(0x5DEECE66DL);
+
+  private static final long CELL_STEP = 0x9E3779B97F4A7C15L;
+  private static final long[] HAND_KEYS = {mix(0xC2B2AE3D27D4EB4FL), mix(0x165667B19E3779F9L)};
+
+  private Zobrist() {
+  }
+
+  /**
+   * Gets the key identifying a card by its identifier and values.
+   *
+   * @param card the card
+   * @return the card's key
+   * @throws IllegalArgumentException if card is null
+   */
+  public static long cardKey(Card card) {
+    if (card == null) {
+      throw new IllegalArgumentException("Card cannot be null");
+    }
+    long key = card.getIdentifier().hashCode();
+    key = key * 31 + card.getValue(Direction.NORTH);
+    key = key * 31 + card.getValue(Direction.SOUTH);
+    key = key * 31 + card.getValue(Direction.WEST);
+    key = key * 31 + card.getValue(Direction.EAST);
+    return mix(key);
+  }
+
+  /**
+   * Gets the key of a card lying on a cell with the given owner.
+   *
+   * @param cell row-major index of the cell
+   * @param cardKey the card's {@link #cardKey}
+   * @param owner the card's owner
+   * @return the key to XOR into the position hash
+   */
+  public static long cellKey(int cell, long cardKey, PlayerColor owner) {
+    return mix(cardKey + (cell * 2L + owner.ordinal()) * CELL_STEP);
+  }
+
+  /**
+   * Gets the key of a card held in a player's hand.
+   *
+   * @param cardKey the card's {@link #cardKey}
+   * @param hand the player holding the card
+   * @return the key to XOR into the position hash
+   */
+  public static long handKey(long cardKey, PlayerColor hand) {
+    return mix(cardKey ^ HAND_KEYS[hand.ordinal()]);
+  }
+
+  /**
+   * Gets the key of a card on a board cell.
+   *
+   * @param cell row-major index of the cell
+   * @param card the card
+   * @param owner the card's owner on the board
+   * @return the key to XOR into the position hash
+   */
+  static long boardKey(int cell, Card card, PlayerColor owner) {
+    return cellKey(cell, cardKey(card), owner);
+  }
+
+  /**
+   * SplitMix64 finalizer, used to derive well-spread keys without a key table.
+   *
+   * @param z the value to mix
+   * @return the mixed value
+   */
+  public static long mix(long z) {
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+}
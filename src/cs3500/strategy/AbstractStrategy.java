@@ -4,15 +4,31 @@ import cs3500.model.Card;
 import cs3500.model.Coordinate;
 import cs3500.model.PlayerColor;
 import cs3500.model.ReadOnlyThreeTriosModel;
+import cs3500.model.ScratchModel;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * Base class for implementing game strategies.
  * Provides common functionality for evaluating and selecting moves.
  */
 public abstract class AbstractStrategy implements Strategy {
+  private ForkJoinPool evaluationPool;
+
+  /**
+   * Evaluates candidate moves in parallel on the given pool, or serially when null.
+   * Each worker evaluates its share of the moves on its own ScratchModel copy, and the
+   * moves are collected in the same order as the serial path, so the chosen move is
+   * identical either way.
+   *
+   * @param evaluationPool pool to evaluate moves on, or null for the calling thread
+   */
+  public void setEvaluationPool(ForkJoinPool evaluationPool) {
+    this.evaluationPool = evaluationPool;
+  }
 
   @Override
   public Move chooseMove(ReadOnlyThreeTriosModel model, PlayerColor player) {
@@ -49,6 +65,17 @@ public abstract class AbstractStrategy implements Strategy {
     List<Card> hand = model.getPlayerHand(player);
     List<Coordinate> emptyCells = model.getBoard().getEmptyCardCells();
 
+    if (evaluationPool != null && emptyCells.size() * hand.size() > 1) {
+      int[] values = new int[emptyCells.size() * hand.size()];
+      evaluationPool.invoke(new EvaluationTask(model, player, hand, emptyCells, values,
+              0, values.length, leafSize(values.length)));
+      for (int i = 0; i < values.length; i++) {
+        moves.add(new Move(hand.get(i % hand.size()), emptyCells.get(i / hand.size()),
+                values[i]));
+      }
+      return moves;
+    }
+
     for (Coordinate pos : emptyCells) {
       for (Card card : hand) {
         int value = evaluateMove(model, player, card, pos);
@@ -59,6 +86,56 @@ public abstract class AbstractStrategy implements Strategy {
     return moves;
   }
 
+  private int leafSize(int moveCount) {
+    // A few leaves per worker balances load without copying the model too often
+    return Math.max(1, moveCount / (evaluationPool.getParallelism() * 4));
+  }
+
+  /**
+   * Evaluates a range of candidate moves, indexed cell-major as in the serial loop.
+   * Ranges above the leaf size are split in half; each leaf copies the model once.
+   */
+  private class EvaluationTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final ReadOnlyThreeTriosModel model;
+    private final PlayerColor player;
+    private final List<Card> hand;
+    private final List<Coordinate> cells;
+    private final int[] values;
+    private final int from;
+    private final int to;
+    private final int leafSize;
+
+    EvaluationTask(ReadOnlyThreeTriosModel model, PlayerColor player, List<Card> hand,
+                   List<Coordinate> cells, int[] values, int from, int to, int leafSize) {
+      this.model = model;
+      this.player = player;
+      this.hand = hand;
+      this.cells = cells;
+      this.values = values;
+      this.from = from;
+      this.to = to;
+      this.leafSize = leafSize;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from > leafSize) {
+        int mid = (from + to) >>> 1;
+        invokeAll(new EvaluationTask(model, player, hand, cells, values, from, mid, leafSize),
+                new EvaluationTask(model, player, hand, cells, values, mid, to, leafSize));
+        return;
+      }
+
+      ScratchModel scratch = new ScratchModel(model);
+      for (int i = from; i < to; i++) {
+        Card card = hand.get(i % hand.size());
+        values[i] = evaluateMove(scratch, player, card, cells.get(i / hand.size()));
+      }
+    }
+  }
+
   /**
    * Generates a default move when no valid moves are found.
    * Uses uppermost-leftmost position and first card in hand.
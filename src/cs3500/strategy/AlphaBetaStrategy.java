@@ -0,0 +1,283 @@
+package cs3500.strategy;
+
+import cs3500.model.GameState;
+import cs3500.model.PlayerColor;
+import cs3500.model.ReadOnlyThreeTriosModel;
+import java.util.Arrays;
+
+/**
+ * Strategy that looks several plies ahead with alpha-beta search.
+ *
+ * <p>The search runs on a {@link SearchPosition} copied from the model, deepening one ply
+ * at a time until the board is full, the depth limit is reached, the per-move time budget
+ * runs out or its thread is interrupted, and then plays the best move of the last finished
+ * depth. Moves are tried in order of how many cards they flip, with the best move
+ * remembered in the transposition table tried first. Positions are scored by the score
+ * difference from the mover's side, and finished games by who won.
+ */
+public class AlphaBetaStrategy implements Strategy {
+  private static final int WIN = 10_000;
+  private static final int INFINITY = 1_000_000;
+  private static final long DEFAULT_TIME_BUDGET_MILLIS = 80;
+  private static final int DEFAULT_TABLE_SIZE = 1 << 18;
+
+  private final int maxDepth;
+  private final long timeBudgetNanos;
+  private final TranspositionTable table;
+
+  // State of the search in progress
+  private SearchPosition position;
+  private int[][] moveBuffers;
+  private int[][] scratchBuffers;
+  private long[][] orderBuffers;
+  private long deadline;
+  private long nodes;
+  private boolean aborted;
+
+  /**
+   * Creates a strategy with no depth limit, an 80 ms budget per move and a table of
+   * 2^18 entries.
+   */
+  public AlphaBetaStrategy() {
+    this(Integer.MAX_VALUE, DEFAULT_TIME_BUDGET_MILLIS, DEFAULT_TABLE_SIZE);
+  }
+
+  /**
+   * Creates a strategy with no depth limit and an 80 ms budget per move that searches
+   * through the given table.
+   *
+   * @param table the transposition table to use, which may be kept across games
+   * @throws IllegalArgumentException if table is null
+   */
+  public AlphaBetaStrategy(TranspositionTable table) {
+    this(Integer.MAX_VALUE, DEFAULT_TIME_BUDGET_MILLIS, table);
+  }
+
+  /**
+   * Constructor for the AlphaBetaStrategy class.
+   *
+   * @param maxDepth maximum number of plies to search
+   * @param timeBudgetMillis time allowed per move, in milliseconds
+   * @param tableSize number of transposition table entries
+   * @throws IllegalArgumentException if any argument is not positive
+   */
+  public AlphaBetaStrategy(int maxDepth, long timeBudgetMillis, int tableSize) {
+    this(maxDepth, timeBudgetMillis, newTable(tableSize));
+  }
+
+  /**
+   * Constructor for an AlphaBetaStrategy that searches through an existing table, so that
+   * the table can outlive the strategy.
+   *
+   * @param maxDepth maximum number of plies to search
+   * @param timeBudgetMillis time allowed per move, in milliseconds
+   * @param table the transposition table to use
+   * @throws IllegalArgumentException if table is null or the depth or budget is not positive
+   */
+  public AlphaBetaStrategy(int maxDepth, long timeBudgetMillis, TranspositionTable table) {
+    if (maxDepth < 1 || timeBudgetMillis < 1) {
+      throw new IllegalArgumentException("Depth, time budget and table size must be positive");
+    }
+    if (table == null) {
+      throw new IllegalArgumentException("Table cannot be null");
+    }
+    this.maxDepth = maxDepth;
+    this.timeBudgetNanos = timeBudgetMillis * 1_000_000L;
+    this.table = table;
+  }
+
+  private static TranspositionTable newTable(int tableSize) {
+    if (tableSize < 2) {
+      throw new IllegalArgumentException("Depth, time budget and table size must be positive");
+    }
+    return new TranspositionTable(tableSize);
+  }
+
+  @Override
+  public Move chooseMove(ReadOnlyThreeTriosModel model, PlayerColor player) {
+    if (model.getGameState() == GameState.GAME_OVER) {
+      return null;
+    }
+    if (model.getPlayerHand(player).isEmpty()
+            || model.getBoard().getEmptyCardCells().isEmpty()) {
+      return null;
+    }
+
+    deadline = System.nanoTime() + timeBudgetNanos;
+    // Hashes cover the board, both hands and the side to move, so the table stays valid
+    // from move to move, whichever model copy the position comes from
+    table.newSearch();
+    position = new SearchPosition(model, player);
+    aborted = false;
+    nodes = 0;
+
+    int depthLimit = Math.min(maxDepth, position.getEmptyCount());
+    moveBuffers = new int[depthLimit + 1][];
+    scratchBuffers = new int[depthLimit + 1][];
+    orderBuffers = new long[depthLimit + 1][];
+
+    int[] rootMoves = moveBuffer(0);
+    int count = position.generateMoves(rootMoves);
+    orderMoves(0, count, TranspositionTable.NO_MOVE);
+    int best = rootMoves[0];
+
+    for (int depth = 1; depth <= depthLimit; depth++) {
+      int iterationBest = searchRoot(count, depth);
+      if (aborted) {
+        break;
+      }
+      best = iterationBest;
+      // Search the previous best first at the next depth
+      int index = indexOf(rootMoves, count, best);
+      System.arraycopy(rootMoves, 0, rootMoves, 1, index);
+      rootMoves[0] = best;
+    }
+
+    int card = position.moveCard(best);
+    int cell = position.moveCell(best);
+    int flips = position.play(card, cell);
+    position.undo();
+    return new Move(position.getCard(card), position.getCoordinate(cell), flips);
+  }
+
+  private int searchRoot(int count, int depth) {
+    int[] moves = moveBuffers[0];
+    int alpha = -INFINITY;
+    int bestMove = moves[0];
+    for (int i = 0; i < count; i++) {
+      int move = moves[i];
+      position.play(position.moveCard(move), position.moveCell(move));
+      int value = -search(depth - 1, -INFINITY, -alpha, 1);
+      position.undo();
+      if (aborted) {
+        return bestMove;
+      }
+      if (value > alpha) {
+        alpha = value;
+        bestMove = move;
+      }
+    }
+    table.store(position.getHash(), depth, alpha, TranspositionTable.EXACT, bestMove);
+    return bestMove;
+  }
+
+  private int search(int depth, int alpha, int beta, int ply) {
+    if ((++nodes & 127) == 0
+            && (System.nanoTime() - deadline > 0 || Thread.currentThread().isInterrupted())) {
+      aborted = true;
+    }
+    if (aborted) {
+      return 0;
+    }
+    if (position.isOver()) {
+      int diff = scoreDifference();
+      return diff > 0 ? WIN + diff : diff < 0 ? -WIN + diff : 0;
+    }
+    if (depth == 0) {
+      return scoreDifference();
+    }
+
+    long key = position.getHash();
+    int originalAlpha = alpha;
+    int tableMove = TranspositionTable.NO_MOVE;
+    int slot = table.probe(key);
+    if (slot >= 0) {
+      tableMove = table.getMove(slot);
+      if (table.getDepth(slot) >= depth) {
+        int stored = table.getValue(slot);
+        int flag = table.getFlag(slot);
+        if (flag == TranspositionTable.EXACT) {
+          return stored;
+        } else if (flag == TranspositionTable.LOWER_BOUND) {
+          alpha = Math.max(alpha, stored);
+        } else {
+          beta = Math.min(beta, stored);
+        }
+        if (alpha >= beta) {
+          return stored;
+        }
+      }
+    }
+
+    int[] moves = moveBuffer(ply);
+    int count = position.generateMoves(moves);
+    if (depth > 1) {
+      orderMoves(ply, count, tableMove);
+    }
+
+    int best = -INFINITY;
+    int bestMove = TranspositionTable.NO_MOVE;
+    for (int i = 0; i < count; i++) {
+      int move = moves[i];
+      position.play(position.moveCard(move), position.moveCell(move));
+      int value = -search(depth - 1, -beta, -alpha, ply + 1);
+      position.undo();
+      if (aborted) {
+        return 0;
+      }
+      if (value > best) {
+        best = value;
+        bestMove = move;
+      }
+      alpha = Math.max(alpha, value);
+      if (alpha >= beta) {
+        break;
+      }
+    }
+
+    int flag = best <= originalAlpha ? TranspositionTable.UPPER_BOUND
+            : best >= beta ? TranspositionTable.LOWER_BOUND : TranspositionTable.EXACT;
+    table.store(key, depth, best, flag, bestMove);
+    return best;
+  }
+
+  /**
+   * Sorts the moves at a ply by flips, most first, with the table move ahead of all.
+   * Ties keep generation order, so earlier cells and cards in hand come first.
+   */
+  private void orderMoves(int ply, int count, int tableMove) {
+    int[] moves = moveBuffers[ply];
+    int[] scratch = scratchBuffers[ply];
+    long[] order = orderBuffers[ply];
+    for (int i = 0; i < count; i++) {
+      int move = moves[i];
+      int priority;
+      if (move == tableMove) {
+        priority = Integer.MAX_VALUE;
+      } else {
+        priority = position.play(position.moveCard(move), position.moveCell(move));
+        position.undo();
+      }
+      order[i] = ((long) (Integer.MAX_VALUE - priority) << 32) | i;
+      scratch[i] = move;
+    }
+    Arrays.sort(order, 0, count);
+    for (int i = 0; i < count; i++) {
+      moves[i] = scratch[(int) order[i]];
+    }
+  }
+
+  private int[] moveBuffer(int ply) {
+    if (moveBuffers[ply] == null) {
+      int size = position.maxMoves();
+      moveBuffers[ply] = new int[size];
+      scratchBuffers[ply] = new int[size];
+      orderBuffers[ply] = new long[size];
+    }
+    return moveBuffers[ply];
+  }
+
+  private int scoreDifference() {
+    int mover = position.getToMove();
+    return position.getScore(mover) - position.getScore(1 - mover);
+  }
+
+  private static int indexOf(int[] moves, int count, int move) {
+    for (int i = 0; i < count; i++) {
+      if (moves[i] == move) {
+        return i;
+      }
+    }
+    throw new IllegalStateException("Move not found");
+  }
+}
@@ -0,0 +1,395 @@
+package cs3500.strategy;
+
+import cs3500.model.Board;
+import cs3500.model.Card;
+import cs3500.model.CellState;
+import cs3500.model.Coordinate;
+import cs3500.model.GameCoordinate;
+import cs3500.model.Grid;
+import cs3500.model.NeighborTable;
+import cs3500.model.PlayerColor;
+import cs3500.model.ReadOnlyThreeTriosModel;
+import cs3500.model.Zobrist;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Bounded memo of flip counts that strategies can share across turns and games.
+ *
+ * <p>The flips a move earns depend only on the card, its owner and the cards connected to the
+ * chosen cell through occupied cells, since a combo chain cannot cross an empty cell. Entries
+ * are therefore keyed by the card, the cell, the mover and a signature of that region: the XOR
+ * of the {@link Zobrist} keys of its cards. A move whose region did not change since an earlier
+ * turn, or an earlier game, reuses the stored count.
+ *
+ * <p>The cache keeps a per-cell view of every board it evaluates on, so games played in turn
+ * do not evict each other's views. When a board's hash changes, only its previously empty
+ * cells are read to find the new cards, and only the regions of those cards are read for
+ * flips, which also marks the signatures of the empty cells around them as stale. Entries live
+ * in an open-addressing table and are evicted with the CLOCK algorithm: a hit marks an entry
+ * as referenced, and the clock hand skips referenced entries once before replacing them.
+ *
+ * <p>A cache is not thread-safe. Strategies on one thread may share a cache, and strategies
+ * on other threads should get their own, for example through a {@link ThreadLocal}.
+ */
+public final class EvaluationCache {
+  private final int capacity;
+  private final int mask;
+  // Keys of zero mark free slots
+  private final long[] keys;
+  private final int[] values;
+  private final boolean[] referenced;
+  private int size;
+  private int hand;
+
+  private long hits;
+  private long misses;
+
+  // Boards are compared by identity, and views of finished games go away with their boards
+  private final Map<Board, BoardView> views;
+  private Board lastBoard;
+  private BoardView lastView;
+
+  /**
+   * Constructor for the EvaluationCache class.
+   *
+   * @param capacity maximum number of stored evaluations
+   * @throws IllegalArgumentException if capacity is not positive or above 2^28
+   */
+  public EvaluationCache(int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("Capacity must be positive");
+    }
+    if (capacity > 1 << 28) {
+      throw new IllegalArgumentException("Capacity is too large");
+    }
+    // At most half full, so probes stay short
+    int slots = Integer.highestOneBit(capacity) << 2;
+    this.capacity = capacity;
+    this.mask = slots - 1;
+    this.keys = new long[slots];
+    this.values = new int[slots];
+    this.referenced = new boolean[slots];
+    this.views = new WeakHashMap<>();
+  }
+
+  /**
+   * Gets the number of flips the given card would earn at the given position, from the cache
+   * when the surrounding region was seen before and from the model otherwise.
+   *
+   * @param model the model to evaluate on
+   * @param player the player the card belongs to
+   * @param card the card to play
+   * @param position the position to play it at
+   * @return the number of flips, as returned by {@link ReadOnlyThreeTriosModel#getPotentialFlips}
+   * @throws IllegalArgumentException if any argument is null
+   */
+  public int getPotentialFlips(ReadOnlyThreeTriosModel model, PlayerColor player,
+                               Card card, Coordinate position) {
+    if (model == null || player == null || card == null || position == null) {
+      throw new IllegalArgumentException("Arguments cannot be null");
+    }
+    Board board = model.getBoard();
+    if (!board.canPlaceCard(position)) {
+      // Occupied cells and holes are not worth remembering
+      return model.getPotentialFlips(card, position);
+    }
+    BoardView view = viewOf(board);
+    int cell = view.table.indexOf(position);
+
+    long key = Zobrist.mix(Zobrist.cardKey(card)
+            ^ Zobrist.mix(cell * 2L + player.ordinal()) ^ view.signatureOf(cell));
+    if (key == 0) {
+      key = 1;
+    }
+    int slot = find(key);
+    if (keys[slot] == key) {
+      hits++;
+      referenced[slot] = true;
+      return values[slot];
+    }
+    misses++;
+    int flips = model.getPotentialFlips(card, position);
+    store(key, flips);
+    return flips;
+  }
+
+  /**
+   * Gets how many lookups were answered from the cache.
+   *
+   * @return number of hits
+   */
+  public long getHits() {
+    return hits;
+  }
+
+  /**
+   * Gets how many lookups had to ask the model.
+   *
+   * @return number of misses
+   */
+  public long getMisses() {
+    return misses;
+  }
+
+  /**
+   * Gets the fraction of lookups answered from the cache.
+   *
+   * @return hits divided by lookups, or 0 before the first lookup
+   */
+  public double getHitRate() {
+    long lookups = hits + misses;
+    return lookups == 0 ? 0 : (double) hits / lookups;
+  }
+
+  /**
+   * Gets the number of stored evaluations.
+   *
+   * @return number of entries
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Removes every entry and resets the hit and miss counts.
+   */
+  public void clear() {
+    Arrays.fill(keys, 0);
+    Arrays.fill(referenced, false);
+    size = 0;
+    hand = 0;
+    hits = 0;
+    misses = 0;
+    views.clear();
+    lastBoard = null;
+    lastView = null;
+  }
+
+  /**
+   * Gets the slot holding the key, or the free slot where it would go.
+   */
+  private int find(long key) {
+    int slot = (int) key & mask;
+    while (keys[slot] != 0 && keys[slot] != key) {
+      slot = (slot + 1) & mask;
+    }
+    return slot;
+  }
+
+  private void store(long key, int value) {
+    if (size == capacity) {
+      while (keys[hand] == 0 || referenced[hand]) {
+        referenced[hand] = false;
+        hand = (hand + 1) & mask;
+      }
+      remove(hand);
+    }
+    int slot = find(key);
+    keys[slot] = key;
+    values[slot] = value;
+    referenced[slot] = false;
+    size++;
+  }
+
+  /**
+   * Empties a slot, shifting later entries of its probe run back so lookups still find them.
+   */
+  private void remove(int slot) {
+    int free = slot;
+    int next = (free + 1) & mask;
+    while (keys[next] != 0) {
+      int home = (int) keys[next] & mask;
+      if (((next - home) & mask) >= ((next - free) & mask)) {
+        keys[free] = keys[next];
+        values[free] = values[next];
+        referenced[free] = referenced[next];
+        free = next;
+      }
+      next = (next + 1) & mask;
+    }
+    keys[free] = 0;
+    referenced[free] = false;
+    size--;
+  }
+
+  /**
+   * Gets the view of a board, brought up to date with its cards.
+   */
+  private BoardView viewOf(Board board) {
+    BoardView view;
+    if (board == lastBoard) {
+      view = lastView;
+    } else {
+      view = views.get(board);
+      if (view == null) {
+        view = new BoardView(board);
+        views.put(board, view);
+      }
+      lastBoard = board;
+      lastView = view;
+    }
+    view.sync(board);
+    return view;
+  }
+
+  /**
+   * Per-cell keys and region signatures of one board, as of its last seen hash.
+   */
+  private static final class BoardView {
+    private final NeighborTable table;
+    // Null for holes
+    private final Coordinate[] positions;
+    private final long[] cardKeys;
+    private final long[] cellKeys;
+    private final long[] signatures;
+    private final boolean[] signatureKnown;
+    private final int[] empty;
+    private int emptyCount;
+    private long hash;
+
+    private final int[] visited;
+    private final int[] queue;
+    private int visitStamp;
+
+    BoardView(Board board) {
+      Grid grid = board.getGrid();
+      this.table = grid.getNeighborTable();
+      int cellCount = table.getRows() * table.getColumns();
+      this.positions = new Coordinate[cellCount];
+      for (int row = 0; row < table.getRows(); row++) {
+        for (int col = 0; col < table.getColumns(); col++) {
+          Coordinate position = new GameCoordinate(row, col);
+          if (grid.getCellState(position) != CellState.HOLE) {
+            positions[row * table.getColumns() + col] = position;
+          }
+        }
+      }
+      this.cardKeys = new long[cellCount];
+      this.cellKeys = new long[cellCount];
+      this.signatures = new long[cellCount];
+      this.signatureKnown = new boolean[cellCount];
+      this.empty = new int[cellCount];
+      this.visited = new int[cellCount];
+      this.queue = new int[cellCount];
+      readAll(board);
+    }
+
+    /**
+     * Brings the cell keys up to date with the board and forgets the signatures of cells
+     * whose region changed.
+     */
+    void sync(Board board) {
+      long boardHash = board.getHash();
+      if (boardHash == hash) {
+        return;
+      }
+
+      // Cards are only ever added to empty cells, so find the new ones there
+      int stamp = nextStamp();
+      int tail = 0;
+      long updated = hash;
+      for (int i = 0; i < emptyCount; ) {
+        int cell = empty[i];
+        Card card = board.getCardAt(positions[cell]);
+        if (card == null) {
+          i++;
+          continue;
+        }
+        empty[i] = empty[--emptyCount];
+        cardKeys[cell] = Zobrist.cardKey(card);
+        cellKeys[cell] = Zobrist.cellKey(cell, cardKeys[cell], board.getOwnerAt(positions[cell]));
+        updated ^= cellKeys[cell];
+        visited[cell] = stamp;
+        queue[tail++] = cell;
+      }
+
+      // Flips never leave the regions of the new cards, and those regions only grew, so
+      // every stale signature belongs to an empty cell bordering them
+      for (int head = 0; head < tail; head++) {
+        int cell = queue[head];
+        for (int i = 0; i < table.getNeighborCount(cell); i++) {
+          int adj = table.getNeighbor(cell, i);
+          if (visited[adj] == stamp) {
+            continue;
+          }
+          visited[adj] = stamp;
+          if (cellKeys[adj] == 0) {
+            signatureKnown[adj] = false;
+            continue;
+          }
+          long key = Zobrist.cellKey(adj, cardKeys[adj], board.getOwnerAt(positions[adj]));
+          updated ^= cellKeys[adj] ^ key;
+          cellKeys[adj] = key;
+          queue[tail++] = adj;
+        }
+      }
+
+      if (updated != boardHash) {
+        // Cards left the board or were replaced since the last look; start over
+        readAll(board);
+      } else {
+        hash = updated;
+      }
+    }
+
+    private void readAll(Board board) {
+      emptyCount = 0;
+      hash = 0;
+      for (int cell = 0; cell < positions.length; cell++) {
+        cardKeys[cell] = 0;
+        cellKeys[cell] = 0;
+        if (positions[cell] == null) {
+          continue;
+        }
+        Card card = board.getCardAt(positions[cell]);
+        if (card == null) {
+          empty[emptyCount++] = cell;
+        } else {
+          cardKeys[cell] = Zobrist.cardKey(card);
+          cellKeys[cell] = Zobrist.cellKey(cell, cardKeys[cell],
+                  board.getOwnerAt(positions[cell]));
+          hash ^= cellKeys[cell];
+        }
+      }
+      Arrays.fill(signatureKnown, false);
+    }
+
+    /**
+     * Gets the XOR of the keys of all cards connected to an empty cell through occupied cells.
+     */
+    long signatureOf(int cell) {
+      if (signatureKnown[cell]) {
+        return signatures[cell];
+      }
+      int stamp = nextStamp();
+      visited[cell] = stamp;
+      queue[0] = cell;
+      int tail = 1;
+      long signature = 0;
+      for (int head = 0; head < tail; head++) {
+        int current = queue[head];
+        for (int i = 0; i < table.getNeighborCount(current); i++) {
+          int adj = table.getNeighbor(current, i);
+          if (visited[adj] != stamp && cellKeys[adj] != 0) {
+            visited[adj] = stamp;
+            signature ^= cellKeys[adj];
+            queue[tail++] = adj;
+          }
+        }
+      }
+      signatures[cell] = signature;
+      signatureKnown[cell] = true;
+      return signature;
+    }
+
+    private int nextStamp() {
+      if (++visitStamp == 0) {
+        Arrays.fill(visited, 0);
+        visitStamp = 1;
+      }
+      return visitStamp;
+    }
+  }
+}
@@ -12,6 +12,28 @@ import java.util.List;
  * Strategy that chooses the move with the most flips.
  */
 public class MaxFlipsStrategy implements Strategy {
+  private final EvaluationCache cache;
+
+  /**
+   * Constructor for a MaxFlipsStrategy that asks the model for every evaluation.
+   */
+  public MaxFlipsStrategy() {
+    this.cache = null;
+  }
+
+  /**
+   * Constructor for a MaxFlipsStrategy that remembers its evaluations in the given cache.
+   * The cache may be shared with other strategies on the same thread and kept across games.
+   *
+   * @param cache the cache to evaluate through
+   * @throws IllegalArgumentException if cache is null
+   */
+  public MaxFlipsStrategy(EvaluationCache cache) {
+    if (cache == null) {
+      throw new IllegalArgumentException("Cache cannot be null");
+    }
+    this.cache = cache;
+  }
 
   @Override
   public Move chooseMove(ReadOnlyThreeTriosModel model, PlayerColor player) {
@@ -26,7 +48,9 @@ public class MaxFlipsStrategy implements Strategy {
     for (Card card : hand) {
       for (Coordinate pos : emptyCells) {
         if (model.getBoard().canPlaceCard(pos)) {
-          int flips = model.getPotentialFlips(card, pos);
+          int flips = cache == null
+                  ? model.getPotentialFlips(card, pos)
+                  : cache.getPotentialFlips(model, player, card, pos);
           if (flips > maxFlips
                   || (flips == maxFlips
                   && shouldPreferMove(bestMove, card, pos, model, player))) {
@@ -0,0 +1,328 @@
+package cs3500.strategy;
+
+import cs3500.model.GameState;
+import cs3500.model.PlayerColor;
+import cs3500.model.ReadOnlyThreeTriosModel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Strategy that chooses moves by Monte Carlo Tree Search.
+ *
+ * <p>Several workers grow one shared search tree (tree parallelism). Each worker owns a
+ * {@link SearchPosition} copy of the model, descends the tree by UCT, expands one node,
+ * finishes the game with a playout and backs the result up the path. While a worker is
+ * below a node it adds a virtual loss there, which steers the other workers towards
+ * different lines. When the time or playout budget runs out, or the calling thread is
+ * interrupted, the most-visited move at the root is played.
+ *
+ * <p>Playouts either play uniformly random moves or, in greedy mode, the move that flips
+ * the most cards out of a few random candidates.
+ */
+public class MctsStrategy implements Strategy {
+  private static final double EXPLORATION = Math.sqrt(2);
+  private static final int VIRTUAL_LOSS = 1;
+  private static final int GREEDY_CANDIDATES = 4;
+  private static final long DEFAULT_TIME_BUDGET_MILLIS = 80;
+  // Shared by every instance; idle helpers are reclaimed, so many games never pile up threads
+  private static final ExecutorService WORKERS = Executors.newCachedThreadPool(runnable -> {
+    Thread thread = new Thread(runnable, "three-trios-mcts");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  private final int threads;
+  private final long timeBudgetNanos;
+  private final int maxPlayouts;
+  private final boolean greedyPlayouts;
+  private final SplittableRandom seeds;
+
+  /**
+   * Creates a strategy using every core, an 80 ms budget per move, no playout limit and
+   * greedy playouts.
+   */
+  public MctsStrategy() {
+    this(Runtime.getRuntime().availableProcessors(), DEFAULT_TIME_BUDGET_MILLIS,
+            Integer.MAX_VALUE, true, System.nanoTime());
+  }
+
+  /**
+   * Constructor for the MctsStrategy class.
+   *
+   * @param threads number of workers searching the tree
+   * @param timeBudgetMillis time allowed per move, in milliseconds
+   * @param maxPlayouts maximum playouts per move across all workers
+   * @param greedyPlayouts whether playouts prefer moves that flip more cards
+   * @param seed seed for the workers' random sources
+   * @throws IllegalArgumentException if threads, the budget or maxPlayouts is not positive
+   */
+  public MctsStrategy(int threads, long timeBudgetMillis, int maxPlayouts,
+                      boolean greedyPlayouts, long seed) {
+    if (threads < 1 || timeBudgetMillis < 1 || maxPlayouts < 1) {
+      throw new IllegalArgumentException("Threads, time budget and playouts must be positive");
+    }
+    this.threads = threads;
+    this.timeBudgetNanos = timeBudgetMillis * 1_000_000L;
+    this.maxPlayouts = maxPlayouts;
+    this.greedyPlayouts = greedyPlayouts;
+    this.seeds = new SplittableRandom(seed);
+  }
+
+  @Override
+  public Move chooseMove(ReadOnlyThreeTriosModel model, PlayerColor player) {
+    if (model.getGameState() == GameState.GAME_OVER) {
+      return null;
+    }
+    if (model.getPlayerHand(player).isEmpty()
+            || model.getBoard().getEmptyCardCells().isEmpty()) {
+      return null;
+    }
+
+    long deadline = System.nanoTime() + timeBudgetNanos;
+    // Copy the model once per worker up front; workers never read the model itself
+    List<Search> searches = new ArrayList<>(threads);
+    for (int i = 0; i < threads; i++) {
+      searches.add(new Search(new SearchPosition(model, player), seeds.split(), deadline));
+    }
+    SearchPosition rootPosition = searches.get(0).position;
+    Node root = new Node(-1, -1);
+    root.expand(rootPosition);
+    AtomicInteger playouts = new AtomicInteger();
+
+    runWorkers(searches, root, playouts);
+
+    Node best = root.mostVisitedChild();
+    int card = rootPosition.moveCard(best.move);
+    int cell = rootPosition.moveCell(best.move);
+    int flips = rootPosition.play(card, cell);
+    rootPosition.undo();
+    return new Move(rootPosition.getCard(card), rootPosition.getCoordinate(cell), flips);
+  }
+
+  private void runWorkers(List<Search> searches, Node root, AtomicInteger playouts) {
+    Thread caller = Thread.currentThread();
+    List<Future<?>> helpers = new ArrayList<>();
+    for (int i = 1; i < searches.size(); i++) {
+      Search search = searches.get(i);
+      helpers.add(WORKERS.submit(() -> search.run(root, playouts, caller)));
+    }
+    searches.get(0).run(root, playouts, caller);
+
+    for (Future<?> helper : helpers) {
+      try {
+        helper.get();
+      } catch (ExecutionException e) {
+        throw new IllegalStateException("Search worker failed", e.getCause());
+      } catch (InterruptedException e) {
+        // Workers stop on their own once the caller is interrupted
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  /**
+   * One worker's private position, move buffer and random source.
+   */
+  private final class Search {
+    private final SearchPosition position;
+    private final SplittableRandom random;
+    private final long deadline;
+    private final int[] moves;
+    private final Node[] path;
+
+    Search(SearchPosition position, SplittableRandom random, long deadline) {
+      this.position = position;
+      this.random = random;
+      this.deadline = deadline;
+      this.moves = new int[position.maxMoves()];
+      this.path = new Node[position.getEmptyCount() + 1];
+    }
+
+    void run(Node root, AtomicInteger playouts, Thread caller) {
+      while (playouts.getAndIncrement() < maxPlayouts
+              && System.nanoTime() - deadline < 0 && !caller.isInterrupted()) {
+        iterate(root);
+      }
+    }
+
+    /**
+     * Runs one select, expand, playout and backup pass from the root.
+     */
+    private void iterate(Node root) {
+      int depth = 0;
+      Node node = root;
+      path[depth++] = node;
+      node.addVirtualLoss();
+
+      // Selection: follow UCT while the node has been expanded
+      while (node.isExpanded() && node.hasChildren()) {
+        node = node.select();
+        position.play(position.moveCard(node.move), position.moveCell(node.move));
+        path[depth++] = node;
+        node.addVirtualLoss();
+      }
+
+      // Expansion: grow a node once it has been visited, then step into one child
+      if (!position.isOver() && node.getVisits() > VIRTUAL_LOSS) {
+        node.expand(position);
+        if (node.hasChildren()) {
+          node = node.select();
+          position.play(position.moveCard(node.move), position.moveCell(node.move));
+          path[depth++] = node;
+          node.addVirtualLoss();
+        }
+      }
+
+      int treeMoves = depth - 1;
+      int playoutMoves = playout();
+      int winner = winner();
+      for (int i = 0; i < playoutMoves + treeMoves; i++) {
+        position.undo();
+      }
+
+      // Backup: each node scores the result for the player who moved into it
+      for (int i = depth - 1; i >= 0; i--) {
+        Node step = path[i];
+        double reward = winner < 0 ? 0.5 : winner == step.mover ? 1 : 0;
+        step.update(reward);
+        path[i] = null;
+      }
+    }
+
+    private int playout() {
+      int played = 0;
+      while (!position.isOver()) {
+        int count = position.generateMoves(moves);
+        int move = moves[random.nextInt(count)];
+        if (greedyPlayouts) {
+          int bestFlips = flips(move);
+          for (int i = 1; i < GREEDY_CANDIDATES; i++) {
+            int candidate = moves[random.nextInt(count)];
+            int candidateFlips = flips(candidate);
+            if (candidateFlips > bestFlips) {
+              bestFlips = candidateFlips;
+              move = candidate;
+            }
+          }
+        }
+        position.play(position.moveCard(move), position.moveCell(move));
+        played++;
+      }
+      return played;
+    }
+
+    private int flips(int move) {
+      int flips = position.play(position.moveCard(move), position.moveCell(move));
+      position.undo();
+      return flips;
+    }
+
+    private int winner() {
+      int red = position.getScore(SearchPosition.RED);
+      int blue = position.getScore(SearchPosition.BLUE);
+      return red > blue ? SearchPosition.RED : blue > red ? SearchPosition.BLUE : -1;
+    }
+  }
+
+  /**
+   * Node of the shared search tree. Statistics are guarded by the node's lock, and the
+   * children array is published once, fully built, through a volatile field.
+   */
+  private static final class Node {
+    private final int move;
+    private final int mover;
+    private volatile Node[] children;
+    private int visits;
+    private double wins;
+
+    Node(int move, int mover) {
+      this.move = move;
+      this.mover = mover;
+    }
+
+    boolean isExpanded() {
+      return children != null;
+    }
+
+    boolean hasChildren() {
+      return children.length > 0;
+    }
+
+    /**
+     * Creates a child per legal move of the position, if no other worker has yet.
+     */
+    void expand(SearchPosition position) {
+      if (children != null) {
+        return;
+      }
+      synchronized (this) {
+        if (children == null) {
+          int[] moves = new int[position.maxMoves()];
+          int count = position.generateMoves(moves);
+          Node[] created = new Node[count];
+          for (int i = 0; i < count; i++) {
+            created[i] = new Node(moves[i], position.getToMove());
+          }
+          children = created;
+        }
+      }
+    }
+
+    /**
+     * Picks the child with the highest UCT score, trying unvisited children first.
+     */
+    Node select() {
+      Node[] options = children;
+      double logVisits = Math.log(Math.max(1, getVisits()));
+      Node best = null;
+      double bestScore = Double.NEGATIVE_INFINITY;
+      for (Node child : options) {
+        double score;
+        synchronized (child) {
+          if (child.visits == 0) {
+            return child;
+          }
+          score = child.wins / child.visits
+                  + EXPLORATION * Math.sqrt(logVisits / child.visits);
+        }
+        if (score > bestScore) {
+          bestScore = score;
+          best = child;
+        }
+      }
+      return best;
+    }
+
+    Node mostVisitedChild() {
+      Node best = children[0];
+      for (Node child : children) {
+        if (child.getVisits() > best.getVisits()) {
+          best = child;
+        }
+      }
+      return best;
+    }
+
+    synchronized void addVirtualLoss() {
+      visits += VIRTUAL_LOSS;
+    }
+
+    /**
+     * Replaces this worker's virtual loss with the real result.
+     */
+    synchronized void update(double reward) {
+      visits += 1 - VIRTUAL_LOSS;
+      wins += reward;
+    }
+
+    synchronized int getVisits() {
+      return visits;
+    }
+  }
+}
@@ -0,0 +1,384 @@
+package cs3500.strategy;
+
+import cs3500.model.Card;
+import cs3500.model.Coordinate;
+import cs3500.model.NeighborTable;
+import cs3500.model.PackedCard;
+import cs3500.model.PlayerColor;
+import cs3500.model.ReadOnlyThreeTriosModel;
+import cs3500.model.Zobrist;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact, mutable copy of a game position used by the search strategies.
+ *
+ * <p>Cells are addressed by row-major index and cards by their index in {@link #getCard}.
+ * Playing a move resolves its battles and combo chain on int arrays and records the flipped
+ * cells, so a move can be undone exactly. The position never touches the model or its
+ * cards, so it is safe to search while the model is being displayed. Cards are held as
+ * {@link PackedCard} shorts and owners as a bitset of the cells blue owns, so battles are
+ * resolved on primitives without reaching into card objects.
+ *
+ * <p>The position also keeps a Zobrist hash of the board, both hands and the side to move,
+ * using the keys from {@link Zobrist}, so it equals the model's
+ * {@link cs3500.model.ReadOnlyThreeTriosModel#getPositionHash}. Since the hands are part of
+ * the hash, positions from different games or different turns never share a hash by
+ * construction, and a transposition table can be kept across searches.
+ */
+class SearchPosition {
+  static final int RED = 0;
+  static final int BLUE = 1;
+
+  private static final int EMPTY = -1;
+  private static final int HOLE = -2;
+
+  private final int rows;
+  private final int cols;
+  private final NeighborTable neighbors;
+  private final int[] neighborSides;
+  private final int[] cardAt;
+  // Bit c is set while blue owns the card on cell c
+  private final long[] blueCells;
+  private final Coordinate[] coordinates;
+  private final int[] moveCells;
+
+  private final Card[] cards;
+  private final short[] packed;
+  private final long[] cardKeys;
+  // Key of each card in the hand it was dealt to; zero for cards already on the board
+  private final long[] handKeys;
+  private final int[] valueClass;
+  private final int[][] hands;
+  private final boolean[] inHand;
+
+  private final int[] boardCount = new int[2];
+  private final int[] handCount = new int[2];
+  private int emptyCount;
+  private int toMove;
+  private long hash;
+
+  // Undo journal: flipped cells for all moves, and per-move frames
+  private final int[] queue;
+  private int[] flipJournal;
+  private int journalSize;
+  private final int[] frameCell;
+  private final int[] frameStart;
+  private int frameCount;
+
+  /**
+   * Copies the position of the given model with the given player to move.
+   *
+   * @param model the model to copy
+   * @param player the player to move
+   * @throws IllegalArgumentException if model or player is null, or a card has a value
+   *     above {@link PackedCard#MAX_VALUE}
+   */
+  SearchPosition(ReadOnlyThreeTriosModel model, PlayerColor player) {
+    if (model == null || player == null) {
+      throw new IllegalArgumentException("Model and player cannot be null");
+    }
+
+    this.rows = model.getBoard().getGrid().getTotalRows();
+    this.cols = model.getBoard().getGrid().getTotalColumns();
+    int cellCount = rows * cols;
+    this.cardAt = new int[cellCount];
+    this.blueCells = new long[(cellCount + 63) >>> 6];
+    this.coordinates = new Coordinate[cellCount];
+    Arrays.fill(cardAt, HOLE);
+
+    // Only cells that are empty now can be played on during the search
+    List<Coordinate> emptyCells = model.getBoard().getEmptyCardCells();
+    this.moveCells = new int[emptyCells.size()];
+    for (int i = 0; i < moveCells.length; i++) {
+      Coordinate position = emptyCells.get(i);
+      int cell = position.getRow() * cols + position.getCol();
+      moveCells[i] = cell;
+      cardAt[cell] = EMPTY;
+      coordinates[cell] = position;
+    }
+    this.emptyCount = moveCells.length;
+
+    List<Card> allCards = new ArrayList<>();
+    List<Integer> boardCells = new ArrayList<>();
+    List<PlayerColor> boardOwners = new ArrayList<>();
+    for (Map.Entry<Coordinate, Card> entry : model.getBoard().getAllCards().entrySet()) {
+      boardCells.add(entry.getKey().getRow() * cols + entry.getKey().getCol());
+      boardOwners.add(model.getBoard().getOwnerAt(entry.getKey()));
+      allCards.add(entry.getValue());
+    }
+    int boardCards = allCards.size();
+    List<Card> redHand = model.getPlayerHand(PlayerColor.RED);
+    List<Card> blueHand = model.getPlayerHand(PlayerColor.BLUE);
+    allCards.addAll(redHand);
+    allCards.addAll(blueHand);
+
+    this.cards = allCards.toArray(new Card[0]);
+    this.packed = new short[cards.length];
+    this.cardKeys = new long[cards.length];
+    this.handKeys = new long[cards.length];
+    this.valueClass = new int[cards.length];
+    this.inHand = new boolean[cards.length];
+    for (int card = 0; card < cards.length; card++) {
+      packed[card] = PackedCard.pack(cards[card]);
+      cardKeys[card] = Zobrist.cardKey(cards[card]);
+      valueClass[card] = classOf(card);
+    }
+
+    for (int i = 0; i < boardCards; i++) {
+      int cell = boardCells.get(i);
+      int owner = colorIndex(boardOwners.get(i));
+      cardAt[cell] = i;
+      setOwner(cell, owner);
+      boardCount[owner]++;
+      hash ^= cellKey(cell, i, owner);
+    }
+
+    this.hands = new int[2][];
+    hands[RED] = handIndices(boardCards, redHand.size());
+    hands[BLUE] = handIndices(boardCards + redHand.size(), blueHand.size());
+    handCount[RED] = redHand.size();
+    handCount[BLUE] = blueHand.size();
+    for (int card : hands[RED]) {
+      handKeys[card] = Zobrist.handKey(cardKeys[card], PlayerColor.RED);
+      hash ^= handKeys[card];
+    }
+    for (int card : hands[BLUE]) {
+      handKeys[card] = Zobrist.handKey(cardKeys[card], PlayerColor.BLUE);
+      hash ^= handKeys[card];
+    }
+
+    this.toMove = colorIndex(player);
+    if (toMove == BLUE) {
+      hash ^= Zobrist.SIDE_KEY;
+    }
+
+    // Share the grid's neighbor table, with each attack direction kept as its ordinal for
+    // the packed card lookups
+    this.neighbors = model.getBoard().getGrid().getNeighborTable();
+    this.neighborSides = new int[cellCount * 4];
+    for (int cell = 0; cell < cellCount; cell++) {
+      for (int i = 0; i < neighbors.getNeighborCount(cell); i++) {
+        neighborSides[cell * 4 + i] = neighbors.getDirection(cell, i).ordinal();
+      }
+    }
+
+    this.queue = new int[cellCount];
+    this.flipJournal = new int[cellCount];
+    this.frameCell = new int[moveCells.length + 1];
+    this.frameStart = new int[moveCells.length + 1];
+  }
+
+  /**
+   * Plays a card from the hand of the player to move and resolves its battles.
+   *
+   * @param card index of a card in the mover's hand
+   * @param cell index of an empty cell
+   * @return number of cards flipped, including combos
+   */
+  int play(int card, int cell) {
+    int mover = toMove;
+    cardAt[cell] = card;
+    setOwner(cell, mover);
+    inHand[card] = false;
+    boardCount[mover]++;
+    handCount[mover]--;
+    emptyCount--;
+    hash ^= cellKey(cell, card, mover) ^ handKeys[card];
+
+    frameCell[frameCount] = cell;
+    frameStart[frameCount] = journalSize;
+    frameCount++;
+
+    // Every flip goes to the mover, so a FIFO queue resolves the chain round by round
+    int tail = attack(cell, card, mover, 0);
+    for (int head = 0; head < tail; head++) {
+      int flipped = queue[head];
+      tail = attack(flipped, cardAt[flipped], mover, tail);
+    }
+
+    toMove = 1 - mover;
+    hash ^= Zobrist.SIDE_KEY;
+    return tail;
+  }
+
+  /**
+   * Undoes the most recent move.
+   *
+   * @throws IllegalStateException if there is no move to undo
+   */
+  void undo() {
+    if (frameCount == 0) {
+      throw new IllegalStateException("No move to undo");
+    }
+
+    frameCount--;
+    toMove = 1 - toMove;
+    hash ^= Zobrist.SIDE_KEY;
+    int mover = toMove;
+    int opponent = 1 - mover;
+    while (journalSize > frameStart[frameCount]) {
+      int cell = flipJournal[--journalSize];
+      setOwner(cell, opponent);
+      boardCount[mover]--;
+      boardCount[opponent]++;
+      hash ^= cellKey(cell, cardAt[cell], mover) ^ cellKey(cell, cardAt[cell], opponent);
+    }
+
+    int cell = frameCell[frameCount];
+    int card = cardAt[cell];
+    hash ^= cellKey(cell, card, mover) ^ handKeys[card];
+    cardAt[cell] = EMPTY;
+    inHand[card] = true;
+    boardCount[mover]--;
+    handCount[mover]++;
+    emptyCount++;
+  }
+
+  private int attack(int cell, int card, int mover, int tail) {
+    for (int i = 0; i < neighbors.getNeighborCount(cell); i++) {
+      int adj = neighbors.getNeighbor(cell, i);
+      int side = neighborSides[cell * 4 + i];
+      if (cardAt[adj] < 0 || ownerOf(adj) == mover) {
+        continue;
+      }
+      int defender = cardAt[adj];
+      if (PackedCard.beats(packed[card], packed[defender], side)) {
+        setOwner(adj, mover);
+        boardCount[mover]++;
+        boardCount[1 - mover]--;
+        hash ^= cellKey(adj, defender, 1 - mover) ^ cellKey(adj, defender, mover);
+        if (journalSize == flipJournal.length) {
+          flipJournal = Arrays.copyOf(flipJournal, journalSize * 2);
+        }
+        flipJournal[journalSize++] = adj;
+        queue[tail++] = adj;
+      }
+    }
+    return tail;
+  }
+
+  /**
+   * Writes the legal moves of the player to move into the buffer as card * cellCount + cell,
+   * cells in row-major order and cards in hand order. Cards with the same values as an
+   * earlier card in the hand are skipped, since playing either gives the same position.
+   *
+   * @param buffer destination, at least {@link #maxMoves()} long
+   * @return number of moves written
+   */
+  int generateMoves(int[] buffer) {
+    int[] hand = hands[toMove];
+    int count = 0;
+    int cellCount = rows * cols;
+    for (int cell : moveCells) {
+      if (cardAt[cell] != EMPTY) {
+        continue;
+      }
+      for (int i = 0; i < hand.length; i++) {
+        int card = hand[i];
+        if (inHand[card] && !hasEarlierTwin(hand, i)) {
+          buffer[count++] = card * cellCount + cell;
+        }
+      }
+    }
+    return count;
+  }
+
+  private boolean hasEarlierTwin(int[] hand, int index) {
+    int cls = valueClass[hand[index]];
+    for (int i = 0; i < index; i++) {
+      if (inHand[hand[i]] && valueClass[hand[i]] == cls) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  int maxMoves() {
+    return moveCells.length * Math.max(hands[RED].length, hands[BLUE].length);
+  }
+
+  int moveCard(int move) {
+    return move / (rows * cols);
+  }
+
+  int moveCell(int move) {
+    return move % (rows * cols);
+  }
+
+  Card getCard(int card) {
+    return cards[card];
+  }
+
+  Coordinate getCoordinate(int cell) {
+    return coordinates[cell];
+  }
+
+  boolean isOver() {
+    return emptyCount == 0 || handCount[toMove] == 0;
+  }
+
+  int getEmptyCount() {
+    return emptyCount;
+  }
+
+  int getToMove() {
+    return toMove;
+  }
+
+  long getHash() {
+    return hash;
+  }
+
+  /**
+   * Returns a player's score as the model counts it: cards owned on the board plus
+   * cards left in hand.
+   *
+   * @param player RED or BLUE
+   * @return the score
+   */
+  int getScore(int player) {
+    return boardCount[player] + handCount[player];
+  }
+
+  static int colorIndex(PlayerColor color) {
+    return color == PlayerColor.RED ? RED : BLUE;
+  }
+
+  private int[] handIndices(int first, int size) {
+    int[] hand = new int[size];
+    for (int i = 0; i < size; i++) {
+      hand[i] = first + i;
+      inHand[first + i] = true;
+    }
+    return hand;
+  }
+
+  private int ownerOf(int cell) {
+    return (int) (blueCells[cell >>> 6] >>> cell) & 1;
+  }
+
+  private void setOwner(int cell, int owner) {
+    if (owner == BLUE) {
+      blueCells[cell >>> 6] |= 1L << cell;
+    } else {
+      blueCells[cell >>> 6] &= ~(1L << cell);
+    }
+  }
+
+  private int classOf(int card) {
+    for (int other = 0; other < card; other++) {
+      if (packed[other] == packed[card]) {
+        return valueClass[other];
+      }
+    }
+    return card;
+  }
+
+  private long cellKey(int cell, int card, int owner) {
+    PlayerColor color = owner == RED ? PlayerColor.RED : PlayerColor.BLUE;
+    return Zobrist.cellKey(cell, cardKeys[card], color);
+  }
+}
@@ -0,0 +1,150 @@
+package cs3500.strategy;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size transposition table for the alpha-beta search, keyed by Zobrist hash.
+ *
+ * <p>Entries live in parallel primitive arrays grouped into buckets of two slots. A store
+ * overwrites the slot that already holds the same position if there is one; otherwise it
+ * prefers a slot left over from an earlier search, and among equals the slot searched to
+ * the shallower depth. Lookups verify the full 64-bit key, so a collision in the bucket
+ * index never returns another position's entry.
+ *
+ * <p>Keys cover the board, both hands and the side to move, so a table stays valid across
+ * moves and games, and strategies on one thread may share it. A table is not thread-safe.
+ */
+public final class TranspositionTable {
+  static final int EXACT = 0;
+  static final int LOWER_BOUND = 1;
+  static final int UPPER_BOUND = 2;
+  static final int NO_MOVE = -1;
+
+  private final long[] keys;
+  private final int[] values;
+  private final int[] moves;
+  private final byte[] depths;
+  private final byte[] flags;
+  private final byte[] generations;
+  private final boolean[] used;
+  private final int mask;
+  private byte generation;
+
+  /**
+   * Constructor for the TranspositionTable class.
+   *
+   * @param capacity maximum number of entries, rounded up to a power of two
+   * @throws IllegalArgumentException if capacity is less than two
+   */
+  public TranspositionTable(int capacity) {
+    if (capacity < 2) {
+      throw new IllegalArgumentException("Capacity must be at least 2");
+    }
+    int size = Integer.highestOneBit(capacity - 1) << 1;
+    this.keys = new long[size];
+    this.values = new int[size];
+    this.moves = new int[size];
+    this.depths = new byte[size];
+    this.flags = new byte[size];
+    this.generations = new byte[size];
+    this.used = new boolean[size];
+    this.mask = (size - 1) & ~1;
+  }
+
+  /**
+   * Marks the start of a new search, so entries from earlier searches are replaced first.
+   */
+  public void newSearch() {
+    generation++;
+  }
+
+  /**
+   * Removes every entry.
+   */
+  public void clear() {
+    Arrays.fill(used, false);
+  }
+
+  /**
+   * Finds the slot holding the given position.
+   *
+   * @param key Zobrist hash of the position
+   * @return the slot, or -1 if the position is not stored
+   */
+  int probe(long key) {
+    int bucket = bucketOf(key);
+    if (used[bucket] && keys[bucket] == key) {
+      return bucket;
+    }
+    if (used[bucket + 1] && keys[bucket + 1] == key) {
+      return bucket + 1;
+    }
+    return -1;
+  }
+
+  /**
+   * Stores a search result, replacing an entry according to the table's policy.
+   *
+   * @param key Zobrist hash of the position
+   * @param depth remaining depth the value was searched to
+   * @param value the value found
+   * @param flag EXACT, LOWER_BOUND or UPPER_BOUND
+   * @param move best move found, or NO_MOVE
+   */
+  void store(long key, int depth, int value, int flag, int move) {
+    int bucket = bucketOf(key);
+    int slot = probe(key);
+    if (slot >= 0) {
+      // Keep a deeper result for the same position from this search
+      if (generations[slot] == generation && depths[slot] > depth) {
+        return;
+      }
+    } else if (!used[bucket]) {
+      slot = bucket;
+    } else if (!used[bucket + 1]) {
+      slot = bucket + 1;
+    } else {
+      slot = keepScore(bucket) <= keepScore(bucket + 1) ? bucket : bucket + 1;
+    }
+
+    keys[slot] = key;
+    values[slot] = value;
+    moves[slot] = move;
+    depths[slot] = (byte) Math.min(depth, Byte.MAX_VALUE);
+    flags[slot] = (byte) flag;
+    generations[slot] = generation;
+    used[slot] = true;
+  }
+
+  int getValue(int slot) {
+    return values[slot];
+  }
+
+  int getMove(int slot) {
+    return moves[slot];
+  }
+
+  int getDepth(int slot) {
+    return depths[slot];
+  }
+
+  int getFlag(int slot) {
+    return flags[slot];
+  }
+
+  int capacity() {
+    return keys.length;
+  }
+
+  /**
+   * Ranks how worth keeping an occupied slot is: entries from the current search beat
+   * entries from earlier searches, and deeper entries beat shallower ones.
+   */
+  private int keepScore(int slot) {
+    return (generations[slot] == generation ? 256 : 0) + depths[slot];
+  }
+
+  private int bucketOf(long key) {
+    return (int) (key ^ (key >>> 32)) & mask;
+  }
+}
@@ -1,77 +1,77 @@
 package cs3500.threetrios;
 
-import cs3500.controller.ThreeTriosController;
-import cs3500.model.PlayerColor;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
- * Registry to manage and coordinate game controllers.
- * This allows controllers to find each other for AI coordination.
+ * Registry of the games running in one process, keyed by game ID.
+ * Each game gets its own {@link GameSession}, through which its controllers find each other,
+ * so any number of games can run side by side without seeing each other's controllers.
+ * All methods are safe to call from any thread.
  */
 public class GameControllerRegistry {
-  private static final Map<PlayerColor, ThreeTriosController> controllers = new HashMap<>();
-  private static boolean isInitialized = false;
+  private final ConcurrentMap<String, GameSession> games;
 
   /**
-   * Private constructor to prevent instantiation.
+   * Creates an empty registry.
    */
-  private GameControllerRegistry() {
+  public GameControllerRegistry() {
+    this.games = new ConcurrentHashMap<>();
   }
 
   /**
-   * Registers a controller for a specific player color.
+   * Opens a session for a new game.
    *
-   * @param color      the player color
-   * @param controller the controller to register
-   * @throws IllegalArgumentException if color or controller is null
-   * @throws IllegalStateException    if a controller is already registered for this color
+   * @param gameId the game's ID
+   * @return the new game's session
+   * @throws IllegalArgumentException if gameId is null
+   * @throws IllegalStateException    if a game with this ID is already open
    */
-  public static void register(PlayerColor color, ThreeTriosController controller) {
-    if (!isInitialized) {
-      throw new IllegalStateException("Registry must be initialized before use");
+  public GameSession openGame(String gameId) {
+    if (gameId == null) {
+      throw new IllegalArgumentException("Game ID cannot be null");
     }
-    if (color == null || controller == null) {
-      throw new IllegalArgumentException("Color and controller cannot be null");
+    GameSession session = new GameSession(gameId);
+    if (games.putIfAbsent(gameId, session) != null) {
+      throw new IllegalStateException("Game already open: " + gameId);
     }
-    if (controllers.containsKey(color)) {
-      throw new IllegalStateException("Controller already registered for " + color);
-    }
-    controllers.put(color, controller);
+    return session;
   }
 
   /**
-   * Gets the controller for a specific player color.
+   * Gets the session of an open game.
    *
-   * @param color the player color
-   * @return the controller for that color, or null if not found
-   * @throws IllegalArgumentException if color is null
+   * @param gameId the game's ID
+   * @return the game's session, or null if no game with this ID is open
+   * @throws IllegalArgumentException if gameId is null
    */
-  public static ThreeTriosController getController(PlayerColor color) {
-    if (!isInitialized) {
-      throw new IllegalStateException("Registry must be initialized before use");
-    }
-    if (color == null) {
-      throw new IllegalArgumentException("Color cannot be null");
+  public GameSession getGame(String gameId) {
+    if (gameId == null) {
+      throw new IllegalArgumentException("Game ID cannot be null");
     }
-    return controllers.get(color);
+    return games.get(gameId);
   }
 
-
   /**
-   * Initializes the registry for a new game.
+   * Closes a game, forgetting its session and controllers. Closing a game that is not open
+   * does nothing.
+   *
+   * @param gameId the game's ID
+   * @throws IllegalArgumentException if gameId is null
    */
-  public static void initialize() {
-    controllers.clear();
-    isInitialized = true;
+  public void closeGame(String gameId) {
+    if (gameId == null) {
+      throw new IllegalArgumentException("Game ID cannot be null");
+    }
+    games.remove(gameId);
   }
 
   /**
-   * Checks if the registry has been initialized.
+   * Gets the number of open games.
    *
-   * @return true if initialized, false otherwise
+   * @return number of open games
    */
-  public static boolean isInitialized() {
-    return isInitialized;
+  public int getGameCount() {
+    return games.size();
   }
-}
\ No newline at end of file
+}
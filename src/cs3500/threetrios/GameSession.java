@@ -0,0 +1,78 @@
+package cs3500.threetrios;
+
+import cs3500.controller.ThreeTriosController;
+import cs3500.model.PlayerColor;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The controllers of one game, registered by player color.
+ * Controllers use their session to notify each other of changes, so notifications never
+ * leave their own game. Sessions are created by {@link GameControllerRegistry#openGame}
+ * and are safe to use from any thread.
+ */
+public final class GameSession {
+  private final String gameId;
+  private final ConcurrentMap<PlayerColor, ThreeTriosController> controllers;
+
+  GameSession(String gameId) {
+    this.gameId = gameId;
+    this.controllers = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Gets the ID of this session's game.
+   *
+   * @return the game ID
+   */
+  public String getGameId() {
+    return gameId;
+  }
+
+  /**
+   * Registers a controller for a specific player color.
+   *
+   * @param color      the player color
+   * @param controller the controller to register
+   * @throws IllegalArgumentException if color or controller is null
+   * @throws IllegalStateException    if a controller is already registered for this color
+   */
+  public void register(PlayerColor color, ThreeTriosController controller) {
+    if (color == null || controller == null) {
+      throw new IllegalArgumentException("Color and controller cannot be null");
+    }
+    if (controllers.putIfAbsent(color, controller) != null) {
+      throw new IllegalStateException("Controller already registered for " + color);
+    }
+  }
+
+  /**
+   * Gets the controller for a specific player color.
+   *
+   * @param color the player color
+   * @return the controller for that color, or null if not found
+   * @throws IllegalArgumentException if color is null
+   */
+  public ThreeTriosController getController(PlayerColor color) {
+    if (color == null) {
+      throw new IllegalArgumentException("Color cannot be null");
+    }
+    return controllers.get(color);
+  }
+
+  /**
+   * Refreshes the controller of the given player's opponent, if one is registered.
+   *
+   * @param color the player whose opponent to notify
+   * @throws IllegalArgumentException if color is null
+   */
+  public void notifyOpponent(PlayerColor color) {
+    if (color == null) {
+      throw new IllegalArgumentException("Color cannot be null");
+    }
+    ThreeTriosController opponent = controllers.get(color.getOpponentColor());
+    if (opponent != null) {
+      opponent.refresh();
+    }
+  }
+}
@@ -4,18 +4,21 @@ import cs3500.adapter.ControllerAdapter;
 import cs3500.adapter.ModelAdapter;
 import cs3500.adapter.ProviderViewAdapter;
 import cs3500.controller.GameController;
-import cs3500.model.AIThreeTriosGame;
 import cs3500.model.BasicThreeTriosGame;
+import cs3500.model.ConcurrentThreeTriosGame;
 import cs3500.model.PlayerColor;
 import cs3500.model.ThreeTriosModel;
 import cs3500.providerstrios.provider.controller.model.Player;
 import cs3500.providerstrios.provider.controller.view.ThreeTriosGUIView;
+import cs3500.strategy.AlphaBetaStrategy;
 import cs3500.strategy.CornerStrategy;
 import cs3500.strategy.MaxFlipsStrategy;
+import cs3500.strategy.MctsStrategy;
 import cs3500.strategy.Strategy;
 import cs3500.view.SwingThreeTriosView;
 import cs3500.view.ThreeTriosView;
 import java.io.File;
+import java.util.UUID;
 
 /**
  * Main class for the Three Trios game.
@@ -34,10 +37,14 @@ public class ThreeTrios {
         return new MaxFlipsStrategy();
       case "corner":
         return new CornerStrategy();
+      case "alphabeta":
+        return new AlphaBetaStrategy();
+      case "mcts":
+        return new MctsStrategy();
       default:
         throw new IllegalArgumentException(
                 "Invalid player type: " + playerType
-                        + "\nValid types are: human, maxflips, corner");
+                        + "\nValid types are: human, maxflips, corner, alphabeta, mcts");
     }
   }
 
@@ -54,7 +61,7 @@ public class ThreeTrios {
     System.err.println("\nAvailable card configurations:");
     System.err.println("- TenCardSetFor3x3Board.txt");
     System.err.println("- CompleteCardSet.txt");
-    System.err.println("\nValid player types: human, maxflips, corner");
+    System.err.println("\nValid player types: human, maxflips, corner, alphabeta, mcts");
   }
 
   private static boolean validateConfigFile(String filename) {
@@ -92,18 +99,12 @@ public class ThreeTrios {
     }
 
     try {
-      // Initialize registry
-      GameControllerRegistry.initialize();
-
-      // Create and initialize model
-      ThreeTriosModel model;
-      if (player1Type.equals("human") && player2Type.equals("human")) {
-        model = new BasicThreeTriosGame();
-      } else {
-        AIThreeTriosGame aiModel = new AIThreeTriosGame();
-        aiModel.initializePlayersWithTypes(player1Type, player2Type);
-        model = aiModel;
-      }
+      // Open this game's session; its controllers notify each other only through it
+      GameSession session = new GameControllerRegistry().openGame(UUID.randomUUID().toString());
+
+      // Create and initialize model; AI players are driven by their controllers, and every
+      // move from the views and controllers goes through the model's command queue
+      ThreeTriosModel model = new ConcurrentThreeTriosGame(new BasicThreeTriosGame());
 
       // Initialize game with provided configurations
       try {
@@ -126,7 +127,7 @@ public class ThreeTrios {
 
       // Create Player 1's controller
       GameController redController = new GameController(
-              model, player1View, PlayerColor.RED, redStrategy);
+              session, model, player1View, PlayerColor.RED, redStrategy);
 
       // Create controller adapter for Player 2's view
       ControllerAdapter controllerAdapter = new ControllerAdapter(
@@ -144,14 +145,14 @@ public class ThreeTrios {
 
       // Create Player 2's controller
       GameController blueController = new GameController(
-              model, player2ViewAdapter, PlayerColor.BLUE, blueStrategy);
+              session, model, player2ViewAdapter, PlayerColor.BLUE, blueStrategy);
 
       // Update the controller adapter's features
       controllerAdapter.setFeatures(blueController);
 
       // Register controllers
-      GameControllerRegistry.register(PlayerColor.RED, redController);
-      GameControllerRegistry.register(PlayerColor.BLUE, blueController);
+      session.register(PlayerColor.RED, redController);
+      session.register(PlayerColor.BLUE, blueController);
 
       // Start both controllers
       redController.start();
@@ -161,7 +162,7 @@ public class ThreeTrios {
       player1View.setVisible(true);
       player2ViewAdapter.setVisible(true);
 
-      // Start the game
+      // Start the game; each controller reacts to the opening turn as the model reports it
       model.startGame();
 
       // Print initial game configuration
@@ -0,0 +1,67 @@
+package cs3500.tournament;
+
+/**
+ * Outcome of a tournament between two strategies, counted from the first strategy's side.
+ */
+public class TournamentResult {
+  private final int wins;
+  private final int losses;
+  private final int ties;
+  private final long elapsedNanos;
+
+  /**
+   * Constructor for the TournamentResult class.
+   *
+   * @param wins games won by the first strategy
+   * @param losses games won by the second strategy
+   * @param ties games that ended in a tie
+   * @param elapsedNanos wall-clock time taken to play all games
+   */
+  public TournamentResult(int wins, int losses, int ties, long elapsedNanos) {
+    if (wins < 0 || losses < 0 || ties < 0 || elapsedNanos < 0) {
+      throw new IllegalArgumentException("Counts and elapsed time must be non-negative");
+    }
+    this.wins = wins;
+    this.losses = losses;
+    this.ties = ties;
+    this.elapsedNanos = elapsedNanos;
+  }
+
+  public int getWins() {
+    return wins;
+  }
+
+  public int getLosses() {
+    return losses;
+  }
+
+  public int getTies() {
+    return ties;
+  }
+
+  public int getGames() {
+    return wins + losses + ties;
+  }
+
+  public long getElapsedNanos() {
+    return elapsedNanos;
+  }
+
+  /**
+   * Returns the throughput of the tournament.
+   *
+   * @return games played per second of wall-clock time
+   */
+  public double getGamesPerSecond() {
+    if (elapsedNanos == 0) {
+      return 0;
+    }
+    return getGames() * 1_000_000_000.0 / elapsedNanos;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%d games: %d wins, %d losses, %d ties (%.1f games/s)",
+            getGames(), wins, losses, ties, getGamesPerSecond());
+  }
+}
@@ -0,0 +1,285 @@
+package cs3500.tournament;
+
+import cs3500.model.BasicThreeTriosGame;
+import cs3500.model.Card;
+import cs3500.model.GameState;
+import cs3500.model.Grid;
+import cs3500.model.PlayerColor;
+import cs3500.strategy.AlphaBetaStrategy;
+import cs3500.strategy.CornerStrategy;
+import cs3500.strategy.EvaluationCache;
+import cs3500.strategy.MaxFlipsStrategy;
+import cs3500.strategy.MctsStrategy;
+import cs3500.strategy.Move;
+import cs3500.strategy.Strategy;
+import cs3500.strategy.TranspositionTable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Plays batches of AI-vs-AI games headlessly on a fixed-size worker pool.
+ *
+ * <p>Every game gets its own model, a fresh copy of the grid and new strategy instances, so
+ * workers share nothing but the read-only templates and the immutable cards. Strategies are
+ * created on the worker that plays the game, which lets "maxflips-cached" keep one evaluation
+ * cache per worker instead of one locked cache for all of them, and "alphabeta" one
+ * transposition table per worker instead of one per game. Game i shuffles with seed + i
+ * and the first strategy plays red in even games and blue in odd games. The searching
+ * strategies from {@link #strategyFactory} stop after a fixed depth or number of playouts,
+ * never on the clock, and MCTS uses a fixed seed, so with those strategies the results of a
+ * run depend only on the seed, not on the number of threads or the load on the machine.
+ */
+public class TournamentRunner {
+  private static final int EVALUATION_CACHE_CAPACITY = 1 << 16;
+  private static final int TRANSPOSITION_TABLE_SIZE = 1 << 18;
+  private static final int ALPHA_BETA_DEPTH = 4;
+  private static final int MCTS_PLAYOUTS = 1000;
+  private static final long MCTS_SEED = 0L;
+  // Searches stop on depth or playouts instead, which do not depend on load
+  private static final long UNLIMITED_TIME_MILLIS = Long.MAX_VALUE / 1_000_000;
+
+  private final Grid grid;
+  private final List<Card> cards;
+  private final Supplier<Strategy> firstStrategy;
+  private final Supplier<Strategy> secondStrategy;
+  private final int threads;
+
+  /**
+   * Constructor for the TournamentRunner class.
+   *
+   * @param grid the grid every game is played on; copied per game
+   * @param cards the card set dealt in every game; shared by all games
+   * @param firstStrategy creates the strategy whose results are reported
+   * @param secondStrategy creates the opposing strategy
+   * @param threads number of worker threads
+   * @throws IllegalArgumentException if any argument is null, threads is not positive,
+   *     the card count is odd, or there are not enough cards to fill the grid
+   */
+  public TournamentRunner(Grid grid, List<Card> cards, Supplier<Strategy> firstStrategy,
+                          Supplier<Strategy> secondStrategy, int threads) {
+    if (grid == null || cards == null || firstStrategy == null || secondStrategy == null) {
+      throw new IllegalArgumentException("Arguments cannot be null");
+    }
+    if (threads < 1) {
+      throw new IllegalArgumentException("Thread count must be positive");
+    }
+    if (cards.size() % 2 != 0) {
+      throw new IllegalArgumentException("Number of cards must be even");
+    }
+    if (cards.size() <= grid.getCardCellCount()) {
+      throw new IllegalArgumentException("Not enough cards to fill the grid");
+    }
+
+    this.grid = grid.copy();
+    this.cards = Collections.unmodifiableList(new ArrayList<>(cards));
+    this.firstStrategy = firstStrategy;
+    this.secondStrategy = secondStrategy;
+    this.threads = threads;
+  }
+
+  /**
+   * Creates a runner from grid and card configuration files.
+   *
+   * @param gridConfig path to the grid configuration file
+   * @param cardsConfig path to the card configuration file
+   * @param firstStrategy creates the strategy whose results are reported
+   * @param secondStrategy creates the opposing strategy
+   * @param threads number of worker threads
+   * @return a runner for the given configuration
+   * @throws IllegalArgumentException if the files cannot be read or are invalid
+   */
+  public static TournamentRunner fromFiles(String gridConfig, String cardsConfig,
+                                           Supplier<Strategy> firstStrategy,
+                                           Supplier<Strategy> secondStrategy, int threads) {
+    // Load through a throwaway model with a fixed shuffle so the card order is stable
+    BasicThreeTriosGame template = new BasicThreeTriosGame();
+    template.setShuffleRandom(new Random(0));
+    template.initializeGameFromFiles(gridConfig, cardsConfig);
+
+    List<Card> cards = new ArrayList<>(template.getPlayerHand(PlayerColor.RED));
+    cards.addAll(template.getPlayerHand(PlayerColor.BLUE));
+    return new TournamentRunner(template.getBoard().getGrid(), cards,
+            firstStrategy, secondStrategy, threads);
+  }
+
+  /**
+   * Plays the given number of games and tallies the results.
+   *
+   * @param games number of games to play
+   * @param seed base seed for the shuffles
+   * @return win/loss/tie counts from the first strategy's side and the elapsed time
+   * @throws IllegalArgumentException if games is negative
+   * @throws IllegalStateException if a game fails
+   */
+  public TournamentResult run(int games, long seed) {
+    if (games < 0) {
+      throw new IllegalArgumentException("Number of games cannot be negative");
+    }
+
+    long start = System.nanoTime();
+    AtomicInteger nextGame = new AtomicInteger();
+    ExecutorService pool = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<int[]>> workers = new ArrayList<>(threads);
+      for (int i = 0; i < threads; i++) {
+        workers.add(pool.submit(() -> playGames(nextGame, games, seed)));
+      }
+
+      int[] totals = new int[3];
+      for (Future<int[]> worker : workers) {
+        int[] counts = worker.get();
+        for (int i = 0; i < totals.length; i++) {
+          totals[i] += counts[i];
+        }
+      }
+      return new TournamentResult(totals[0], totals[1], totals[2], System.nanoTime() - start);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Tournament game failed: " + e.getCause(), e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Tournament interrupted", e);
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  /**
+   * Claims and plays games until all have been taken.
+   *
+   * @return this worker's wins, losses and ties
+   */
+  private int[] playGames(AtomicInteger nextGame, int games, long seed) {
+    int[] counts = new int[3];
+    int game;
+    while ((game = nextGame.getAndIncrement()) < games) {
+      PlayerColor firstColor = game % 2 == 0 ? PlayerColor.RED : PlayerColor.BLUE;
+      PlayerColor winner = playGame(seed + game, firstColor);
+      if (winner == null) {
+        counts[2]++;
+      } else if (winner == firstColor) {
+        counts[0]++;
+      } else {
+        counts[1]++;
+      }
+    }
+    return counts;
+  }
+
+  /**
+   * Plays one game to completion.
+   *
+   * @param gameSeed seed for this game's shuffle
+   * @param firstColor the color played by the first strategy
+   * @return the winning color, or null for a tie
+   */
+  private PlayerColor playGame(long gameSeed, PlayerColor firstColor) {
+    BasicThreeTriosGame model = new BasicThreeTriosGame();
+    model.setShuffleRandom(new Random(gameSeed));
+    model.initializeGame(grid.copy(), cards);
+    model.startGame();
+
+    Strategy first = firstStrategy.get();
+    Strategy second = secondStrategy.get();
+    while (model.getGameState() != GameState.GAME_OVER) {
+      PlayerColor current = model.getCurrentPlayerColor();
+      Strategy strategy = current == firstColor ? first : second;
+      Move move = strategy.chooseMove(model, current);
+      if (move == null) {
+        throw new IllegalStateException("Strategy returned no move for " + current);
+      }
+      model.playCard(move.getCard(), move.getPosition());
+    }
+    return model.getWinner();
+  }
+
+  /**
+   * Returns a factory for the named strategy. The search strategies are configured to play
+   * the same move in the same position every time: alpha-beta searches 4 plies and MCTS
+   * runs 1000 single-threaded playouts from a fixed seed.
+   *
+   * @param name strategy name, case-insensitive
+   * @return supplier creating a new instance of that strategy
+   * @throws IllegalArgumentException if the name is unknown
+   */
+  public static Supplier<Strategy> strategyFactory(String name) {
+    if (name == null) {
+      throw new IllegalArgumentException("Strategy name cannot be null");
+    }
+
+    switch (name.toLowerCase()) {
+      case "maxflips":
+        return MaxFlipsStrategy::new;
+      case "maxflips-cached":
+        // Strategies are created on the workers, so each worker keeps one cache for all of
+        // its games without sharing it or locking it
+        ThreadLocal<EvaluationCache> caches =
+                ThreadLocal.withInitial(() -> new EvaluationCache(EVALUATION_CACHE_CAPACITY));
+        return () -> new MaxFlipsStrategy(caches.get());
+      case "corner":
+        return CornerStrategy::new;
+      case "alphabeta":
+        // A table per worker instead of a new 4 MB table for every game, emptied when a
+        // game starts so that earlier games on the same worker cannot change its moves
+        ThreadLocal<TranspositionTable> tables =
+                ThreadLocal.withInitial(() -> new TranspositionTable(TRANSPOSITION_TABLE_SIZE));
+        return () -> {
+          TranspositionTable table = tables.get();
+          table.clear();
+          return new AlphaBetaStrategy(ALPHA_BETA_DEPTH, UNLIMITED_TIME_MILLIS, table);
+        };
+      case "mcts":
+        // Workers already use every core, so the search runs on the worker alone
+        return () -> new MctsStrategy(1, UNLIMITED_TIME_MILLIS, MCTS_PLAYOUTS, true, MCTS_SEED);
+      default:
+        throw new IllegalArgumentException(
+                "Invalid strategy: " + name
+                        + "\nValid strategies are: maxflips, maxflips-cached, corner, "
+                        + "alphabeta, mcts");
+    }
+  }
+
+  private static void printUsage() {
+    System.err.println("Usage: java TournamentRunner <boardConfig> <cardConfig> "
+            + "<strategy1> <strategy2> <games> [threads] [seed]");
+    System.err.println("Example: java TournamentRunner 5x5BoardConnectedCardCells.txt "
+            + "CompleteCardSet.txt maxflips corner 100000");
+    System.err.println("\nValid strategies: maxflips, maxflips-cached, corner, alphabeta, mcts");
+  }
+
+  /**
+   * Runs a tournament from the command line and prints the results.
+   *
+   * @param args board config, card config, two strategy names, number of games,
+   *     and optionally the thread count and seed
+   */
+  public static void main(String[] args) {
+    if (args.length < 5 || args.length > 7) {
+      printUsage();
+      System.exit(1);
+    }
+
+    try {
+      int games = Integer.parseInt(args[4]);
+      int threads = args.length > 5
+              ? Integer.parseInt(args[5]) : Runtime.getRuntime().availableProcessors();
+      long seed = args.length > 6 ? Long.parseLong(args[6]) : 0L;
+
+      TournamentRunner runner = fromFiles(args[0], args[1],
+              strategyFactory(args[2]), strategyFactory(args[3]), threads);
+      TournamentResult result = runner.run(games, seed);
+      System.out.println(args[2] + " vs " + args[3] + ": " + result);
+    } catch (IllegalArgumentException e) {
+      System.err.println("Error: " + e.getMessage());
+      printUsage();
+      System.exit(1);
+    }
+  }
+}
@@ -0,0 +1,118 @@
+package cs3500.view;
+
+import cs3500.model.Card;
+import cs3500.model.PlayerColor;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Cache of pre-rendered card images for a panel.
+ * Each card is drawn once per owner color and card size into an image, and later paints
+ * copy that image instead of drawing the card's text again, so the cost of a repaint hardly
+ * depends on how many cards are showing. Sprites of every size requested are kept until the
+ * owning panel is resized and calls {@link #clear}, so a panel whose card size changes with
+ * the number of cards showing does not redraw them each time. Like the rest of Swing, a
+ * cache must only be used from the event dispatch thread.
+ */
+final class CardSpriteCache {
+
+  /**
+   * Draws a card into a sprite whose top-left corner is the origin.
+   */
+  interface CardPainter {
+    /**
+     * Draws a card.
+     *
+     * @param g2d graphics of the sprite
+     * @param card the card to draw
+     * @param owner the color to draw the card in
+     * @param width width of the sprite
+     * @param height height of the sprite
+     */
+    void paint(Graphics2D g2d, Card card, PlayerColor owner, int width, int height);
+  }
+
+  private final CardPainter painter;
+  // Sprites per card size, then per card, indexed by owner ordinal; cards are immutable,
+  // so identity is enough
+  private final Map<Long, Map<Card, BufferedImage[]>> sprites;
+  private int spriteCount;
+
+  /**
+   * Creates an empty cache.
+   *
+   * @param painter draws each card the first time it is needed
+   * @throws IllegalArgumentException if painter is null
+   */
+  CardSpriteCache(CardPainter painter) {
+    if (painter == null) {
+      throw new IllegalArgumentException("Painter cannot be null");
+    }
+    this.painter = painter;
+    this.sprites = new HashMap<>();
+  }
+
+  /**
+   * Gets the image of a card in an owner's color, drawing it if this is the first request
+   * for it at this size since the cache was last cleared.
+   *
+   * @param card the card
+   * @param owner the color to draw the card in
+   * @param width width of the card in pixels
+   * @param height height of the card in pixels
+   * @return the card's image
+   * @throws IllegalArgumentException if card or owner is null or the size is not positive
+   */
+  BufferedImage getSprite(Card card, PlayerColor owner, int width, int height) {
+    if (card == null || owner == null) {
+      throw new IllegalArgumentException("Card and owner cannot be null");
+    }
+    if (width <= 0 || height <= 0) {
+      throw new IllegalArgumentException("Sprite size must be positive");
+    }
+    long size = (long) width << 32 | height;
+    BufferedImage[] byOwner = sprites.computeIfAbsent(size, s -> new HashMap<>())
+            .computeIfAbsent(card, c -> new BufferedImage[PlayerColor.values().length]);
+    BufferedImage sprite = byOwner[owner.ordinal()];
+    if (sprite == null) {
+      sprite = render(card, owner, width, height);
+      byOwner[owner.ordinal()] = sprite;
+      spriteCount++;
+    }
+    return sprite;
+  }
+
+  /**
+   * Drops every sprite. Panels call this when they are resized, since their card sizes
+   * change and the old sprites would not be used again.
+   */
+  void clear() {
+    sprites.clear();
+    spriteCount = 0;
+  }
+
+  /**
+   * Gets the number of sprites cached.
+   *
+   * @return number of cached sprites
+   */
+  int size() {
+    return spriteCount;
+  }
+
+  private BufferedImage render(Card card, PlayerColor owner, int width, int height) {
+    // Cards fill their whole sprite, so the image needs no alpha channel
+    BufferedImage sprite = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    Graphics2D g2d = sprite.createGraphics();
+    try {
+      g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+      painter.paint(g2d, card, owner, width, height);
+    } finally {
+      g2d.dispose();
+    }
+    return sprite;
+  }
+}
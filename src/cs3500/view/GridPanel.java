@@ -1,39 +1,62 @@
 package cs3500.view;
 
 import cs3500.controller.Features;
+import cs3500.model.Board;
 import cs3500.model.Card;
 import cs3500.model.CellState;
 import cs3500.model.Coordinate;
 import cs3500.model.Direction;
-import cs3500.model.GameCoordinate;
 import cs3500.model.GameState;
 import cs3500.model.Grid;
 import cs3500.model.PlayerColor;
 import cs3500.model.ReadOnlyThreeTriosModel;
-import cs3500.model.ThreeTriosModel;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.FontMetrics;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
-import java.awt.Point;
 import java.awt.Rectangle;
 import java.awt.RenderingHints;
 import java.awt.event.KeyAdapter;
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
+import java.util.List;
 import javax.swing.JPanel;
 
 /**
  * Represents a panel for displaying the game grid in the Three Trios game.
+ * Paints only the cells inside the region being repainted, so a move can repaint just the
+ * cells it changed through {@link #repaintCells}. Cards are drawn once per owner and cell size
+ * and then copied from a {@link CardSpriteCache}.
  */
 public class GridPanel extends JPanel implements ThreeTriosPanel {
+  private static final Color HOLE_COLOR = new Color(128, 128, 0); // Olive green
+  private static final Color CELL_COLOR = Color.YELLOW;
+  private static final Color RED_CARD_COLOR = new Color(255, 200, 200);
+  private static final Color BLUE_CARD_COLOR = new Color(200, 200, 255);
+  private static final Color OVERLAY_COLOR = new Color(0, 0, 0, 150);
+  private static final Font VALUE_FONT = new Font("Arial", Font.BOLD, 16);
+  private static final Font NAME_FONT = new Font("Arial", Font.BOLD, 12);
+  private static final Font GAME_OVER_FONT = new Font("Arial", Font.BOLD, 36);
+
   private final ReadOnlyThreeTriosModel model;
   private final HandPanel redHandPanel;
   private final HandPanel blueHandPanel;
+  private final CardSpriteCache sprites;
   private Features features;
 
+  // Cell geometry in row-major order, rebuilt only when the panel or grid changes size
+  private Rectangle[] cellBounds;
+  private int layoutWidth;
+  private int layoutHeight;
+  private int layoutRows;
+  private int layoutColumns;
+  private int cellWidth;
+  private int cellHeight;
+  private FontMetrics valueMetrics;
+  private FontMetrics nameMetrics;
+
   /**
    * Constructs a new GridPanel object.
    *
@@ -45,19 +68,18 @@ public class GridPanel extends JPanel implements ThreeTriosPanel {
     this.model = model;
     this.redHandPanel = redHandPanel;
     this.blueHandPanel = blueHandPanel;
+    this.sprites = new CardSpriteCache((g2d, card, owner, width, height) ->
+            drawCard(g2d, card, owner, new Rectangle(0, 0, width, height)));
 
-    // Add right-click support
+    // Add right-click support; left clicks are routed to the controller by the view
     addMouseListener(new MouseAdapter() {
       @Override
       public void mouseClicked(MouseEvent e) {
-        if (model.getGameState() != GameState.GAME_OVER) {
-          if (e.getButton() == MouseEvent.BUTTON3) { // Right click
-            PlayerColor currentPlayer = model.getCurrentPlayerColor();
-            if (features != null) {
-              features.handleCancelSelection(currentPlayer);
-            }
-          } else if (e.getButton() == MouseEvent.BUTTON1) { // Left click
-            handleMouseClick(e);
+        if (model.getGameState() != GameState.GAME_OVER
+                && e.getButton() == MouseEvent.BUTTON3) { // Right click
+          PlayerColor currentPlayer = model.getCurrentPlayerColor();
+          if (features != null) {
+            features.handleCancelSelection(currentPlayer);
           }
         }
       }
@@ -82,6 +104,27 @@ public class GridPanel extends JPanel implements ThreeTriosPanel {
     this.features = features;
   }
 
+  /**
+   * Repaints only the cells at the given positions, such as those a move placed or flipped
+   * a card in. Falls back to repainting the whole panel if it has been resized since it was
+   * last painted.
+   *
+   * @param positions the positions of the cells to repaint
+   * @throws IllegalArgumentException if positions is null
+   */
+  public void repaintCells(List<Coordinate> positions) {
+    if (positions == null) {
+      throw new IllegalArgumentException("Positions cannot be null");
+    }
+    if (!isLaidOut(model.getBoard().getGrid())) {
+      repaint();
+      return;
+    }
+    for (Coordinate position : positions) {
+      repaint(cellBounds[position.getRow() * layoutColumns + position.getCol()]);
+    }
+  }
+
   @Override
   protected void paintComponent(Graphics g) {
     super.paintComponent(g);
@@ -89,18 +132,23 @@ public class GridPanel extends JPanel implements ThreeTriosPanel {
     g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
     Grid grid = model.getBoard().getGrid();
-    int totalColumns = grid.getTotalColumns();
-    int totalRows = grid.getTotalRows();
-
-    if (totalColumns == 0 || totalRows == 0) {
+    if (!isLaidOut(grid) && !layoutCells(grid)) {
       return;
     }
 
-    int cellWidth = getWidth() / totalColumns;
-    int cellHeight = getHeight() / totalRows;
-
-    // Draw grid cells
-    drawGrid(g2d, grid, totalRows, totalColumns, cellWidth, cellHeight);
+    // Only draw the cells inside the region being repainted
+    Rectangle clip = g2d.getClipBounds();
+    int firstRow = 0;
+    int lastRow = layoutRows - 1;
+    int firstCol = 0;
+    int lastCol = layoutColumns - 1;
+    if (clip != null) {
+      firstRow = Math.max(0, Math.min(lastRow, clip.y / cellHeight));
+      lastRow = Math.max(0, Math.min(lastRow, (clip.y + clip.height - 1) / cellHeight));
+      firstCol = Math.max(0, Math.min(lastCol, clip.x / cellWidth));
+      lastCol = Math.max(0, Math.min(lastCol, (clip.x + clip.width - 1) / cellWidth));
+    }
+    drawGrid(g2d, grid, firstRow, lastRow, firstCol, lastCol);
 
     // Draw game over overlay if needed
     if (model.getGameState() == GameState.GAME_OVER) {
@@ -108,46 +156,78 @@ public class GridPanel extends JPanel implements ThreeTriosPanel {
     }
   }
 
-  private void drawGrid(Graphics2D g2d, Grid grid, int totalRows, int totalColumns,
-                        int cellWidth, int cellHeight) {
+  private boolean isLaidOut(Grid grid) {
+    return cellBounds != null && layoutWidth == getWidth() && layoutHeight == getHeight()
+            && layoutRows == grid.getTotalRows() && layoutColumns == grid.getTotalColumns();
+  }
+
+  /**
+   * Rebuilds the cached cell bounds for the panel's current size.
+   *
+   * @param grid the grid to lay out
+   * @return false if the grid or panel is too small to draw
+   */
+  private boolean layoutCells(Grid grid) {
+    int totalRows = grid.getTotalRows();
+    int totalColumns = grid.getTotalColumns();
+    if (totalColumns == 0 || totalRows == 0
+            || getWidth() < totalColumns || getHeight() < totalRows) {
+      cellBounds = null;
+      return false;
+    }
+
+    cellWidth = getWidth() / totalColumns;
+    cellHeight = getHeight() / totalRows;
+    sprites.clear();
+    cellBounds = new Rectangle[totalRows * totalColumns];
     for (int row = 0; row < totalRows; row++) {
       for (int col = 0; col < totalColumns; col++) {
-        Coordinate pos = new GameCoordinate(row, col);
-        Rectangle cellBounds = new Rectangle(
+        cellBounds[row * totalColumns + col] = new Rectangle(
                 col * cellWidth, row * cellHeight, cellWidth, cellHeight);
+      }
+    }
+    layoutWidth = getWidth();
+    layoutHeight = getHeight();
+    layoutRows = totalRows;
+    layoutColumns = totalColumns;
+    valueMetrics = getFontMetrics(VALUE_FONT);
+    nameMetrics = getFontMetrics(NAME_FONT);
+    return true;
+  }
+
+  private void drawGrid(Graphics2D g2d, Grid grid, int firstRow, int lastRow,
+                        int firstCol, int lastCol) {
+    Board board = model.getBoard();
+    for (int row = firstRow; row <= lastRow; row++) {
+      for (int col = firstCol; col <= lastCol; col++) {
+        Coordinate pos = grid.getCoordinate(row, col);
+        Rectangle bounds = cellBounds[row * layoutColumns + col];
 
         // Fill cell based on state
         CellState state = grid.getCellState(pos);
-        if (state == CellState.HOLE) {
-          g2d.setColor(new Color(128, 128, 0)); // Olive green
-        } else {
-          g2d.setColor(Color.YELLOW);
-        }
-        g2d.fill(cellBounds);
+        g2d.setColor(state == CellState.HOLE ? HOLE_COLOR : CELL_COLOR);
+        g2d.fill(bounds);
 
-        // Draw card if present
+        // Draw card if present, from its cached sprite
         if (state == CellState.OCCUPIED) {
-          Card card = model.getBoard().getCardAt(pos);
-          drawCard(g2d, card, cellBounds);
+          g2d.drawImage(sprites.getSprite(board.getCardAt(pos), board.getOwnerAt(pos),
+                  bounds.width, bounds.height), bounds.x, bounds.y, null);
         }
 
         // Draw cell border
         g2d.setColor(Color.BLACK);
-        g2d.draw(cellBounds);
+        g2d.draw(bounds);
       }
     }
   }
 
-  private void drawCard(Graphics2D g2d, Card card, Rectangle bounds) {
+  private void drawCard(Graphics2D g2d, Card card, PlayerColor owner, Rectangle bounds) {
     // Fill card background based on owner
-    g2d.setColor(card.getOwner().getColor() == PlayerColor.RED
-            ? new Color(255, 200, 200) : new Color(200, 200, 255));
+    g2d.setColor(owner == PlayerColor.RED ? RED_CARD_COLOR : BLUE_CARD_COLOR);
     g2d.fill(bounds);
 
     // Draw card values
     g2d.setColor(Color.BLACK);
-    g2d.setFont(new Font("Arial", Font.BOLD, 16));
-
     int centerX = bounds.x + bounds.width / 2;
     int centerY = bounds.y + bounds.height / 2;
 
@@ -157,45 +237,33 @@ public class GridPanel extends JPanel implements ThreeTriosPanel {
 
   private void drawDirectionalValues(Graphics2D g2d, Card card, Rectangle bounds,
                                      int centerX, int centerY) {
-    String[] values = {
-            String.valueOf(card.getValue(Direction.NORTH)),
-            String.valueOf(card.getValue(Direction.EAST)),
-            String.valueOf(card.getValue(Direction.SOUTH)),
-            String.valueOf(card.getValue(Direction.WEST))
-    };
-
-    Point[] positions = {
-      new Point(centerX, bounds.y + 25),
-      new Point(centerX + bounds.width / 3, centerY),
-      new Point(centerX, bounds.y + bounds.height - 25),
-      new Point(centerX - bounds.width / 3, centerY)
-    };
+    g2d.setFont(VALUE_FONT);
+    drawValue(g2d, card.getValue(Direction.NORTH), centerX, bounds.y + 25);
+    drawValue(g2d, card.getValue(Direction.EAST), centerX + bounds.width / 3, centerY);
+    drawValue(g2d, card.getValue(Direction.SOUTH), centerX, bounds.y + bounds.height - 25);
+    drawValue(g2d, card.getValue(Direction.WEST), centerX - bounds.width / 3, centerY);
+  }
 
-    FontMetrics fm = g2d.getFontMetrics();
-    for (int i = 0; i < 4; i++) {
-      String value = values[i];
-      int textWidth = fm.stringWidth(value);
-      g2d.drawString(value,
-              positions[i].x - textWidth / 2,
-              positions[i].y + fm.getAscent() / 2);
-    }
+  private void drawValue(Graphics2D g2d, int value, int x, int y) {
+    String text = String.valueOf(value);
+    g2d.drawString(text, x - valueMetrics.stringWidth(text) / 2,
+            y + valueMetrics.getAscent() / 2);
   }
 
   private void drawCardIdentifier(Graphics2D g2d, Card card, int centerX, int centerY) {
-    g2d.setFont(new Font("Arial", Font.BOLD, 12));
-    FontMetrics fm = g2d.getFontMetrics();
+    g2d.setFont(NAME_FONT);
     String name = card.getIdentifier();
-    int nameWidth = fm.stringWidth(name);
-    g2d.drawString(name, centerX - nameWidth / 2, centerY + fm.getAscent());
+    int nameWidth = nameMetrics.stringWidth(name);
+    g2d.drawString(name, centerX - nameWidth / 2, centerY + nameMetrics.getAscent());
   }
 
   private void drawGameOverOverlay(Graphics2D g2d) {
     // Draw semi-transparent overlay
-    g2d.setColor(new Color(0, 0, 0, 150));
+    g2d.setColor(OVERLAY_COLOR);
     g2d.fillRect(0, 0, getWidth(), getHeight());
 
     // Draw game over text
-    g2d.setFont(new Font("Arial", Font.BOLD, 36));
+    g2d.setFont(GAME_OVER_FONT);
     PlayerColor winner = model.getWinner();
     String gameOverText = winner == null ? "Game Over - It's a tie!"
             : "Game Over - " + winner + " Wins!";
@@ -218,40 +286,6 @@ public class GridPanel extends JPanel implements ThreeTriosPanel {
     g2d.drawString(scoreText, gameOverX, gameOverY + fm.getHeight());
   }
 
-  private void handleMouseClick(MouseEvent e) {
-    if (!(model instanceof ThreeTriosModel)) {
-      return;  // Can't make moves if not mutable model
-    }
-
-    Grid grid = model.getBoard().getGrid();
-    int cellWidth = getWidth() / grid.getTotalColumns();
-    int cellHeight = getHeight() / grid.getTotalRows();
-
-    int row = e.getY() / cellHeight;
-    int col = e.getX() / cellWidth;
-    Coordinate clickedPos = new GameCoordinate(row, col);
-
-    HandPanel currentHandPanel = model.getCurrentPlayerColor() == PlayerColor.RED
-            ? redHandPanel : blueHandPanel;
-
-    if (currentHandPanel != null && currentHandPanel.getSelectedCardIndex() != -1) {
-      try {
-        Card selectedCard = model.getPlayerHand(model.getCurrentPlayerColor())
-                .get(currentHandPanel.getSelectedCardIndex());
-
-        if (model.getBoard().canPlaceCard(clickedPos)) {
-          ((ThreeTriosModel) model).playCard(selectedCard, clickedPos);
-          currentHandPanel.setSelectedCard(-1);
-          refresh();
-          redHandPanel.refresh();
-          blueHandPanel.refresh();
-        }
-      } catch (Exception ex) {
-        System.err.println("Failed to play card: " + ex.getMessage());
-      }
-    }
-  }
-
   @Override
   public void refresh() {
     repaint();
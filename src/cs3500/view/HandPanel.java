@@ -6,6 +6,7 @@ import cs3500.model.Direction;
 import cs3500.model.GameState;
 import cs3500.model.PlayerColor;
 import cs3500.model.ReadOnlyThreeTriosModel;
+import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Font;
@@ -14,6 +15,8 @@ import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.Rectangle;
 import java.awt.RenderingHints;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
 import java.awt.event.KeyAdapter;
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseAdapter;
@@ -23,14 +26,19 @@ import javax.swing.JPanel;
 
 /**
  * Panel for displaying a player's hand in the Three Trios game.
+ * Cards are drawn once per card size and then copied from a {@link CardSpriteCache}, which
+ * keeps the sprites of every card height the hand has used until the panel is resized.
  */
 public class HandPanel extends JPanel implements ThreeTriosPanel {
   private static final int MARGIN = 10;
   private static final int MAX_CARD_HEIGHT = 120;
   private static final int STROKE_WIDTH = 3;
+  private static final BasicStroke SELECTION_STROKE = new BasicStroke(STROKE_WIDTH);
+  private static final BasicStroke BORDER_STROKE = new BasicStroke(1);
 
   private final ReadOnlyThreeTriosModel model;
   private final PlayerColor player;
+  private final CardSpriteCache sprites;
   private Features features;
   private int selectedIndex;
 
@@ -48,6 +56,16 @@ public class HandPanel extends JPanel implements ThreeTriosPanel {
     this.model = model;
     this.player = player;
     this.selectedIndex = -1;
+    this.sprites = new CardSpriteCache((g2d, card, owner, width, height) ->
+            drawCardFace(g2d, card, new Rectangle(0, 0, width, height)));
+
+    // Card sizes change with the panel; sprites of the old sizes would never be used again
+    addComponentListener(new ComponentAdapter() {
+      @Override
+      public void componentResized(ComponentEvent e) {
+        sprites.clear();
+      }
+    });
 
     setBackground(getPlayerColor(player));
     addMouseListener(new MouseAdapter() {
@@ -163,21 +181,32 @@ public class HandPanel extends JPanel implements ThreeTriosPanel {
   }
 
   private void drawCard(Graphics2D g2d, Card card, Rectangle bounds, boolean isSelected) {
-    // Card background
-    g2d.setColor(getCardBackgroundColor());
-    g2d.fill(bounds);
+    if (bounds.width <= 0 || bounds.height <= 0) {
+      return;
+    }
+    g2d.drawImage(sprites.getSprite(card, player, bounds.width, bounds.height),
+            bounds.x, bounds.y, null);
 
-    // Selection highlight
+    // Selection highlight, under the card border
     if (isSelected && model.getCurrentPlayerColor() == player) {
       g2d.setColor(Color.YELLOW);
-      g2d.setStroke(new java.awt.BasicStroke(STROKE_WIDTH));
-      g2d.draw(bounds);
+      g2d.setStroke(SELECTION_STROKE);
+      g2d.drawRect(bounds.x, bounds.y, bounds.width - 1, bounds.height - 1);
+      g2d.setColor(Color.BLACK);
+      g2d.setStroke(BORDER_STROKE);
+      g2d.drawRect(bounds.x, bounds.y, bounds.width - 1, bounds.height - 1);
     }
+  }
+
+  private void drawCardFace(Graphics2D g2d, Card card, Rectangle bounds) {
+    // Card background
+    g2d.setColor(getCardBackgroundColor());
+    g2d.fill(bounds);
 
-    // Card border
+    // Card border, inside the sprite
     g2d.setColor(Color.BLACK);
-    g2d.setStroke(new java.awt.BasicStroke(1));
-    g2d.draw(bounds);
+    g2d.setStroke(BORDER_STROKE);
+    g2d.drawRect(bounds.x, bounds.y, bounds.width - 1, bounds.height - 1);
 
     // Card contents
     drawCardContents(g2d, card, bounds);
@@ -281,6 +281,19 @@ public class SwingThreeTriosView extends JFrame implements ThreeTriosView {
     });
   }
 
+  @Override
+  public void refreshCells(List<Coordinate> positions) {
+    if (positions == null) {
+      throw new IllegalArgumentException("Positions cannot be null");
+    }
+    SwingUtilities.invokeLater(() -> {
+      updateGameStatus();
+      redHandPanel.refresh();
+      blueHandPanel.refresh();
+      gridPanel.repaintCells(positions);
+    });
+  }
+
   private void updateGameStatus() {
     if (model.getGameState() == GameState.GAME_OVER) {
       handleGameOverStatus();
@@ -1,6 +1,8 @@
 package cs3500.view;
 
 import cs3500.controller.Features;
+import cs3500.model.Coordinate;
+import java.util.List;
 
 /**
  * Interface for the graphical view of the Three Trios game.
@@ -19,6 +21,16 @@ public interface ThreeTriosView {
    */
   void refresh();
 
+  /**
+   * Refreshes the view after the cards at the given board positions changed, repainting as
+   * little of the board as the view is able to. The hands and status are refreshed as well,
+   * since a card placed on the board has left a hand.
+   *
+   * @param positions the positions whose cards changed
+   * @throws IllegalArgumentException if positions is null
+   */
+  void refreshCells(List<Coordinate> positions);
+
   /**
    * Adds a features listener to handle player actions.
    *
@@ -0,0 +1,17 @@
+package cs3500;
+
+import cs3500.model.BasicThreeTriosGame;
+import cs3500.model.BitBoard;
+
+/**
+ * Runs every ThreeTriosModel test again with the game played on a BitBoard.
+ */
+public class BitBoardThreeTriosModelTest extends ThreeTriosModelTest {
+
+  @Override
+  protected BasicThreeTriosGame newModel() {
+    BasicThreeTriosGame model = new BasicThreeTriosGame();
+    model.setBoardFactory(BitBoard::new);
+    return model;
+  }
+}
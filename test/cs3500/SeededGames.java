@@ -0,0 +1,104 @@
+package cs3500;
+
+import cs3500.model.BasicThreeTriosGame;
+import cs3500.model.GameCard;
+import cs3500.model.GameCoordinate;
+import cs3500.model.GameGrid;
+import cs3500.model.PlayerColor;
+import cs3500.strategy.MaxFlipsStrategy;
+import cs3500.strategy.Move;
+import cs3500.strategy.Strategy;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Reproducible games for the tests: every game is dealt by a shuffle with a given seed.
+ */
+public final class SeededGames {
+  public static final String LARGE_GRID = "5x5BoardConnectedCardCells.txt";
+  public static final String LARGE_CARDS = "CompleteCardSet.txt";
+  public static final String SMALL_GRID = "3x3BoardNoHoles.txt";
+  public static final String SMALL_CARDS = "TenCardSetFor3x3Board.txt";
+
+  private SeededGames() {
+  }
+
+  /**
+   * Creates a game dealt from configuration files, not yet started.
+   *
+   * @param gridConfig the grid configuration file
+   * @param cardsConfig the card configuration file
+   * @param seed seed for the shuffle
+   * @return the dealt game
+   */
+  public static BasicThreeTriosGame dealt(String gridConfig, String cardsConfig, long seed) {
+    BasicThreeTriosGame model = new BasicThreeTriosGame();
+    model.setShuffleRandom(new Random(seed));
+    model.initializeGameFromFiles(gridConfig, cardsConfig);
+    return model;
+  }
+
+  /**
+   * Creates a game on the 3x3 board with the ten-card set, not yet started.
+   *
+   * @param seed seed for the shuffle
+   * @return the dealt game
+   */
+  public static BasicThreeTriosGame dealtSmall(long seed) {
+    return dealt(SMALL_GRID, SMALL_CARDS, seed);
+  }
+
+  /**
+   * Creates a started game on the 5x5 board with the complete card set.
+   *
+   * @param seed seed for the shuffle
+   * @return the started game
+   */
+  public static BasicThreeTriosGame started(long seed) {
+    BasicThreeTriosGame model = dealt(LARGE_GRID, LARGE_CARDS, seed);
+    model.startGame();
+    return model;
+  }
+
+  /**
+   * Creates a started game on the 5x5 board and plays its first moves with a strategy.
+   *
+   * @param seed seed for the shuffle
+   * @param moves number of moves to play
+   * @param opening the strategy choosing those moves for both players
+   * @return the game after the moves
+   */
+  public static BasicThreeTriosGame afterMoves(long seed, int moves, Strategy opening) {
+    BasicThreeTriosGame model = started(seed);
+    for (int i = 0; i < moves; i++) {
+      Move move = opening.chooseMove(model, model.getCurrentPlayerColor());
+      model.playCard(move.getCard(), move.getPosition());
+    }
+    return model;
+  }
+
+  /**
+   * Creates a game on the 5x5 board after five moves of MaxFlips, with regions on the board
+   * and cards left in both hands.
+   *
+   * @param seed seed for the shuffle
+   * @return the game in its middle
+   */
+  public static BasicThreeTriosGame midGame(long seed) {
+    return afterMoves(seed, 5, new MaxFlipsStrategy());
+  }
+
+  /**
+   * Creates a game on a single cell that red has already filled, so it is over.
+   *
+   * @return the finished game
+   */
+  public static BasicThreeTriosGame finished() {
+    BasicThreeTriosGame model = new BasicThreeTriosGame();
+    model.initializeGame(new GameGrid(1, 1), Arrays.asList(
+            new GameCard("A", 1, 1, 1, 1), new GameCard("B", 1, 1, 1, 1)));
+    model.startGame();
+    model.playCard(model.getPlayerHand(PlayerColor.RED).get(0), new GameCoordinate(0, 0));
+    return model;
+  }
+}
@@ -5,9 +5,7 @@ import cs3500.model.Card;
 import cs3500.model.GameCard;
 import cs3500.model.GameCoordinate;
 import cs3500.model.GameGrid;
-import cs3500.model.GamePlayer;
 import cs3500.model.Grid;
-import cs3500.model.Player;
 import cs3500.model.PlayerColor;
 import cs3500.model.ThreeTriosModel;
 import java.util.Arrays;
@@ -28,14 +26,11 @@ public class ThreeTriosExamples {
    * Sets up common test examples.
    */
   private void initializeExample() {
-    Player redPlayer = new GamePlayer(PlayerColor.RED);
-    Player bluePlayer = new GamePlayer(PlayerColor.BLUE);
-
-    dragonCard = new GameCard("Dragon", redPlayer, 8, 7,
+    dragonCard = new GameCard("Dragon", 8, 7,
             9, 6);
-    knightCard = new GameCard("Knight", redPlayer, 6, 8,
+    knightCard = new GameCard("Knight", 6, 8,
             7, 5);
-    wizardCard = new GameCard("Wizard", bluePlayer, 9, 5,
+    wizardCard = new GameCard("Wizard", 9, 5,
             6, 7);
 
     game = new BasicThreeTriosGame();
@@ -70,8 +65,7 @@ public class ThreeTriosExamples {
     game.playCard(wizardCard, new GameCoordinate(0, 1)); // Blue's wizard above dragon
 
     // Verify the battle outcome
-    Card flippedCard = game.getBoard().getCardAt(new GameCoordinate(0, 1));
-    assert flippedCard.getOwner().getColor() == PlayerColor.RED :
+    assert game.getBoard().getOwnerAt(new GameCoordinate(0, 1)) == PlayerColor.RED :
             "Wizard should be flipped to Red's control";
   }
 }
\ No newline at end of file
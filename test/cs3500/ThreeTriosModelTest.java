@@ -12,10 +12,8 @@ import cs3500.model.Coordinate;
 import cs3500.model.GameCard;
 import cs3500.model.GameCoordinate;
 import cs3500.model.GameGrid;
-import cs3500.model.GamePlayer;
 import cs3500.model.GameState;
 import cs3500.model.Grid;
-import cs3500.model.Player;
 import cs3500.model.PlayerColor;
 import cs3500.model.ThreeTriosModel;
 import java.util.Arrays;
@@ -30,31 +28,37 @@ public class ThreeTriosModelTest {
   private ThreeTriosModel model;
   private Grid testGrid;
   private List<Card> testCards;
-  private Player redPlayer;
-  private Player bluePlayer;
 
   /**
    * Sets up the test environment.
    */
   @Before
   public void setup() {
-    model = new BasicThreeTriosGame();
+    model = newModel();
     testGrid = new GameGrid(3, 3);
-    redPlayer = new GamePlayer(PlayerColor.RED);
-    bluePlayer = new GamePlayer(PlayerColor.BLUE);
 
     testCards = Arrays.asList(
-            new GameCard("Dragon", redPlayer, 8, 7,
+            new GameCard("Dragon", 8, 7,
                     9, 6),
-            new GameCard("Knight", redPlayer, 6, 8,
+            new GameCard("Knight", 6, 8,
                     7, 5),
-            new GameCard("Wizard", bluePlayer, 9, 5,
+            new GameCard("Wizard", 9, 5,
                     6, 7),
-            new GameCard("Rogue", bluePlayer, 7, 6,
+            new GameCard("Rogue", 7, 6,
                     8, 5)
     );
   }
 
+  /**
+   * Creates the model under test. Subclasses override this to run every test against
+   * another board implementation.
+   *
+   * @return a new model
+   */
+  protected BasicThreeTriosGame newModel() {
+    return new BasicThreeTriosGame();
+  }
+
   @Test
   public void testInitializeGame() {
     model.initializeGame(testGrid, testCards);
@@ -77,9 +81,9 @@ public class ThreeTriosModelTest {
 
   @Test
   public void testPlayValidCard() {
-    Card redCard = new GameCard("Red", redPlayer, 5, 5,
+    Card redCard = new GameCard("Red", 5, 5,
             5, 5);
-    Card blueCard = new GameCard("Blue", bluePlayer, 5, 5,
+    Card blueCard = new GameCard("Blue", 5, 5,
             5, 5);
     List<Card> cards = Arrays.asList(redCard, blueCard);
 
@@ -101,9 +105,9 @@ public class ThreeTriosModelTest {
   @Test(expected = IllegalStateException.class)
   public void testPlayCardToOccupiedPosition() {
     List<Card> cards = Arrays.asList(
-            new GameCard("Red1", redPlayer, 5, 5,
+            new GameCard("Red1", 5, 5,
                     5, 5),
-            new GameCard("Blue1", bluePlayer, 5, 5,
+            new GameCard("Blue1", 5, 5,
                     5, 5)
     );
 
@@ -120,9 +124,9 @@ public class ThreeTriosModelTest {
 
   @Test
   public void testBattleMechanics() {
-    Card weakCard = new GameCard("Weak", redPlayer, 1, 1,
+    Card weakCard = new GameCard("Weak", 1, 1,
             1, 1);
-    Card strongCard = new GameCard("Strong", bluePlayer, 9, 9,
+    Card strongCard = new GameCard("Strong", 9, 9,
             9, 9);
     List<Card> cards = Arrays.asList(weakCard, strongCard);
 
@@ -138,9 +142,8 @@ public class ThreeTriosModelTest {
     model.playCard(strongCard, adjacentPos);
 
     // Verify battle outcome
-    Card centerCard = model.getBoard().getCardAt(centerPos);
     assertEquals("Weak card should be captured by Blue",
-            PlayerColor.BLUE, centerCard.getOwner().getColor());
+            PlayerColor.BLUE, model.getBoard().getOwnerAt(centerPos));
     assertEquals("Blue should have 2 cards on board",
             2, model.getBoard().getCardCount(PlayerColor.BLUE));
   }
@@ -148,11 +151,8 @@ public class ThreeTriosModelTest {
   @Test
   public void testPotentialFlips() {
     // Set up game with specific cards for testing
-    Player redPlayer = new GamePlayer(PlayerColor.RED);
-    Player bluePlayer = new GamePlayer(PlayerColor.BLUE);
-
-    Card weakCard = new GameCard("Weak", redPlayer, 1, 1, 1, 1);
-    Card strongCard = new GameCard("Strong", bluePlayer, 9, 9, 9, 9);
+    Card weakCard = new GameCard("Weak", 1, 1, 1, 1);
+    Card strongCard = new GameCard("Strong", 9, 9, 9, 9);
 
     List<Card> cards = Arrays.asList(weakCard, strongCard);
     Grid grid = new GameGrid(3, 3);
@@ -163,9 +163,11 @@ public class ThreeTriosModelTest {
     assertEquals("Empty board should have no potential flips",
             0, model.getPotentialFlips(strongCard, new GameCoordinate(1, 1)));
 
-    // Place red's weak card using the board directly
+    // Place the weak card for whoever was dealt it, using the board directly
     Coordinate centerPos = new GameCoordinate(1, 1);
-    model.getBoard().placeCard(weakCard, centerPos);
+    PlayerColor weakOwner = model.getPlayerHand(PlayerColor.RED).contains(weakCard)
+            ? PlayerColor.RED : PlayerColor.BLUE;
+    model.getBoard().placeCard(weakCard, centerPos, weakOwner);
 
     // Test scenario 2: Test potential flips with cards on board
     Coordinate attackPos = new GameCoordinate(1, 2);
@@ -177,16 +179,16 @@ public class ThreeTriosModelTest {
   public void testGameEndScore() {
     // Set up even-strength cards
     List<Card> cards = Arrays.asList(
-        new GameCard("R1", redPlayer, 5, 5, 5, 5),
-        new GameCard("R2", redPlayer, 5, 5, 5, 5),
-        new GameCard("B1", bluePlayer, 5, 5, 5, 5),
-        new GameCard("B2", bluePlayer, 5, 5, 5, 5),
-        new GameCard("R3", redPlayer, 5, 5, 5, 5),
-        new GameCard("R4", redPlayer, 5, 5, 5, 5),
-        new GameCard("B3", bluePlayer, 5, 5, 5, 5),
-        new GameCard("B4", bluePlayer, 5, 5, 5, 5),
-        new GameCard("R5", redPlayer, 5, 5, 5, 5),
-        new GameCard("B5", bluePlayer, 5, 5, 5, 5)
+        new GameCard("R1", 5, 5, 5, 5),
+        new GameCard("R2", 5, 5, 5, 5),
+        new GameCard("B1", 5, 5, 5, 5),
+        new GameCard("B2", 5, 5, 5, 5),
+        new GameCard("R3", 5, 5, 5, 5),
+        new GameCard("R4", 5, 5, 5, 5),
+        new GameCard("B3", 5, 5, 5, 5),
+        new GameCard("B4", 5, 5, 5, 5),
+        new GameCard("R5", 5, 5, 5, 5),
+        new GameCard("B5", 5, 5, 5, 5)
     );
 
     model.initializeGame(new GameGrid(3, 3), cards);
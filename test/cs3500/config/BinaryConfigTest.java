@@ -0,0 +1,102 @@
+package cs3500.config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import cs3500.model.BasicThreeTriosGame;
+import cs3500.model.Card;
+import cs3500.model.Direction;
+import cs3500.model.Grid;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for the binary configuration format and the mapped card library.
+ */
+public class BinaryConfigTest {
+  private Path gridFile;
+  private Path cardFile;
+
+  /**
+   * Converts the shipped 5x5 grid and complete card set to temporary binary files.
+   */
+  @Before
+  public void setup() throws IOException {
+    gridFile = Files.createTempFile("grid", ".bin");
+    cardFile = Files.createTempFile("cards", ".bin");
+    BinaryConfig.convertGrid("5x5BoardConnectedCardCells.txt", gridFile.toString());
+    BinaryConfig.convertCards("CompleteCardSet.txt", cardFile.toString());
+  }
+
+  /**
+   * Removes the temporary files.
+   */
+  @After
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(gridFile);
+    Files.deleteIfExists(cardFile);
+  }
+
+  @Test
+  public void testGridRoundTrip() throws IOException {
+    Grid text = ConfigLoader.loadGrid("5x5BoardConnectedCardCells.txt");
+    Grid binary = BinaryConfig.loadGrid(gridFile.toString());
+    assertTrue(BinaryConfig.isBinary(gridFile.toString()));
+    assertFalse(BinaryConfig.isBinary("5x5BoardConnectedCardCells.txt"));
+    assertEquals(text.getTotalRows(), binary.getTotalRows());
+    assertEquals(text.getCardCellCount(), binary.getCardCellCount());
+    for (int row = 0; row < text.getTotalRows(); row++) {
+      for (int col = 0; col < text.getTotalColumns(); col++) {
+        assertEquals(text.getCellState(text.getCoordinate(row, col)),
+                binary.getCellState(binary.getCoordinate(row, col)));
+      }
+    }
+  }
+
+  @Test
+  public void testCardLibraryMatchesTextFile() throws IOException {
+    List<Card> text = ConfigLoader.loadCards("CompleteCardSet.txt");
+    MappedCardLibrary library = MappedCardLibrary.open(cardFile.toString());
+    assertSame(library, MappedCardLibrary.open(cardFile.toString()));
+    assertEquals(text.size(), library.size());
+    for (int i = 0; i < text.size(); i++) {
+      Card card = library.getCard(i);
+      assertEquals(text.get(i).getIdentifier(), card.getIdentifier());
+      for (Direction direction : Direction.values()) {
+        assertEquals(text.get(i).getValue(direction), card.getValue(direction));
+      }
+    }
+  }
+
+  @Test
+  public void testBinaryCardsDecodedOnce() throws IOException {
+    List<Card> cards = ConfigLoader.loadCards(cardFile.toString());
+    assertSame(cards, ConfigLoader.loadCards(cardFile.toString()));
+    assertSame(cards, MappedCardLibrary.open(cardFile.toString()).toCards());
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testBinaryCardsUnmodifiable() throws IOException {
+    ConfigLoader.loadCards(cardFile.toString()).clear();
+  }
+
+  @Test
+  public void testModelLoadsBinaryFiles() {
+    BasicThreeTriosGame model = new BasicThreeTriosGame();
+    model.initializeGameFromFiles(gridFile.toString(), cardFile.toString());
+    model.startGame();
+    assertEquals(5, model.getBoard().getGrid().getTotalRows());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testRejectsWrongKind() throws IOException {
+    BinaryConfig.loadGrid(cardFile.toString());
+  }
+}
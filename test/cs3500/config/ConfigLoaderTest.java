@@ -0,0 +1,119 @@
+package cs3500.config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import cs3500.model.Card;
+import cs3500.model.CellState;
+import cs3500.model.Direction;
+import cs3500.model.Grid;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+
+/**
+ * Tests for the streaming configuration loader.
+ */
+public class ConfigLoaderTest {
+
+  private void assertParseError(String input, boolean grid, int line, int column)
+          throws IOException {
+    try {
+      if (grid) {
+        ConfigLoader.readGrid(new StringReader(input), "test");
+      } else {
+        ConfigLoader.readCards(new StringReader(input), "test", card -> { });
+      }
+      fail("Expected a parse error in: " + input);
+    } catch (ConfigParseException e) {
+      assertEquals(e.getMessage(), line, e.getLine());
+      assertEquals(e.getMessage(), column, e.getColumn());
+      assertEquals("test", e.getSource());
+    }
+  }
+
+  @Test
+  public void testLoadsShippedFiles() throws IOException {
+    Grid grid = ConfigLoader.loadGrid("5x5BoardConnectedCardCells.txt");
+    assertEquals(5, grid.getTotalRows());
+    assertEquals(CellState.HOLE, grid.getCellState(grid.getCoordinate(0, 1)));
+    assertEquals(CellState.AVAILABLE, grid.getCellState(grid.getCoordinate(0, 0)));
+
+    List<Card> cards = ConfigLoader.loadCards("CompleteCardSet.txt");
+    assertEquals("Dragon", cards.get(0).getIdentifier());
+    assertEquals(7, cards.get(0).getValue(Direction.EAST));
+  }
+
+  @Test
+  public void testAcceptsLetterValuesAndWindowsLineEnds() throws IOException {
+    List<Card> cards = new ArrayList<>();
+    ConfigLoader.readCards(new StringReader("\r\nAce A 1  9\t10\r\n\r\nTwo 2 2 2 2"),
+            "test", cards::add);
+    assertEquals(2, cards.size());
+    assertEquals(10, cards.get(0).getValue(Direction.NORTH));
+    assertEquals(10, cards.get(0).getValue(Direction.WEST));
+    assertEquals("Two", cards.get(1).getIdentifier());
+  }
+
+  @Test
+  public void testReportsErrorPositions() throws IOException {
+    assertParseError("Dragon 8 7 9 6\nKnight 6 8 x 5\n", false, 2, 12);
+    assertParseError("Dragon 8 7 9 6\nKnight 6 8\n", false, 2, 11);
+    assertParseError("Dragon 8 7 11 6\n", false, 1, 12);
+    assertParseError("Dragon 8 7 9 6 5\n", false, 1, 16);
+    assertParseError("3 3\nCCC\nCYC\nCCC\n", true, 3, 2);
+    assertParseError("3 3\nCC\nCCC\nCCC\n", true, 2, 3);
+    assertParseError("4 3\nCCC\n", true, 1, 1);
+    assertParseError("3 3\nCCC\nCCC\nCCC\nCCC\n", true, 5, 1);
+  }
+
+  @Test
+  public void testStreamsLargeLibraryWithoutKeepingIt() throws IOException {
+    int total = 200_000;
+    // Generates the library on the fly, so neither side ever holds all of it
+    Reader library = new Reader() {
+      private int card;
+      private String pending = "";
+
+      @Override
+      public int read(char[] buffer, int offset, int length) {
+        if (pending.isEmpty()) {
+          if (card == total) {
+            return -1;
+          }
+          pending = "Card" + card + " " + (card % 9 + 1) + " 2 3 A\n";
+          card++;
+        }
+        int count = Math.min(length, pending.length());
+        pending.getChars(0, count, buffer, offset);
+        pending = pending.substring(count);
+        return count;
+      }
+
+      @Override
+      public void close() {
+      }
+    };
+
+    int[] count = new int[1];
+    long[] northTotal = new long[1];
+    ConfigLoader.readCards(library, "generated", card -> {
+      count[0]++;
+      northTotal[0] += card.getValue(Direction.NORTH);
+    });
+    long expectedNorth = 0;
+    for (int card = 0; card < total; card++) {
+      expectedNorth += card % 9 + 1;
+    }
+    assertEquals(total, count[0]);
+    assertEquals(expectedNorth, northTotal[0]);
+  }
+
+  @Test(expected = IOException.class)
+  public void testMissingFileIsIoError() throws IOException {
+    ConfigLoader.loadCards("nonexistent.txt");
+  }
+}
@@ -0,0 +1,130 @@
+package cs3500.controller;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import cs3500.SeededGames;
+import cs3500.model.BasicThreeTriosGame;
+import cs3500.model.PlayerColor;
+import cs3500.model.ScratchModel;
+import cs3500.strategy.MaxFlipsStrategy;
+import cs3500.strategy.Move;
+import cs3500.strategy.Strategy;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests that AsyncMoveSearcher searches off the calling thread, honours its time budget
+ * and never delivers a cancelled search.
+ */
+public class AsyncMoveSearcherTest {
+  private BasicThreeTriosGame model;
+  private AsyncMoveSearcher searcher;
+
+  /**
+   * Starts a seeded game and a searcher that delivers on the search thread.
+   */
+  @Before
+  public void setup() {
+    model = SeededGames.dealtSmall(0);
+    model.startGame();
+    searcher = new AsyncMoveSearcher(200, Runnable::run);
+  }
+
+  @After
+  public void tearDown() {
+    searcher.shutdown();
+  }
+
+  @Test
+  public void testSearchesOffCallingThread() throws InterruptedException {
+    CountDownLatch done = new CountDownLatch(1);
+    AtomicReference<Thread> searchThread = new AtomicReference<>();
+    AtomicReference<Move> delivered = new AtomicReference<>();
+    Strategy strategy = (m, player) -> {
+      searchThread.set(Thread.currentThread());
+      return new MaxFlipsStrategy().chooseMove(m, player);
+    };
+
+    ScratchModel snapshot = new ScratchModel(model);
+    searcher.search(snapshot, strategy, PlayerColor.RED, (move, failure) -> {
+      delivered.set(move);
+      done.countDown();
+    });
+    assertTrue(done.await(5, TimeUnit.SECONDS));
+
+    assertNotSame(Thread.currentThread(), searchThread.get());
+    assertTrue(snapshot.getPlayerHand(PlayerColor.RED).contains(delivered.get().getCard()));
+    assertTrue(model.getPlayerHand(PlayerColor.RED)
+            .contains(delivered.get().getCard()));
+    assertFalse(searcher.isSearching());
+  }
+
+  @Test
+  public void testBudgetInterruptsSearch() throws InterruptedException {
+    CountDownLatch done = new CountDownLatch(1);
+    AtomicReference<Move> delivered = new AtomicReference<>();
+    Move fallback = new MaxFlipsStrategy().chooseMove(model, PlayerColor.RED);
+    Strategy slow = (m, player) -> {
+      while (!Thread.currentThread().isInterrupted()) {
+        Thread.onSpinWait();
+      }
+      return fallback;
+    };
+
+    searcher.search(model, slow, PlayerColor.RED, (move, failure) -> {
+      delivered.set(move);
+      done.countDown();
+    });
+    assertTrue(done.await(5, TimeUnit.SECONDS));
+    assertSame(fallback, delivered.get());
+  }
+
+  @Test
+  public void testCancelledSearchIsNotDelivered() throws InterruptedException {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch delivered = new CountDownLatch(1);
+    Strategy waiting = (m, player) -> {
+      started.countDown();
+      while (!Thread.currentThread().isInterrupted()) {
+        Thread.onSpinWait();
+      }
+      return null;
+    };
+
+    searcher.search(model, waiting, PlayerColor.RED, (move, failure) -> delivered.countDown());
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+    searcher.cancel();
+
+    assertFalse(delivered.await(500, TimeUnit.MILLISECONDS));
+    assertFalse(searcher.isSearching());
+  }
+
+  @Test
+  public void testFailingStrategyDeliversItsException() throws InterruptedException {
+    CountDownLatch done = new CountDownLatch(1);
+    AtomicReference<Move> delivered = new AtomicReference<>(
+            new MaxFlipsStrategy().chooseMove(model, PlayerColor.RED));
+    AtomicReference<RuntimeException> thrown = new AtomicReference<>();
+    IllegalStateException failure = new IllegalStateException("No moves");
+    Strategy failing = (m, player) -> {
+      throw failure;
+    };
+
+    searcher.search(model, failing, PlayerColor.RED, (move, e) -> {
+      delivered.set(move);
+      thrown.set(e);
+      done.countDown();
+    });
+    assertTrue(done.await(5, TimeUnit.SECONDS));
+    assertNull(delivered.get());
+    assertSame(failure, thrown.get());
+  }
+}
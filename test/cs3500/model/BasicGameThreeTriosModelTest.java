@@ -1,11 +1,17 @@
 package cs3500.model;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
+import cs3500.strategy.MaxFlipsStrategy;
+import cs3500.strategy.Move;
+import cs3500.strategy.Strategy;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -21,7 +27,17 @@ public class BasicGameThreeTriosModelTest {
    */
   @Before
   public void setup() {
-    model = new BasicThreeTriosGame();
+    model = newModel();
+  }
+
+  /**
+   * Creates the model under test. Subclasses override this to run every test against
+   * another board implementation.
+   *
+   * @return a new model
+   */
+  protected BasicThreeTriosGame newModel() {
+    return new BasicThreeTriosGame();
   }
 
   @Test
@@ -159,6 +175,40 @@ public class BasicGameThreeTriosModelTest {
     }
   }
 
+  @Test
+  public void testOneCardListBacksSeparateGames() throws IOException {
+    List<Card> cards = model.loadCardsFromFile("TenCardSetFor3x3Board.txt");
+    BasicThreeTriosGame first = newModel();
+    BasicThreeTriosGame second = newModel();
+    first.setShuffleRandom(new Random(3));
+    second.setShuffleRandom(new Random(3));
+    first.initializeGame(new GameGrid(3, 3), cards);
+    second.initializeGame(new GameGrid(3, 3), cards);
+    first.startGame();
+    second.startGame();
+
+    // Play the first game to the end while the second still holds the same cards
+    Strategy strategy = new MaxFlipsStrategy();
+    List<Move> moves = new ArrayList<>();
+    while (first.getGameState() != GameState.GAME_OVER) {
+      Move move = strategy.chooseMove(first, first.getCurrentPlayerColor());
+      moves.add(move);
+      first.playCard(move.getCard(), move.getPosition());
+    }
+    assertEquals(9, second.getBoard().getEmptyCardCells().size());
+    assertEquals(5, second.getScore(PlayerColor.RED));
+
+    for (Move move : moves) {
+      second.playCard(move.getCard(), move.getPosition());
+    }
+    for (Coordinate position : first.getBoard().getAllCards().keySet()) {
+      assertSame(first.getBoard().getCardAt(position), second.getBoard().getCardAt(position));
+      assertEquals(first.getBoard().getOwnerAt(position),
+              second.getBoard().getOwnerAt(position));
+    }
+    assertEquals(first.getScore(PlayerColor.RED), second.getScore(PlayerColor.RED));
+  }
+
   @Test
   public void testGridCardCellCount() throws IOException {
     Grid grid = model.loadGridFromFile("3x3BoardNoHoles.txt");
@@ -0,0 +1,14 @@
+package cs3500.model;
+
+/**
+ * Runs every BasicThreeTriosGame test again with the game played on a BitBoard.
+ */
+public class BitBoardBasicGameThreeTriosModelTest extends BasicGameThreeTriosModelTest {
+
+  @Override
+  protected BasicThreeTriosGame newModel() {
+    BasicThreeTriosGame model = new BasicThreeTriosGame();
+    model.setBoardFactory(BitBoard::new);
+    return model;
+  }
+}
@@ -0,0 +1,205 @@
+package cs3500.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests that BitBoard honours the same Board and Grid contract as GameBoard.
+ */
+public class BitBoardTest {
+  private Board board;
+
+  /**
+   * Sets up a 3x3 board with a hole in the top-right corner.
+   */
+  @Before
+  public void setup() {
+    Grid grid = new GameGrid(3, 3);
+    grid.setCellState(new GameCoordinate(0, 2), CellState.HOLE);
+    board = new BitBoard(grid);
+  }
+
+  @Test
+  public void testGridViewMatchesSourceGrid() {
+    Grid grid = board.getGrid();
+    assertEquals(3, grid.getTotalRows());
+    assertEquals(3, grid.getTotalColumns());
+    assertEquals(8, grid.getCardCellCount());
+    assertEquals(CellState.HOLE, grid.getCellState(new GameCoordinate(0, 2)));
+    assertEquals(CellState.AVAILABLE, grid.getCellState(new GameCoordinate(1, 1)));
+  }
+
+  @Test
+  public void testPlaceCardUpdatesStateAndCounts() {
+    Card card = new GameCard("Red", 5, 5, 5, 5);
+    Coordinate pos = new GameCoordinate(1, 1);
+    board.placeCard(card, pos, PlayerColor.RED);
+
+    assertSame(card, board.getCardAt(pos));
+    assertFalse(board.canPlaceCard(pos));
+    assertEquals(CellState.OCCUPIED, board.getGrid().getCellState(pos));
+    assertEquals(1, board.getCardCount(PlayerColor.RED));
+    assertEquals(0, board.getCardCount(PlayerColor.BLUE));
+    assertEquals(7, board.getEmptyCardCells().size());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testPlaceCardInHole() {
+    board.placeCard(new GameCard("Red", 5, 5, 5, 5), new GameCoordinate(0, 2), PlayerColor.RED);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testPlaceCardOnOccupiedCell() {
+    Coordinate pos = new GameCoordinate(1, 1);
+    board.placeCard(new GameCard("Red", 5, 5, 5, 5), pos, PlayerColor.RED);
+    board.placeCard(new GameCard("Blue", 5, 5, 5, 5), pos, PlayerColor.BLUE);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testOutOfBoundsPosition() {
+    board.canPlaceCard(new GameCoordinate(3, 0));
+  }
+
+  @Test
+  public void testFlipCardUpdatesOwnership() {
+    Card card = new GameCard("Red", 5, 5, 5, 5);
+    Coordinate pos = new GameCoordinate(2, 2);
+    board.placeCard(card, pos, PlayerColor.RED);
+    board.flipCard(pos, PlayerColor.BLUE);
+
+    assertSame(card, board.getCardAt(pos));
+    assertEquals(PlayerColor.BLUE, board.getOwnerAt(pos));
+    assertEquals(0, board.getCardCount(PlayerColor.RED));
+    assertEquals(1, board.getCardCount(PlayerColor.BLUE));
+  }
+
+  @Test
+  public void testAdjacentCardsOrder() {
+    Card north = new GameCard("N", 1, 1, 1, 1);
+    Card west = new GameCard("W", 1, 1, 1, 1);
+    board.placeCard(north, new GameCoordinate(0, 1), PlayerColor.RED);
+    board.placeCard(west, new GameCoordinate(1, 0), PlayerColor.BLUE);
+
+    List<Card> adjacent = board.getAdjacentCards(new GameCoordinate(1, 1));
+    assertEquals(Arrays.asList(north, null, null, west), adjacent);
+
+    List<Card> opponents = board.getAdjacentOpponentCards(
+            new GameCoordinate(1, 1), PlayerColor.RED);
+    assertEquals(Arrays.asList(null, null, null, west), opponents);
+  }
+
+  @Test
+  public void testEmptyCellsInRowMajorOrder() {
+    List<Coordinate> empty = board.getEmptyCardCells();
+    assertEquals(8, empty.size());
+    assertEquals(new GameCoordinate(0, 0), empty.get(0));
+    assertEquals(new GameCoordinate(0, 1), empty.get(1));
+    assertEquals(new GameCoordinate(1, 0), empty.get(2));
+    assertEquals(new GameCoordinate(2, 2), empty.get(7));
+  }
+
+  @Test
+  public void testCopyIsIndependent() {
+    Coordinate pos = new GameCoordinate(1, 1);
+    Board copy = board.copy();
+    copy.placeCard(new GameCard("Red", 5, 5, 5, 5), pos, PlayerColor.RED);
+
+    assertTrue(board.canPlaceCard(pos));
+    assertNull(board.getCardAt(pos));
+    assertFalse(copy.canPlaceCard(pos));
+  }
+
+  @Test
+  public void testClearAndIsFull() {
+    int index = 0;
+    for (Coordinate pos : board.getEmptyCardCells()) {
+      board.placeCard(new GameCard("C" + index++, 1, 1, 1, 1), pos, PlayerColor.RED);
+    }
+    assertTrue(board.isFull());
+
+    board.clear();
+    assertFalse(board.isFull());
+    assertEquals(8, board.getEmptyCardCells().size());
+    assertEquals(CellState.HOLE, board.getGrid().getCellState(new GameCoordinate(0, 2)));
+  }
+
+  @Test
+  public void testCardCountsFollowEveryChange() {
+    Grid grid = new GameGrid(3, 3);
+    grid.setCellState(new GameCoordinate(0, 2), CellState.HOLE);
+    for (Board counted : Arrays.asList(board, new GameBoard(grid))) {
+      Coordinate first = new GameCoordinate(0, 0);
+      Coordinate second = new GameCoordinate(1, 1);
+      counted.placeCard(new GameCard("Red", 5, 5, 5, 5), first, PlayerColor.RED);
+      counted.placeCard(new GameCard("Blue", 5, 5, 5, 5), second, PlayerColor.BLUE);
+      counted.flipCard(first, PlayerColor.BLUE);
+      assertEquals(0, counted.getCardCount(PlayerColor.RED));
+      assertEquals(2, counted.getCardCount(PlayerColor.BLUE));
+
+      counted.removeCard(second);
+      Board copy = counted.copy();
+      assertEquals(1, copy.getCardCount(PlayerColor.BLUE));
+
+      counted.clear();
+      assertEquals(0, counted.getCardCount(PlayerColor.BLUE));
+      assertEquals(1, copy.getCardCount(PlayerColor.BLUE));
+    }
+  }
+
+  @Test
+  public void testBoardsHandOutCanonicalCoordinates() {
+    Grid grid = new GameGrid(3, 3);
+    grid.setCellState(new GameCoordinate(0, 2), CellState.HOLE);
+    for (Board shared : Arrays.asList(board, new GameBoard(grid))) {
+      Grid view = shared.getGrid();
+      Coordinate centre = view.getCoordinate(1, 1);
+      assertSame(centre, view.getCoordinate(1, 1));
+      assertSame(centre, shared.copy().getGrid().getCoordinate(1, 1));
+
+      // Cards placed with a fresh coordinate are still keyed by the canonical one
+      shared.placeCard(new GameCard("Red", 5, 5, 5, 5), new GameCoordinate(1, 1), PlayerColor.RED);
+      assertSame(centre, shared.getAllCards().keySet().iterator().next());
+      assertSame(view.getCoordinate(0, 0), shared.getEmptyCardCells().get(0));
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testCanonicalCoordinateOutOfBounds() {
+    board.getGrid().getCoordinate(3, 0);
+  }
+
+  @Test
+  public void testBattleHandlerWorksOnBitBoard() {
+    Card weak = new GameCard("Weak", 1, 1, 9, 1);
+    Card middle = new GameCard("Middle", 4, 4, 4, 4);
+    Card strong = new GameCard("Strong", 9, 9, 9, 9);
+    board.placeCard(weak, new GameCoordinate(1, 1), PlayerColor.RED);
+    board.placeCard(middle, new GameCoordinate(2, 1), PlayerColor.RED);
+    board.placeCard(strong, new GameCoordinate(1, 2), PlayerColor.BLUE);
+
+    BattleHandler handler = new GameBattleHandler(board);
+    List<Coordinate> flipped = handler.runBattle(new GameCoordinate(1, 2));
+    assertEquals(Arrays.asList(new GameCoordinate(1, 1)), flipped);
+    assertEquals(Arrays.asList(new GameCoordinate(2, 1)), handler.runComboStep(flipped));
+    assertEquals(3, board.getCardCount(PlayerColor.BLUE));
+  }
+
+  @Test
+  public void testModelUsesSelectedBoard() {
+    BasicThreeTriosGame model = new BasicThreeTriosGame();
+    model.setBoardFactory(BitBoard::new);
+    model.initializeGame(new GameGrid(3, 3), Arrays.asList(
+            new GameCard("A", 5, 5, 5, 5),
+            new GameCard("B", 5, 5, 5, 5)));
+
+    assertTrue(model.getBoard() instanceof BitBoard);
+  }
+}
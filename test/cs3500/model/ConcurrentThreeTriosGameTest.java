@@ -0,0 +1,169 @@
+package cs3500.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import cs3500.SeededGames;
+import cs3500.strategy.MaxFlipsStrategy;
+import cs3500.strategy.Move;
+import cs3500.strategy.Strategy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the single-writer command queue and published snapshots of ConcurrentThreeTriosGame.
+ */
+public class ConcurrentThreeTriosGameTest {
+  private ExecutorService writers;
+
+  /**
+   * Creates the small pool shared by every game in a test.
+   */
+  @Before
+  public void setup() {
+    writers = Executors.newFixedThreadPool(2);
+  }
+
+  /**
+   * Stops the pool.
+   */
+  @After
+  public void tearDown() {
+    writers.shutdownNow();
+  }
+
+  private ConcurrentThreeTriosGame newGame(long seed) {
+    ConcurrentThreeTriosGame concurrent =
+            new ConcurrentThreeTriosGame(SeededGames.dealtSmall(seed), writers);
+    concurrent.startGame();
+    return concurrent;
+  }
+
+  @Test
+  public void testPublishedSnapshotsDoNotChange() {
+    ConcurrentThreeTriosGame game = newGame(1);
+    GameSnapshot before = game.snapshot();
+    Coordinate centre = new GameCoordinate(1, 1);
+
+    game.playCard(game.getPlayerHand(PlayerColor.RED).get(0), centre);
+
+    assertEquals(CellState.AVAILABLE, before.getBoard().getGrid().getCellState(centre));
+    assertNotSame(before, game.snapshot());
+    assertEquals(PlayerColor.RED, game.getBoard().getOwnerAt(centre));
+    assertEquals(PlayerColor.BLUE, game.getCurrentPlayerColor());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testCommandExceptionsReachTheCaller() {
+    ConcurrentThreeTriosGame game = newGame(1);
+    game.playCard(game.getPlayerHand(PlayerColor.BLUE).get(0), new GameCoordinate(0, 0));
+  }
+
+  @Test
+  public void testFailedMovePublishesNothing() {
+    ConcurrentThreeTriosGame game = newGame(1);
+    GameSnapshot before = game.snapshot();
+    try {
+      game.playCard(game.getPlayerHand(PlayerColor.BLUE).get(0), new GameCoordinate(0, 0));
+    } catch (IllegalStateException e) {
+      // Expected: it is red's turn
+    }
+    assertSame(before, game.snapshot());
+  }
+
+  @Test
+  public void testMoveSnapshotsMatchFullSnapshots() {
+    for (long seed = 0; seed < 10; seed++) {
+      BasicThreeTriosGame inner = SeededGames.dealtSmall(seed);
+      ConcurrentThreeTriosGame game = new ConcurrentThreeTriosGame(inner, writers);
+      game.startGame();
+      Strategy strategy = new MaxFlipsStrategy();
+      while (game.getGameState() != GameState.GAME_OVER) {
+        Move move = strategy.chooseMove(game, game.getCurrentPlayerColor());
+        game.playCard(move.getCard(), move.getPosition());
+
+        GameSnapshot full = GameSnapshot.of(inner);
+        GameSnapshot derived = game.snapshot();
+        assertEquals(full.getPositionHash(), derived.getPositionHash());
+        assertEquals(full.getGameState(), derived.getGameState());
+        assertEquals(full.getCurrentPlayerColor(), derived.getCurrentPlayerColor());
+        assertEquals(full.getScore(PlayerColor.RED), derived.getScore(PlayerColor.RED));
+        assertEquals(full.getPlayerHand(PlayerColor.BLUE), derived.getPlayerHand(PlayerColor.BLUE));
+      }
+      assertEquals(inner.getWinner(), game.getWinner());
+    }
+  }
+
+  @Test
+  public void testRacingPlayersApplyEachMoveOnce() throws InterruptedException {
+    ConcurrentThreeTriosGame game = newGame(2);
+    AtomicInteger played = new AtomicInteger();
+    CountDownLatch start = new CountDownLatch(1);
+    List<Thread> threads = new ArrayList<>();
+    for (int t = 0; t < 8; t++) {
+      Thread thread = new Thread(() -> {
+        try {
+          start.await();
+        } catch (InterruptedException e) {
+          return;
+        }
+        while (game.getGameState() != GameState.GAME_OVER) {
+          // Every thread tries the same move; only the first to reach the writer succeeds
+          GameSnapshot seen = game.snapshot();
+          try {
+            game.playCard(seen.getPlayerHand(seen.getCurrentPlayerColor()).get(0),
+                    seen.getBoard().getEmptyCardCells().get(0));
+            played.incrementAndGet();
+          } catch (IllegalStateException | IndexOutOfBoundsException e) {
+            // Lost the race to another thread
+          }
+        }
+      });
+      threads.add(thread);
+      thread.start();
+    }
+    start.countDown();
+    for (Thread thread : threads) {
+      thread.join(5000);
+    }
+
+    assertEquals(9, played.get());
+    assertEquals(GameState.GAME_OVER, game.getGameState());
+    assertEquals(10, game.getScore(PlayerColor.RED) + game.getScore(PlayerColor.BLUE));
+  }
+
+  @Test
+  public void testManyGamesShareOnePool() throws Exception {
+    List<ConcurrentThreeTriosGame> games = new ArrayList<>();
+    List<CompletableFuture<GameSnapshot>> finished = new ArrayList<>();
+    for (int seed = 0; seed < 200; seed++) {
+      ConcurrentThreeTriosGame game = newGame(seed);
+      games.add(game);
+      CompletableFuture<GameSnapshot> moves = CompletableFuture.completedFuture(game.snapshot());
+      for (int move = 0; move < 9; move++) {
+        moves = moves.thenCompose(seen -> game.playCardAsync(
+                seen.getPlayerHand(seen.getCurrentPlayerColor()).get(0),
+                seen.getBoard().getEmptyCardCells().get(0)));
+      }
+      finished.add(moves);
+    }
+
+    for (int i = 0; i < games.size(); i++) {
+      GameSnapshot last = finished.get(i).get(5, TimeUnit.SECONDS);
+      assertEquals(GameState.GAME_OVER, last.getGameState());
+      assertSame(last, games.get(i).snapshot());
+    }
+    assertTrue(games.get(0).getBoard().isFull());
+  }
+}
@@ -0,0 +1,103 @@
+package cs3500.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * Tests for the free cell index kept by GameBoard.
+ */
+public class FreeCellIndexTest {
+
+  private List<Integer> cells(FreeCellIndex index) {
+    List<Integer> cells = new ArrayList<>();
+    for (int cell = index.first(); cell >= 0; cell = index.next(cell)) {
+      cells.add(cell);
+    }
+    return cells;
+  }
+
+  @Test
+  public void testRemoveAndAddKeepRowMajorOrder() {
+    FreeCellIndex index = FreeCellIndex.of(new GameGrid(3, 3));
+    index.remove(4);
+    index.remove(5);
+    index.remove(0);
+    assertEquals(List.of(1, 2, 3, 6, 7, 8), cells(index));
+    assertFalse(index.contains(4));
+
+    // Reverse order relinks in place
+    index.add(0);
+    index.add(5);
+    assertEquals(List.of(0, 1, 2, 3, 5, 6, 7, 8), cells(index));
+
+    // Out of order, after its old neighbors moved
+    index.remove(3);
+    index.remove(5);
+    index.add(4);
+    assertEquals(List.of(0, 1, 2, 4, 6, 7, 8), cells(index));
+    assertEquals(7, index.size());
+
+    index.copy().remove(0);
+    assertTrue(index.contains(0));
+  }
+
+  @Test
+  public void testBoardMatchesScanOnSparseBoard() {
+    // Every other cell a hole, like the sparse layouts in the config files
+    Grid grid = new GameGrid(15, 15);
+    for (int row = 0; row < 15; row++) {
+      for (int col = (row % 2); col < 15; col += 2) {
+        grid.setCellState(new GameCoordinate(row, col), CellState.HOLE);
+      }
+    }
+    Board board = new GameBoard(grid);
+    Random random = new Random(4);
+    for (int step = 0; step < 500; step++) {
+      int row = random.nextInt(15);
+      int col = random.nextInt(15);
+      Coordinate pos = new GameCoordinate(row, col);
+      if (grid.getCellState(pos) == CellState.HOLE) {
+        continue;
+      }
+      if (board.canPlaceCard(pos)) {
+        board.placeCard(new GameCard("C" + step, 1, 1, 1, 1), pos, PlayerColor.RED);
+      } else {
+        board.removeCard(pos);
+      }
+
+      List<Coordinate> expected = new ArrayList<>();
+      for (int r = 0; r < 15; r++) {
+        for (int c = 0; c < 15; c++) {
+          Coordinate cell = grid.getCoordinate(r, c);
+          if (grid.getCellState(cell) == CellState.AVAILABLE) {
+            expected.add(cell);
+          }
+        }
+      }
+      assertEquals(expected, board.getEmptyCardCells());
+    }
+    assertEquals(board.getEmptyCardCells(), board.copy().getEmptyCardCells());
+  }
+
+  @Test
+  public void testBoardFollowsNewHoles() {
+    Grid grid = new GameGrid(3, 3);
+    Board board = new GameBoard(grid);
+    assertEquals(9, board.getEmptyCardCells().size());
+
+    grid.setCellState(new GameCoordinate(1, 1), CellState.HOLE);
+    assertEquals(8, board.getEmptyCardCells().size());
+    assertFalse(board.canPlaceCard(new GameCoordinate(1, 1)));
+
+    board.placeCard(new GameCard("A", 1, 1, 1, 1),
+            new GameCoordinate(0, 0), PlayerColor.RED);
+    board.clear();
+    assertEquals(8, board.getEmptyCardCells().size());
+  }
+}
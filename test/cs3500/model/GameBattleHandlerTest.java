@@ -0,0 +1,149 @@
+package cs3500.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests battle resolution and the apply/undo journal of GameBattleHandler.
+ */
+public class GameBattleHandlerTest {
+  private static final Coordinate START = new GameCoordinate(1, 2);
+  private static final Coordinate MIDDLE = new GameCoordinate(1, 1);
+  private static final Coordinate END = new GameCoordinate(1, 0);
+
+  private Board board;
+  private BattleHandler handler;
+  private Card chainStart;
+  private Card chainMiddle;
+  private Card chainEnd;
+
+  /**
+   * Sets up a 3x3 board with a row of red cards that a strong blue card can chain through.
+   */
+  @Before
+  public void setup() {
+    board = new GameBoard(new GameGrid(3, 3));
+    handler = new GameBattleHandler(board);
+
+    // Each red card is weak on its east side but strong on its west side
+    chainStart = new GameCard("Start", 1, 1, 1, 9);
+    chainMiddle = new GameCard("Middle", 1, 1, 1, 9);
+    chainEnd = new GameCard("End", 1, 1, 1, 9);
+    board.placeCard(chainEnd, END, PlayerColor.RED);
+    board.placeCard(chainMiddle, MIDDLE, PlayerColor.RED);
+    board.placeCard(chainStart, START, PlayerColor.RED);
+  }
+
+  @Test
+  public void testApplyMoveCountsComboFlips() {
+    Card attacker = new GameCard("Attacker", 1, 1, 9, 1);
+    int flips = handler.applyMove(attacker, new GameCoordinate(0, 2), PlayerColor.BLUE);
+
+    assertEquals("Attacker flips Start, which combos through Middle and End", 3, flips);
+    assertEquals(4, board.getCardCount(PlayerColor.BLUE));
+    assertEquals(0, board.getCardCount(PlayerColor.RED));
+  }
+
+  @Test
+  public void testApplyMoveMatchesBattleAndComboSteps() {
+    Board copy = board.copy();
+    Card attacker = new GameCard("Attacker", 1, 1, 9, 1);
+    Coordinate pos = new GameCoordinate(0, 2);
+
+    int applied = handler.applyMove(attacker, pos, PlayerColor.BLUE);
+    handler.undoMove();
+
+    BattleHandler copyHandler = new GameBattleHandler(copy);
+    copy.placeCard(attacker, pos, PlayerColor.BLUE);
+    List<Coordinate> flipped = copyHandler.runBattle(pos);
+    int stepped = flipped.size();
+    while (!flipped.isEmpty()) {
+      flipped = copyHandler.runComboStep(flipped);
+      stepped += flipped.size();
+    }
+    assertEquals(stepped, applied);
+  }
+
+  @Test
+  public void testUndoMoveRestoresBoard() {
+    Card attacker = new GameCard("Attacker", 1, 1, 9, 1);
+    Coordinate pos = new GameCoordinate(0, 2);
+    handler.applyMove(attacker, pos, PlayerColor.BLUE);
+    handler.undoMove();
+
+    assertNull(board.getCardAt(pos));
+    assertTrue(board.canPlaceCard(pos));
+    assertEquals(PlayerColor.RED, board.getOwnerAt(START));
+    assertEquals(PlayerColor.RED, board.getOwnerAt(MIDDLE));
+    assertEquals(PlayerColor.RED, board.getOwnerAt(END));
+    assertEquals(3, board.getCardCount(PlayerColor.RED));
+    assertEquals(0, board.getCardCount(PlayerColor.BLUE));
+  }
+
+  @Test
+  public void testNestedMovesUndoInReverseOrder() {
+    Card attacker = new GameCard("Attacker", 1, 1, 9, 1);
+    Card counter = new GameCard("Counter", 9, 1, 1, 1);
+    handler.applyMove(attacker, new GameCoordinate(0, 2), PlayerColor.BLUE);
+    handler.applyMove(counter, new GameCoordinate(2, 2), PlayerColor.RED);
+
+    assertEquals(PlayerColor.RED, board.getOwnerAt(START));
+    handler.undoMove();
+    assertEquals(PlayerColor.BLUE, board.getOwnerAt(START));
+    handler.undoMove();
+    assertEquals(PlayerColor.RED, board.getOwnerAt(START));
+    assertEquals(6, board.getEmptyCardCells().size());
+  }
+
+  @Test
+  public void testResolveBattlesRunsWholeChain() {
+    Card attacker = new GameCard("Attacker", 1, 1, 9, 1);
+    Coordinate pos = new GameCoordinate(0, 2);
+    board.placeCard(attacker, pos, PlayerColor.BLUE);
+
+    assertEquals(3, handler.resolveBattles(pos));
+    assertEquals(PlayerColor.BLUE, board.getOwnerAt(END));
+    assertEquals(0, handler.resolveBattles(pos));
+  }
+
+  @Test
+  public void testRunBattleReportsFlipsInNeighborOrder() {
+    Card attacker = new GameCard("Attacker", 9, 9, 9, 9);
+    Coordinate pos = new GameCoordinate(0, 1);
+    board.placeCard(attacker, pos, PlayerColor.BLUE);
+
+    assertEquals(Arrays.asList(new GameCoordinate(1, 1)), handler.runBattle(pos));
+    assertEquals(Arrays.asList(new GameCoordinate(1, 0)),
+            handler.runComboStep(Arrays.asList(new GameCoordinate(1, 1))));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testUndoWithoutMove() {
+    handler.undoMove();
+  }
+
+  @Test
+  public void testPotentialFlipsLeavesModelUntouched() {
+    Card weak = new GameCard("Weak", 1, 1, 1, 1);
+    Card strong = new GameCard("Strong", 9, 9, 9, 9);
+    BasicThreeTriosGame model = new BasicThreeTriosGame();
+    model.initializeGame(new GameGrid(3, 3), Arrays.asList(weak, strong));
+    model.startGame();
+
+    Card redCard = model.getPlayerHand(PlayerColor.RED).get(0);
+    Card blueCard = model.getPlayerHand(PlayerColor.BLUE).get(0);
+    model.playCard(redCard, new GameCoordinate(1, 1));
+
+    int flips = model.getPotentialFlips(blueCard, new GameCoordinate(1, 2));
+    assertEquals(redCard == weak ? 1 : 0, flips);
+    assertEquals(PlayerColor.RED, model.getBoard().getOwnerAt(new GameCoordinate(1, 1)));
+    assertEquals(1, model.getBoard().getCardCount(PlayerColor.RED));
+    assertTrue(model.getBoard().canPlaceCard(new GameCoordinate(1, 2)));
+  }
+}
@@ -0,0 +1,127 @@
+package cs3500.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import cs3500.SeededGames;
+import cs3500.strategy.MaxFlipsStrategy;
+import cs3500.strategy.Move;
+import cs3500.strategy.Strategy;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for immutable game snapshots and the persistent array behind them.
+ */
+public class GameSnapshotTest {
+  private BasicThreeTriosGame model;
+
+  /**
+   * Starts a seeded game on the 5x5 board.
+   */
+  @Before
+  public void setup() {
+    model = SeededGames.started(9);
+  }
+
+  private void assertSamePosition(ReadOnlyThreeTriosModel expected,
+                                  ReadOnlyThreeTriosModel actual) {
+    Grid grid = expected.getBoard().getGrid();
+    for (int row = 0; row < grid.getTotalRows(); row++) {
+      for (int col = 0; col < grid.getTotalColumns(); col++) {
+        Coordinate position = grid.getCoordinate(row, col);
+        assertEquals(grid.getCellState(position),
+                actual.getBoard().getGrid().getCellState(position));
+        if (grid.getCellState(position) == CellState.OCCUPIED) {
+          Card card = expected.getBoard().getCardAt(position);
+          Card copy = actual.getBoard().getCardAt(position);
+          assertEquals(card.getIdentifier(), copy.getIdentifier());
+          assertEquals(expected.getBoard().getOwnerAt(position),
+                  actual.getBoard().getOwnerAt(position));
+        }
+      }
+    }
+    for (PlayerColor color : PlayerColor.values()) {
+      assertEquals(expected.getScore(color), actual.getScore(color));
+      assertEquals(expected.getPlayerHand(color).size(), actual.getPlayerHand(color).size());
+    }
+    assertEquals(expected.getCurrentPlayerColor(), actual.getCurrentPlayerColor());
+    assertEquals(expected.getGameState(), actual.getGameState());
+    assertEquals(expected.getWinner(), actual.getWinner());
+  }
+
+  @Test
+  public void testPlayingMatchesModelThroughWholeGame() {
+    GameSnapshot snapshot = GameSnapshot.of(model);
+    Strategy strategy = new MaxFlipsStrategy();
+    while (model.getGameState() != GameState.GAME_OVER) {
+      PlayerColor player = model.getCurrentPlayerColor();
+      Move move = strategy.chooseMove(model, player);
+      int handIndex = model.getPlayerHand(player).indexOf(move.getCard());
+      Card snapshotCard = snapshot.getPlayerHand(player).get(handIndex);
+      assertEquals(model.getPotentialFlips(move.getCard(), move.getPosition()),
+              snapshot.getPotentialFlips(snapshotCard, move.getPosition()));
+
+      model.playCard(move.getCard(), move.getPosition());
+      snapshot = snapshot.play(snapshotCard, move.getPosition());
+      assertSamePosition(model, snapshot);
+    }
+  }
+
+  @Test
+  public void testPlayLeavesEarlierSnapshotUnchanged() {
+    GameSnapshot before = GameSnapshot.of(model);
+    Card card = before.getPlayerHand(PlayerColor.RED).get(0);
+    Coordinate position = before.getBoard().getEmptyCardCells().get(0);
+    GameSnapshot after = before.play(card, position);
+
+    assertNull(before.getBoard().getCardAt(position));
+    assertEquals(PlayerColor.RED, before.getCurrentPlayerColor());
+    assertEquals(model.getPlayerHand(PlayerColor.RED).size(),
+            before.getPlayerHand(PlayerColor.RED).size());
+    assertSame(card, after.getBoard().getCardAt(position));
+    assertEquals(PlayerColor.BLUE, after.getCurrentPlayerColor());
+    assertEquals(1, after.getBoard().getCardCount(PlayerColor.RED));
+  }
+
+  @Test
+  public void testCopyOfSnapshotBoardIsIndependent() {
+    GameSnapshot snapshot = GameSnapshot.of(model);
+    Coordinate position = snapshot.getBoard().getEmptyCardCells().get(0);
+    snapshot = snapshot.play(snapshot.getPlayerHand(PlayerColor.RED).get(0), position);
+
+    Board copy = snapshot.getBoard().copy();
+    copy.flipCard(position, PlayerColor.BLUE);
+    assertEquals(PlayerColor.RED, snapshot.getBoard().getOwnerAt(position));
+    assertEquals(1, snapshot.getBoard().getCardCount(PlayerColor.RED));
+    assertEquals(1, copy.getCardCount(PlayerColor.BLUE));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testBoardViewIsReadOnly() {
+    GameSnapshot snapshot = GameSnapshot.of(model);
+    snapshot.getBoard().placeCard(snapshot.getPlayerHand(PlayerColor.RED).get(0),
+            new GameCoordinate(0, 0), PlayerColor.RED);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testPlayRejectsOpponentCard() {
+    GameSnapshot snapshot = GameSnapshot.of(model);
+    snapshot.play(snapshot.getPlayerHand(PlayerColor.BLUE).get(0), new GameCoordinate(0, 0));
+  }
+
+  @Test
+  public void testPersistentArraySharesUnchangedVersions() {
+    PersistentArray<String> empty = PersistentArray.empty(300);
+    PersistentArray<String> one = empty.with(0, "a");
+    PersistentArray<String> two = one.with(299, "b");
+
+    assertNull(empty.get(0));
+    assertEquals("a", one.get(0));
+    assertNull(one.get(299));
+    assertEquals("a", two.get(0));
+    assertEquals("b", two.get(299));
+    assertSame(two, two.with(299, "b"));
+  }
+}
@@ -0,0 +1,144 @@
+package cs3500.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import cs3500.SeededGames;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.Test;
+
+/**
+ * Tests the change events games publish to their model listeners.
+ */
+public class ModelListenerTest {
+
+  /**
+   * Listener that records every event as a short line of text.
+   */
+  private static class RecordingListener implements ModelListener {
+    private final List<String> events = new ArrayList<>();
+    private final List<List<Coordinate>> flips = new ArrayList<>();
+
+    @Override
+    public void cardPlaced(Card card, Coordinate position, PlayerColor owner) {
+      events.add("placed " + owner);
+    }
+
+    @Override
+    public void cardsFlipped(List<Coordinate> positions, PlayerColor newOwner) {
+      events.add("flipped " + newOwner);
+      flips.add(positions);
+    }
+
+    @Override
+    public void turnChanged(PlayerColor player) {
+      events.add("turn " + player);
+    }
+
+    @Override
+    public void gameOver(PlayerColor winner) {
+      events.add("over " + winner);
+    }
+  }
+
+  // Plays the move that flips the most cards, so combo chains come up
+  private void playGreedyMove(ThreeTriosModel game) {
+    Card bestCard = null;
+    Coordinate bestPosition = null;
+    int bestFlips = -1;
+    for (Card card : game.getPlayerHand(game.getCurrentPlayerColor())) {
+      for (Coordinate position : game.getBoard().getEmptyCardCells()) {
+        int flips = game.getPotentialFlips(card, position);
+        if (flips > bestFlips) {
+          bestCard = card;
+          bestPosition = position;
+          bestFlips = flips;
+        }
+      }
+    }
+    game.playCard(bestCard, bestPosition);
+  }
+
+  @Test
+  public void testEachMoveReportsOneBatchOfFlips() {
+    int largestBatch = 0;
+    for (long seed = 0; seed < 20; seed++) {
+      BasicThreeTriosGame game = SeededGames.dealtSmall(seed);
+      RecordingListener listener = new RecordingListener();
+      game.addModelListener(listener);
+      game.startGame();
+      assertEquals(List.of("turn RED"), listener.events);
+
+      while (game.getGameState() != GameState.GAME_OVER) {
+        PlayerColor mover = game.getCurrentPlayerColor();
+        int scoreBefore = game.getBoard().getCardCount(mover);
+        listener.events.clear();
+        listener.flips.clear();
+        playGreedyMove(game);
+
+        int flipped = game.getBoard().getCardCount(mover) - scoreBefore - 1;
+        List<String> expected = new ArrayList<>();
+        expected.add("placed " + mover);
+        if (flipped > 0) {
+          expected.add("flipped " + mover);
+          List<Coordinate> batch = listener.flips.get(0);
+          assertEquals(flipped, new HashSet<>(batch).size());
+          for (Coordinate position : batch) {
+            assertEquals(mover, game.getBoard().getOwnerAt(position));
+          }
+          largestBatch = Math.max(largestBatch, batch.size());
+        }
+        expected.add(game.getGameState() == GameState.GAME_OVER
+                ? "over " + game.getWinner() : "turn " + mover.getOpponentColor());
+        assertEquals(expected, listener.events);
+      }
+    }
+    assertTrue(largestBatch > 1);
+  }
+
+  @Test
+  public void testRemovedListenerHearsNothing() {
+    BasicThreeTriosGame game = SeededGames.dealtSmall(1);
+    RecordingListener listener = new RecordingListener();
+    game.addModelListener(listener);
+    game.removeModelListener(listener);
+    game.startGame();
+    playGreedyMove(game);
+    assertTrue(listener.events.isEmpty());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullListener() {
+    SeededGames.dealtSmall(1).addModelListener(null);
+  }
+
+  @Test
+  public void testConcurrentGameReportsAfterPublishing() {
+    ExecutorService writers = Executors.newSingleThreadExecutor();
+    try {
+      ConcurrentThreeTriosGame game =
+              new ConcurrentThreeTriosGame(SeededGames.dealtSmall(3), writers);
+      List<PlayerColor> seenOwners = new ArrayList<>();
+      RecordingListener recorder = new RecordingListener();
+      game.addModelListener(recorder);
+      game.addModelListener(new ModelListener() {
+        @Override
+        public void cardPlaced(Card card, Coordinate position, PlayerColor owner) {
+          seenOwners.add(game.getBoard().getOwnerAt(position));
+        }
+      });
+
+      game.startGame();
+      game.playCard(game.getPlayerHand(PlayerColor.RED).get(0), new GameCoordinate(1, 1));
+
+      assertEquals(List.of(PlayerColor.RED), seenOwners);
+      assertEquals(List.of("turn RED", "placed RED", "turn BLUE"), recorder.events);
+    } finally {
+      writers.shutdownNow();
+    }
+  }
+}
@@ -0,0 +1,63 @@
+package cs3500.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.Arrays;
+import org.junit.Test;
+
+/**
+ * Tests for the neighbor tables grids build for battles and searches.
+ */
+public class NeighborTableTest {
+
+  @Test
+  public void testEdgesAndHolesAreLeftOut() {
+    Grid grid = new GameGrid(3, 3);
+    grid.setCellState(new GameCoordinate(0, 1), CellState.HOLE);
+    NeighborTable table = grid.getNeighborTable();
+
+    // Centre cell: north is a hole, so south, west and east remain in that order
+    assertEquals(3, table.getNeighborCount(4));
+    assertEquals(7, table.getNeighbor(4, 0));
+    assertEquals(Direction.SOUTH, table.getDirection(4, 0));
+    assertEquals(3, table.getNeighbor(4, 1));
+    assertEquals(Direction.WEST, table.getDirection(4, 1));
+    assertEquals(5, table.getNeighbor(4, 2));
+    assertEquals(Direction.EAST, table.getDirection(4, 2));
+
+    // Top-left corner only touches the cell below it, and holes have no neighbors
+    assertEquals(1, table.getNeighborCount(0));
+    assertEquals(3, table.getNeighbor(0, 0));
+    assertEquals(0, table.getNeighborCount(1));
+  }
+
+  @Test
+  public void testTableIsRebuiltOnlyWhenHolesChange() {
+    for (Grid grid : new Grid[] {new GameGrid(3, 3), new BitBoard(new GameGrid(3, 3)).getGrid()}) {
+      NeighborTable before = grid.getNeighborTable();
+      grid.setCellState(new GameCoordinate(1, 1), CellState.OCCUPIED);
+      assertSame(before, grid.getNeighborTable());
+
+      grid.setCellState(new GameCoordinate(0, 0), CellState.HOLE);
+      NeighborTable after = grid.getNeighborTable();
+      assertNotSame(before, after);
+      assertEquals(2, after.getNeighborCount(1));
+      assertEquals(4, after.getNeighbor(1, 0));
+      assertEquals(2, after.getNeighbor(1, 1));
+    }
+  }
+
+  @Test
+  public void testBoardAdjacentCardsSkipHoles() {
+    Grid grid = new GameGrid(3, 3);
+    grid.setCellState(new GameCoordinate(0, 1), CellState.HOLE);
+    Board board = new GameBoard(grid);
+    Card east = new GameCard("East", 1, 1, 1, 1);
+    board.placeCard(east, new GameCoordinate(1, 2), PlayerColor.RED);
+
+    assertEquals(Arrays.asList(null, null, east, null),
+            board.getAdjacentCards(new GameCoordinate(1, 1)));
+  }
+}
@@ -0,0 +1,55 @@
+package cs3500.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * Tests for the packed card encoding used by the search strategies.
+ */
+public class PackedCardTest {
+
+  @Test
+  public void testRoundTripIsLossless() {
+    Card card = new GameCard("Dragon", 1, 10, 15, 0);
+    short packed = PackedCard.pack(card);
+    Card copy = PackedCard.toCard(card.getIdentifier(), packed);
+
+    assertEquals("Dragon", copy.getIdentifier());
+    for (Direction direction : Direction.values()) {
+      assertEquals(card.getValue(direction), copy.getValue(direction));
+      assertEquals(card.getValue(direction), PackedCard.getValue(packed, direction));
+    }
+  }
+
+  @Test
+  public void testBeatsMatchesBoardBattles() {
+    Board board = new GameBoard(new GameGrid(3, 3));
+    Card[] cards = {
+      new GameCard("A", 1, 2, 3, 4),
+      new GameCard("B", 4, 3, 2, 1),
+      new GameCard("C", 15, 0, 9, 10),
+      new GameCard("D", 5, 5, 5, 5)
+    };
+    for (Card attacker : cards) {
+      for (Card defender : cards) {
+        for (Direction direction : Direction.values()) {
+          assertEquals(board.isCardWinningBattle(attacker, defender, direction),
+                  PackedCard.beats(PackedCard.pack(attacker), PackedCard.pack(defender),
+                          direction.ordinal()));
+        }
+      }
+    }
+    assertTrue(PackedCard.beats(PackedCard.pack(15, 0, 0, 0), PackedCard.pack(0, 14, 0, 0),
+            Direction.NORTH.ordinal()));
+    assertFalse(PackedCard.beats(PackedCard.pack(0, 0, 0, 15), PackedCard.pack(0, 0, 15, 0),
+            Direction.WEST.ordinal()));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testValueTooLargeToPack() {
+    PackedCard.pack(new GameCard("Big", 16, 1, 1, 1));
+  }
+}
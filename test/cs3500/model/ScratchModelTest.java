@@ -0,0 +1,79 @@
+package cs3500.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests that a ScratchModel mirrors the copied position without sharing its board.
+ */
+public class ScratchModelTest {
+  private BasicThreeTriosGame model;
+
+  /**
+   * Plays one strong red card in the centre of a 3x3 board.
+   */
+  @Before
+  public void setup() {
+    model = new BasicThreeTriosGame();
+    model.setShuffleRandom(new Random(0));
+    model.initializeGame(new GameGrid(3, 3), Arrays.asList(
+            new GameCard("A", 1, 1, 1, 1), new GameCard("B", 2, 2, 2, 2),
+            new GameCard("C", 3, 3, 3, 3), new GameCard("D", 4, 4, 4, 4),
+            new GameCard("E", 5, 5, 5, 5), new GameCard("F", 6, 6, 6, 6),
+            new GameCard("G", 7, 7, 7, 7), new GameCard("H", 8, 8, 8, 8),
+            new GameCard("I", 9, 9, 9, 9), new GameCard("J", 10, 10, 10, 10)));
+    model.startGame();
+    model.playCard(model.getPlayerHand(PlayerColor.RED).get(0), new GameCoordinate(1, 1));
+  }
+
+  @Test
+  public void testMirrorsPosition() {
+    ScratchModel scratch = new ScratchModel(model);
+
+    assertEquals(model.getCurrentPlayerColor(), scratch.getCurrentPlayerColor());
+    assertEquals(model.getGameState(), scratch.getGameState());
+    assertEquals(model.getScore(PlayerColor.RED), scratch.getScore(PlayerColor.RED));
+    assertEquals(model.getScore(PlayerColor.BLUE), scratch.getScore(PlayerColor.BLUE));
+    assertEquals(model.getBoard().getEmptyCardCells(), scratch.getBoard().getEmptyCardCells());
+
+    for (Card card : model.getPlayerHand(PlayerColor.BLUE)) {
+      Coordinate pos = new GameCoordinate(0, 1);
+      assertEquals(model.getPotentialFlips(card, pos),
+              scratch.getPotentialFlips(card, pos));
+    }
+  }
+
+  @Test
+  public void testSharesCardsButNotOwners() {
+    ScratchModel scratch = new ScratchModel(model);
+    Coordinate centre = new GameCoordinate(1, 1);
+
+    assertNotSame(model.getBoard(), scratch.getBoard());
+    assertSame(model.getBoard().getCardAt(centre), scratch.getBoard().getCardAt(centre));
+    assertSame(model.getPlayerHand(PlayerColor.BLUE).get(0),
+            scratch.getPlayerHand(PlayerColor.BLUE).get(0));
+
+    // Flipping on the scratch board leaves the live board alone
+    scratch.getBoard().flipCard(centre, PlayerColor.BLUE);
+    assertEquals(PlayerColor.RED, model.getBoard().getOwnerAt(centre));
+    assertEquals(1, model.getBoard().getCardCount(PlayerColor.RED));
+  }
+
+  @Test
+  public void testOpponentCardAttacksForOpponent() {
+    ScratchModel scratch = new ScratchModel(model);
+    Card red = model.getPlayerHand(PlayerColor.RED).get(0);
+    Coordinate pos = new GameCoordinate(0, 1);
+
+    // A red card next to the red centre card flips nothing, whoever is to move
+    assertEquals(PlayerColor.BLUE, scratch.getCurrentPlayerColor());
+    assertEquals(0, scratch.getPotentialFlips(red, pos));
+    assertEquals(0, model.getPotentialFlips(red, pos));
+  }
+}
@@ -0,0 +1,89 @@
+package cs3500.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import cs3500.SeededGames;
+import cs3500.strategy.MaxFlipsStrategy;
+import cs3500.strategy.Move;
+import cs3500.strategy.Strategy;
+import java.util.Arrays;
+import org.junit.Test;
+
+/**
+ * Tests for the incrementally maintained position hashes of boards and models.
+ */
+public class ZobristTest {
+  @Test
+  public void testBoardHashIgnoresMoveOrder() {
+    for (boolean bits : new boolean[] {false, true}) {
+      Board first = bits ? new BitBoard(new GameGrid(3, 3)) : new GameBoard(new GameGrid(3, 3));
+      Board second = first.copy();
+      Coordinate left = new GameCoordinate(1, 0);
+      Coordinate right = new GameCoordinate(1, 2);
+
+      first.placeCard(new GameCard("A", 1, 2, 3, 4), left, PlayerColor.RED);
+      first.placeCard(new GameCard("B", 4, 3, 2, 1), right, PlayerColor.BLUE);
+      second.placeCard(new GameCard("B", 4, 3, 2, 1), right, PlayerColor.BLUE);
+      second.placeCard(new GameCard("A", 1, 2, 3, 4), left, PlayerColor.RED);
+      assertEquals(first.getHash(), second.getHash());
+      assertEquals(first.getHash(), first.copy().getHash());
+    }
+  }
+
+  @Test
+  public void testFlipAndRemoveRestoreHash() {
+    for (boolean bits : new boolean[] {false, true}) {
+      Board board = bits ? new BitBoard(new GameGrid(3, 3)) : new GameBoard(new GameGrid(3, 3));
+      Coordinate pos = new GameCoordinate(1, 1);
+      long empty = board.getHash();
+
+      board.placeCard(new GameCard("A", 5, 5, 5, 5), pos, PlayerColor.RED);
+      long red = board.getHash();
+      board.flipCard(pos, PlayerColor.BLUE);
+      assertNotEquals(red, board.getHash());
+      board.flipCard(pos, PlayerColor.RED);
+      assertEquals(red, board.getHash());
+
+      board.removeCard(pos);
+      assertEquals(empty, board.getHash());
+      board.placeCard(new GameCard("A", 5, 5, 5, 5), pos, PlayerColor.RED);
+      board.clear();
+      assertEquals(empty, board.getHash());
+    }
+  }
+
+  @Test
+  public void testModelHashCoversHandsAndSideToMove() {
+    BasicThreeTriosGame model = new BasicThreeTriosGame();
+    model.initializeGame(new GameGrid(3, 3), Arrays.asList(
+            new GameCard("A", 5, 5, 5, 5),
+            new GameCard("B", 5, 5, 5, 5)));
+    model.startGame();
+    long start = model.getPositionHash();
+    assertEquals(0L, model.getBoard().getHash());
+    assertNotEquals(0L, start);
+
+    model.playCard(model.getPlayerHand(PlayerColor.RED).get(0), new GameCoordinate(0, 0));
+    assertNotEquals(start, model.getPositionHash());
+  }
+
+  @Test
+  public void testHashesAgreeAcrossModelCopies() {
+    BasicThreeTriosGame model = SeededGames.started(9);
+
+    GameSnapshot snapshot = GameSnapshot.of(model);
+    Strategy strategy = new MaxFlipsStrategy();
+    while (model.getGameState() != GameState.GAME_OVER) {
+      assertEquals(model.getPositionHash(), snapshot.getPositionHash());
+      assertEquals(model.getPositionHash(), new ScratchModel(model).getPositionHash());
+
+      PlayerColor player = model.getCurrentPlayerColor();
+      Move move = strategy.chooseMove(model, player);
+      int handIndex = model.getPlayerHand(player).indexOf(move.getCard());
+      snapshot = snapshot.play(snapshot.getPlayerHand(player).get(handIndex), move.getPosition());
+      model.playCard(move.getCard(), move.getPosition());
+    }
+    assertEquals(model.getPositionHash(), snapshot.getPositionHash());
+  }
+}
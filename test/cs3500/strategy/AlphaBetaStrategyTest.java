@@ -0,0 +1,156 @@
+package cs3500.strategy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import cs3500.SeededGames;
+import cs3500.model.BasicThreeTriosGame;
+import cs3500.model.Card;
+import cs3500.model.Coordinate;
+import cs3500.model.GameCard;
+import cs3500.model.GameGrid;
+import cs3500.model.PlayerColor;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+
+/**
+ * Tests for the alpha-beta strategy, its search position and its transposition table.
+ */
+public class AlphaBetaStrategyTest {
+
+  @Test
+  public void testSearchPositionFlipsMatchModel() {
+    for (long seed = 0; seed < 5; seed++) {
+      BasicThreeTriosGame model = SeededGames.midGame(seed);
+      PlayerColor player = model.getCurrentPlayerColor();
+      SearchPosition position = new SearchPosition(model, player);
+      int[] moves = new int[position.maxMoves()];
+      int count = position.generateMoves(moves);
+
+      for (int i = 0; i < count; i++) {
+        int card = position.moveCard(moves[i]);
+        int cell = position.moveCell(moves[i]);
+        int expected = model.getPotentialFlips(position.getCard(card),
+                position.getCoordinate(cell));
+        assertEquals(expected, position.play(card, cell));
+        position.undo();
+      }
+    }
+  }
+
+  @Test
+  public void testUndoRestoresHashAndScores() {
+    BasicThreeTriosGame model = SeededGames.midGame(3);
+    SearchPosition position = new SearchPosition(model, model.getCurrentPlayerColor());
+    long hash = position.getHash();
+    int red = position.getScore(SearchPosition.RED);
+
+    int[] moves = new int[position.maxMoves()];
+    position.generateMoves(moves);
+    position.play(position.moveCard(moves[0]), position.moveCell(moves[0]));
+    assertTrue(hash != position.getHash());
+    position.undo();
+
+    assertEquals(hash, position.getHash());
+    assertEquals(red, position.getScore(SearchPosition.RED));
+    assertEquals(model.getScore(PlayerColor.RED), position.getScore(SearchPosition.RED));
+    assertEquals(model.getScore(PlayerColor.BLUE), position.getScore(SearchPosition.BLUE));
+  }
+
+  @Test
+  public void testHashIsStableAcrossCopies() {
+    BasicThreeTriosGame model = SeededGames.midGame(1);
+    SearchPosition position = new SearchPosition(model, model.getCurrentPlayerColor());
+    int[] moves = new int[position.maxMoves()];
+    position.generateMoves(moves);
+
+    int first = moves[0];
+    position.play(position.moveCard(first), position.moveCell(first));
+    int[] replies = new int[position.maxMoves()];
+    position.generateMoves(replies);
+    int reply = replies[0];
+    position.play(position.moveCard(reply), position.moveCell(reply));
+    long direct = position.getHash();
+    position.undo();
+    position.undo();
+
+    SearchPosition copy = new SearchPosition(model, model.getCurrentPlayerColor());
+    assertEquals(position.getHash(), copy.getHash());
+    copy.play(copy.moveCard(first), copy.moveCell(first));
+    copy.play(copy.moveCard(reply), copy.moveCell(reply));
+    assertEquals(direct, copy.getHash());
+  }
+
+  @Test
+  public void testHashMatchesModelPositionHash() {
+    BasicThreeTriosGame model = SeededGames.midGame(4);
+    SearchPosition position = new SearchPosition(model, model.getCurrentPlayerColor());
+    assertEquals(model.getPositionHash(), position.getHash());
+
+    int[] moves = new int[position.maxMoves()];
+    position.generateMoves(moves);
+    int card = position.moveCard(moves[0]);
+    int cell = position.moveCell(moves[0]);
+    position.play(card, cell);
+    model.playCard(position.getCard(card), position.getCoordinate(cell));
+    assertEquals(model.getPositionHash(), position.getHash());
+  }
+
+  @Test
+  public void testReturnsModelCardAndCoordinate() {
+    BasicThreeTriosGame model = SeededGames.midGame(2);
+    PlayerColor player = model.getCurrentPlayerColor();
+    Move move = new AlphaBetaStrategy(3, 10_000, 1 << 12).chooseMove(model, player);
+
+    assertTrue(model.getPlayerHand(player).contains(move.getCard()));
+    Coordinate position = move.getPosition();
+    assertTrue(model.getBoard().getEmptyCardCells().contains(position));
+    assertEquals(model.getPotentialFlips(move.getCard(), position), move.getValue());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testRejectsNullTable() {
+    new AlphaBetaStrategy(null);
+  }
+
+  @Test
+  public void testTableReplacesOlderSearchFirst() {
+    TranspositionTable table = new TranspositionTable(2);
+    table.store(2L, 5, 10, TranspositionTable.EXACT, 1);
+    table.store(4L, 1, 20, TranspositionTable.EXACT, 2);
+    table.newSearch();
+    table.store(6L, 3, 30, TranspositionTable.LOWER_BOUND, 3);
+
+    // The shallower old entry is replaced before the deeper old entry
+    assertTrue(table.probe(2L) >= 0);
+    assertEquals(-1, table.probe(4L));
+    int slot = table.probe(6L);
+    assertEquals(30, table.getValue(slot));
+    assertEquals(TranspositionTable.LOWER_BOUND, table.getFlag(slot));
+
+    // Within one search a deeper entry survives a shallower store of the same position
+    table.store(6L, 1, 99, TranspositionTable.EXACT, 4);
+    assertEquals(30, table.getValue(table.probe(6L)));
+    table.clear();
+    assertEquals(-1, table.probe(6L));
+  }
+
+  @Test
+  public void testSkipsDuplicateCardsInHand() {
+    List<Card> cards = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      cards.add(new GameCard("Same" + i, 3, 3, 3, 3));
+    }
+    BasicThreeTriosGame model = new BasicThreeTriosGame();
+    model.initializeGame(new GameGrid(3, 3), cards);
+    model.startGame();
+
+    SearchPosition position = new SearchPosition(model, PlayerColor.RED);
+    int[] moves = new int[position.maxMoves()];
+    assertEquals(9, position.generateMoves(moves));
+    assertSame(model.getPlayerHand(PlayerColor.RED).get(0),
+            position.getCard(position.moveCard(moves[0])));
+  }
+}
@@ -0,0 +1,120 @@
+package cs3500.strategy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import cs3500.SeededGames;
+import cs3500.model.BasicThreeTriosGame;
+import cs3500.model.Card;
+import cs3500.model.Coordinate;
+import cs3500.model.GameState;
+import cs3500.model.PlayerColor;
+import org.junit.Test;
+
+/**
+ * Tests for the evaluation cache shared by the strategies of one thread.
+ */
+public class EvaluationCacheTest {
+
+  private void assertMatchesModel(EvaluationCache cache, BasicThreeTriosGame model) {
+    PlayerColor player = model.getCurrentPlayerColor();
+    for (Card card : model.getPlayerHand(player)) {
+      for (Coordinate pos : model.getBoard().getEmptyCardCells()) {
+        assertEquals(model.getPotentialFlips(card, pos),
+                cache.getPotentialFlips(model, player, card, pos));
+      }
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testRejectsZeroCapacity() {
+    new EvaluationCache(0);
+  }
+
+  @Test
+  public void testCachedFlipsMatchModelThroughWholeGame() {
+    EvaluationCache cache = new EvaluationCache(1024);
+    BasicThreeTriosGame model = SeededGames.started(3);
+    Strategy strategy = new MaxFlipsStrategy();
+    while (model.getGameState() != GameState.GAME_OVER) {
+      assertMatchesModel(cache, model);
+      Move move = strategy.chooseMove(model, model.getCurrentPlayerColor());
+      model.playCard(move.getCard(), move.getPosition());
+    }
+    // Moves away from the last placement keep their regions between turns
+    assertTrue(cache.getHits() > 0);
+  }
+
+  @Test
+  public void testInterleavedGamesKeepTheirOwnViews() {
+    EvaluationCache cache = new EvaluationCache(256);
+    BasicThreeTriosGame first = SeededGames.started(7);
+    BasicThreeTriosGame second = SeededGames.started(8);
+    Strategy strategy = new MaxFlipsStrategy();
+    while (first.getGameState() != GameState.GAME_OVER
+            || second.getGameState() != GameState.GAME_OVER) {
+      for (BasicThreeTriosGame model : new BasicThreeTriosGame[] {first, second}) {
+        if (model.getGameState() != GameState.GAME_OVER) {
+          assertMatchesModel(cache, model);
+          Move move = strategy.chooseMove(model, model.getCurrentPlayerColor());
+          model.playCard(move.getCard(), move.getPosition());
+        }
+      }
+    }
+    // The small capacity forces evictions, which must not lose the entries behind them
+    assertEquals(256, cache.size());
+  }
+
+  @Test
+  public void testRemovedCardIsNoticed() {
+    EvaluationCache cache = new EvaluationCache(1024);
+    BasicThreeTriosGame model = SeededGames.started(4);
+    Strategy strategy = new MaxFlipsStrategy();
+    for (int i = 0; i < 6; i++) {
+      assertMatchesModel(cache, model);
+      Move move = strategy.chooseMove(model, model.getCurrentPlayerColor());
+      model.playCard(move.getCard(), move.getPosition());
+    }
+    Coordinate occupied = model.getBoard().getAllCards().keySet().iterator().next();
+    model.getBoard().removeCard(occupied);
+    assertMatchesModel(cache, model);
+  }
+
+  @Test
+  public void testCachedStrategyPlaysSameGames() {
+    EvaluationCache cache = new EvaluationCache(4096);
+    for (long seed = 0; seed < 3; seed++) {
+      BasicThreeTriosGame plain = SeededGames.started(seed);
+      BasicThreeTriosGame cached = SeededGames.started(seed);
+      Strategy plainStrategy = new MaxFlipsStrategy();
+      Strategy cachedStrategy = new MaxFlipsStrategy(cache);
+      while (plain.getGameState() != GameState.GAME_OVER) {
+        Move expected = plainStrategy.chooseMove(plain, plain.getCurrentPlayerColor());
+        Move actual = cachedStrategy.chooseMove(cached, cached.getCurrentPlayerColor());
+        assertEquals(expected.getPosition(), actual.getPosition());
+        assertEquals(expected.getCard().getIdentifier(), actual.getCard().getIdentifier());
+        plain.playCard(expected.getCard(), expected.getPosition());
+        cached.playCard(actual.getCard(), actual.getPosition());
+      }
+    }
+    assertEquals(cache.getHits() / (double) (cache.getHits() + cache.getMisses()),
+            cache.getHitRate(), 1e-9);
+  }
+
+  @Test
+  public void testEvictsBeyondCapacity() {
+    EvaluationCache cache = new EvaluationCache(4);
+    BasicThreeTriosGame model = SeededGames.started(5);
+    PlayerColor player = model.getCurrentPlayerColor();
+    Card card = model.getPlayerHand(player).get(0);
+    for (Coordinate pos : model.getBoard().getEmptyCardCells()) {
+      cache.getPotentialFlips(model, player, card, pos);
+    }
+    assertEquals(4, cache.size());
+
+    cache.clear();
+    assertEquals(0, cache.size());
+    assertEquals(0, cache.getHits() + cache.getMisses());
+    assertEquals(0.0, cache.getHitRate(), 0);
+  }
+}
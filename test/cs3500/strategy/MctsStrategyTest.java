@@ -0,0 +1,87 @@
+package cs3500.strategy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import cs3500.SeededGames;
+import cs3500.model.BasicThreeTriosGame;
+import cs3500.model.Card;
+import cs3500.model.CellState;
+import cs3500.model.GameCard;
+import cs3500.model.GameCoordinate;
+import cs3500.model.GameGrid;
+import cs3500.model.GameState;
+import cs3500.model.PlayerColor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * Tests for the Monte Carlo Tree Search strategy.
+ */
+public class MctsStrategyTest {
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testRejectsNonPositivePlayouts() {
+    new MctsStrategy(1, 100, 0, true, 0L);
+  }
+
+  @Test
+  public void testReturnsModelCardAndCoordinate() {
+    BasicThreeTriosGame model = SeededGames.midGame(2);
+    PlayerColor player = model.getCurrentPlayerColor();
+    Move move = new MctsStrategy(2, 10_000, 500, false, 0L).chooseMove(model, player);
+
+    assertTrue(model.getPlayerHand(player).contains(move.getCard()));
+    assertTrue(model.getBoard().getEmptyCardCells().contains(move.getPosition()));
+    assertEquals(model.getPotentialFlips(move.getCard(), move.getPosition()), move.getValue());
+  }
+
+  @Test
+  public void testSingleWorkerWithPlayoutBudgetIsRepeatable() {
+    BasicThreeTriosGame model = SeededGames.midGame(4);
+    PlayerColor player = model.getCurrentPlayerColor();
+    Move first = new MctsStrategy(1, 60_000, 300, true, 7L).chooseMove(model, player);
+    Move second = new MctsStrategy(1, 60_000, 300, true, 7L).chooseMove(model, player);
+
+    assertEquals(first.getCard(), second.getCard());
+    assertEquals(first.getPosition(), second.getPosition());
+  }
+
+  @Test
+  public void testPlaysOutBoardWithDisconnectedRegions() {
+    // A 3x3 region in one corner and a 2x2 region in the opposite one
+    GameGrid grid = new GameGrid(7, 7);
+    for (int row = 0; row < 7; row++) {
+      for (int col = 0; col < 7; col++) {
+        boolean topLeft = row < 3 && col < 3;
+        boolean bottomRight = row >= 5 && col >= 5;
+        if (!topLeft && !bottomRight) {
+          grid.setCellState(new GameCoordinate(row, col), CellState.HOLE);
+        }
+      }
+    }
+    Random random = new Random(11);
+    List<Card> cards = new ArrayList<>();
+    for (int i = 0; i < 14; i++) {
+      cards.add(new GameCard("C" + i, 1 + random.nextInt(10), 1 + random.nextInt(10),
+              1 + random.nextInt(10), 1 + random.nextInt(10)));
+    }
+    BasicThreeTriosGame model = new BasicThreeTriosGame();
+    model.setShuffleRandom(new Random(5));
+    model.initializeGame(grid, cards);
+    model.startGame();
+
+    Strategy mcts = new MctsStrategy(2, 10_000, 400, true, 3L);
+    Strategy maxFlips = new MaxFlipsStrategy();
+    while (model.getGameState() != GameState.GAME_OVER) {
+      PlayerColor player = model.getCurrentPlayerColor();
+      Strategy strategy = player == PlayerColor.RED ? mcts : maxFlips;
+      Move move = strategy.chooseMove(model, player);
+      assertTrue(model.getBoard().getEmptyCardCells().contains(move.getPosition()));
+      model.playCard(move.getCard(), move.getPosition());
+    }
+    assertTrue(model.getBoard().getEmptyCardCells().isEmpty());
+  }
+}
@@ -8,7 +8,7 @@ import cs3500.model.Direction;
 import cs3500.model.GameCoordinate;
 import cs3500.model.GameState;
 import cs3500.model.Grid;
-import cs3500.model.Player;
+import cs3500.model.NeighborTable;
 import cs3500.model.PlayerColor;
 import cs3500.model.ReadOnlyThreeTriosModel;
 import java.util.ArrayList;
@@ -101,6 +101,11 @@ public class MockThreeTriosModel implements ReadOnlyThreeTriosModel {
     return null;
   }
 
+  @Override
+  public long getPositionHash() {
+    return 0;
+  }
+
   /**
    * Gets the list of positions that were inspected by the strategy.
    *
@@ -162,7 +167,12 @@ public class MockThreeTriosModel implements ReadOnlyThreeTriosModel {
     }
 
     @Override
-    public void placeCard(Card card, Coordinate position) {
+    public void placeCard(Card card, Coordinate position, PlayerColor owner) {
+      // Not needed for mock
+    }
+
+    @Override
+    public void removeCard(Coordinate position) {
       // Not needed for mock
     }
 
@@ -171,6 +181,11 @@ public class MockThreeTriosModel implements ReadOnlyThreeTriosModel {
       return null; // Empty board for testing
     }
 
+    @Override
+    public PlayerColor getOwnerAt(Coordinate position) {
+      return null; // Empty board for testing
+    }
+
     @Override
     public List<Card> getAdjacentCards(Coordinate position) {
       return new ArrayList<>();
@@ -183,7 +198,7 @@ public class MockThreeTriosModel implements ReadOnlyThreeTriosModel {
     }
 
     @Override
-    public void flipCard(Coordinate position, Player newOwner) {
+    public void flipCard(Coordinate position, PlayerColor newOwner) {
       // Not needed for mock
     }
 
@@ -228,6 +243,11 @@ public class MockThreeTriosModel implements ReadOnlyThreeTriosModel {
     public Board copy() {
       return this; // Return self for testing
     }
+
+    @Override
+    public long getHash() {
+      return 0;
+    }
   }
 
   /**
@@ -254,6 +274,11 @@ public class MockThreeTriosModel implements ReadOnlyThreeTriosModel {
       // Not needed for mock
     }
 
+    @Override
+    public void vacateCell(Coordinate position) {
+      // Not needed for mock
+    }
+
     @Override
     public boolean isValidPosition(Coordinate position) {
       return position != null
@@ -287,6 +312,16 @@ public class MockThreeTriosModel implements ReadOnlyThreeTriosModel {
       return adjacent;
     }
 
+    @Override
+    public Coordinate getCoordinate(int row, int col) {
+      return new GameCoordinate(row, col);
+    }
+
+    @Override
+    public NeighborTable getNeighborTable() {
+      return NeighborTable.of(this);
+    }
+
     @Override
     public int getCardCellCount() {
       return getTotalRows() * getTotalColumns();
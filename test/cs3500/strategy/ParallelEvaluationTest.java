@@ -0,0 +1,94 @@
+package cs3500.strategy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import cs3500.SeededGames;
+import cs3500.model.BasicThreeTriosGame;
+import cs3500.model.Card;
+import cs3500.model.Coordinate;
+import cs3500.model.PlayerColor;
+import cs3500.model.ReadOnlyThreeTriosModel;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests that parallel move evaluation in AbstractStrategy picks the same moves as the
+ * serial path and leaves the live model untouched.
+ */
+public class ParallelEvaluationTest {
+  private ForkJoinPool pool;
+
+  /**
+   * Creates a pool with more workers than leaves on the small boards.
+   */
+  @Before
+  public void setup() {
+    pool = new ForkJoinPool(4);
+  }
+
+  @After
+  public void tearDown() {
+    pool.shutdownNow();
+  }
+
+  /**
+   * Strategy scoring moves by flips, which exercises simulation on the workers' copies.
+   */
+  private static class FlipCountStrategy extends AbstractStrategy {
+    @Override
+    protected int evaluateMove(ReadOnlyThreeTriosModel model, PlayerColor player,
+                               Card card, Coordinate position) {
+      return model.getPotentialFlips(card, position);
+    }
+  }
+
+  private void assertSameMove(AbstractStrategy serial, AbstractStrategy parallel) {
+    for (long seed = 0; seed < 5; seed++) {
+      for (int moves = 0; moves < 8; moves += 3) {
+        BasicThreeTriosGame model = SeededGames.afterMoves(seed, moves, new CornerStrategy());
+        PlayerColor player = model.getCurrentPlayerColor();
+        Move expected = serial.chooseMove(model, player);
+        Move actual = parallel.chooseMove(model, player);
+
+        assertSame(expected.getCard(), actual.getCard());
+        assertEquals(expected.getPosition(), actual.getPosition());
+        assertEquals(expected.getValue(), actual.getValue());
+      }
+    }
+  }
+
+  @Test
+  public void testCornerStrategyMatchesSerial() {
+    AbstractStrategy parallel = new CornerStrategy();
+    parallel.setEvaluationPool(pool);
+    assertSameMove(new CornerStrategy(), parallel);
+  }
+
+  @Test
+  public void testFlipEvaluationMatchesSerial() {
+    AbstractStrategy parallel = new FlipCountStrategy();
+    parallel.setEvaluationPool(pool);
+    assertSameMove(new FlipCountStrategy(), parallel);
+  }
+
+  @Test
+  public void testLiveModelIsUntouched() {
+    BasicThreeTriosGame model = SeededGames.afterMoves(2, 6, new CornerStrategy());
+    Map<Coordinate, Card> before = model.getBoard().getAllCards();
+    int redScore = model.getScore(PlayerColor.RED);
+
+    AbstractStrategy parallel = new FlipCountStrategy();
+    parallel.setEvaluationPool(pool);
+    parallel.chooseMove(model, model.getCurrentPlayerColor());
+
+    assertEquals(before, model.getBoard().getAllCards());
+    assertEquals(redScore, model.getScore(PlayerColor.RED));
+    for (Map.Entry<Coordinate, Card> entry : before.entrySet()) {
+      assertSame(entry.getValue(), model.getBoard().getCardAt(entry.getKey()));
+    }
+  }
+}
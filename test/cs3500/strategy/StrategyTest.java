@@ -5,13 +5,17 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import cs3500.SeededGames;
+import cs3500.model.BasicThreeTriosGame;
 import cs3500.model.Card;
 import cs3500.model.GameCard;
 import cs3500.model.GameCoordinate;
-import cs3500.model.GamePlayer;
 import cs3500.model.GameState;
-import cs3500.model.Player;
 import cs3500.model.PlayerColor;
+import cs3500.tournament.TournamentResult;
+import cs3500.tournament.TournamentRunner;
+import java.util.List;
+import java.util.function.Supplier;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -32,12 +36,9 @@ public class StrategyTest {
     maxFlipsStrategy = new MaxFlipsStrategy();
     Strategy cornerStrategy = new CornerStrategy();  // Initialize cornerStrategy
 
-    // Create players
-    Player redPlayer = new GamePlayer(PlayerColor.RED);
-
     // Create test cards with explicit values
-    strongCard = new GameCard("Strong", redPlayer, 9, 9, 9, 9);
-    Card weakCard = new GameCard("Weak", redPlayer, 1, 1, 1, 1);
+    strongCard = new GameCard("Strong", 9, 9, 9, 9);
+    Card weakCard = new GameCard("Weak", 1, 1, 1, 1);
 
     // Add cards to mock model's hand in specific order
     mockModel.addCardToHand(PlayerColor.RED, strongCard);
@@ -106,4 +107,26 @@ public class StrategyTest {
     assertTrue("Should get player hand",
             transcript.contains("Getting hand for player: RED"));
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testSearchStrategiesReturnNullWhenGameOver() {
+    BasicThreeTriosGame model = SeededGames.finished();
+    assertNull(new AlphaBetaStrategy().chooseMove(model, PlayerColor.BLUE));
+    assertNull(new MctsStrategy().chooseMove(model, PlayerColor.BLUE));
+  }
+
+  @Test
+  public void testSearchStrategiesBeatMaxFlips() {
+    // Fixed depth and playout budgets with no time limit, so outcomes depend only on the seed
+    long unlimited = Long.MAX_VALUE / 1_000_000;
+    List<Supplier<Strategy>> searches = List.of(
+            () -> new AlphaBetaStrategy(4, unlimited, 1 << 12),
+            () -> new MctsStrategy(1, unlimited, 2000, true, 0L));
+    for (Supplier<Strategy> search : searches) {
+      TournamentResult result = TournamentRunner.fromFiles(SeededGames.LARGE_GRID,
+              SeededGames.LARGE_CARDS, search, MaxFlipsStrategy::new, 1).run(10, 0L);
+      assertTrue(result.toString(),
+              result.getWins() > result.getLosses() + result.getTies());
+    }
+  }
+}
@@ -0,0 +1,114 @@
+package cs3500.threetrios;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import cs3500.controller.ThreeTriosController;
+import cs3500.model.PlayerColor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+/**
+ * Tests that the controller registry keeps each game's controllers and notifications apart.
+ */
+public class GameControllerRegistryTest {
+
+  /**
+   * Controller that only counts how often it was refreshed.
+   */
+  private static class CountingController implements ThreeTriosController {
+    private final PlayerColor player;
+    private int refreshes;
+
+    CountingController(PlayerColor player) {
+      this.player = player;
+    }
+
+    @Override
+    public void start() {
+      // Nothing to start
+    }
+
+    @Override
+    public PlayerColor getPlayer() {
+      return player;
+    }
+
+    @Override
+    public boolean isAIPlayer() {
+      return false;
+    }
+
+    @Override
+    public void refresh() {
+      refreshes++;
+    }
+  }
+
+  @Test
+  public void testNotificationsStayInTheirGame() {
+    GameControllerRegistry registry = new GameControllerRegistry();
+    GameSession first = registry.openGame("first");
+    GameSession second = registry.openGame("second");
+    CountingController firstRed = new CountingController(PlayerColor.RED);
+    CountingController firstBlue = new CountingController(PlayerColor.BLUE);
+    CountingController secondBlue = new CountingController(PlayerColor.BLUE);
+    first.register(PlayerColor.RED, firstRed);
+    first.register(PlayerColor.BLUE, firstBlue);
+    second.register(PlayerColor.BLUE, secondBlue);
+
+    first.notifyOpponent(PlayerColor.RED);
+    second.notifyOpponent(PlayerColor.BLUE);
+
+    assertEquals(0, firstRed.refreshes);
+    assertEquals(1, firstBlue.refreshes);
+    assertEquals(0, secondBlue.refreshes);
+    assertSame(first, registry.getGame("first"));
+    assertNull(second.getController(PlayerColor.RED));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testColorRegisteredTwice() {
+    GameSession session = new GameControllerRegistry().openGame("game");
+    session.register(PlayerColor.RED, new CountingController(PlayerColor.RED));
+    session.register(PlayerColor.RED, new CountingController(PlayerColor.RED));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testGameOpenedTwice() {
+    GameControllerRegistry registry = new GameControllerRegistry();
+    registry.openGame("game");
+    registry.openGame("game");
+  }
+
+  @Test
+  public void testGamesOpenedConcurrently() throws Exception {
+    GameControllerRegistry registry = new GameControllerRegistry();
+    ExecutorService pool = Executors.newFixedThreadPool(8);
+    List<Future<?>> opened = new ArrayList<>();
+    for (int i = 0; i < 500; i++) {
+      String gameId = "game-" + i;
+      opened.add(pool.submit(() -> {
+        GameSession session = registry.openGame(gameId);
+        session.register(PlayerColor.RED, new CountingController(PlayerColor.RED));
+        session.register(PlayerColor.BLUE, new CountingController(PlayerColor.BLUE));
+      }));
+    }
+    for (Future<?> future : opened) {
+      future.get(5, TimeUnit.SECONDS);
+    }
+    pool.shutdown();
+
+    assertEquals(500, registry.getGameCount());
+    registry.closeGame("game-0");
+    assertNull(registry.getGame("game-0"));
+    assertEquals(PlayerColor.BLUE,
+            registry.getGame("game-1").getController(PlayerColor.BLUE).getPlayer());
+  }
+}
@@ -0,0 +1,91 @@
+package cs3500.tournament;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import cs3500.model.BasicThreeTriosGame;
+import cs3500.model.Card;
+import cs3500.model.GameCard;
+import cs3500.model.GameGrid;
+import cs3500.model.PlayerColor;
+import cs3500.strategy.CornerStrategy;
+import cs3500.strategy.MaxFlipsStrategy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * Tests for the headless tournament runner.
+ */
+public class TournamentRunnerTest {
+
+  @Test
+  public void testCountsAddUpToGames() {
+    TournamentRunner runner = TournamentRunner.fromFiles("3x3BoardNoHoles.txt",
+            "TenCardSetFor3x3Board.txt", MaxFlipsStrategy::new, CornerStrategy::new, 2);
+    TournamentResult result = runner.run(20, 7L);
+
+    assertEquals(20, result.getGames());
+    assertEquals(20, result.getWins() + result.getLosses() + result.getTies());
+    assertTrue(result.getGamesPerSecond() > 0);
+  }
+
+  @Test
+  public void testResultsDependOnlyOnSeed() {
+    TournamentResult single = TournamentRunner.fromFiles("5x5BoardConnectedCardCells.txt",
+            "CompleteCardSet.txt", MaxFlipsStrategy::new, CornerStrategy::new, 1).run(30, 42L);
+    TournamentResult parallel = TournamentRunner.fromFiles("5x5BoardConnectedCardCells.txt",
+            "CompleteCardSet.txt", MaxFlipsStrategy::new, CornerStrategy::new, 4).run(30, 42L);
+
+    assertEquals(single.getWins(), parallel.getWins());
+    assertEquals(single.getLosses(), parallel.getLosses());
+    assertEquals(single.getTies(), parallel.getTies());
+  }
+
+  @Test
+  public void testSearchStrategiesDependOnlyOnSeed() {
+    for (String name : new String[] {"alphabeta", "mcts"}) {
+      TournamentResult single = TournamentRunner.fromFiles("3x3BoardNoHoles.txt",
+              "TenCardSetFor3x3Board.txt", TournamentRunner.strategyFactory(name),
+              MaxFlipsStrategy::new, 1).run(8, 3L);
+      TournamentResult parallel = TournamentRunner.fromFiles("3x3BoardNoHoles.txt",
+              "TenCardSetFor3x3Board.txt", TournamentRunner.strategyFactory(name),
+              MaxFlipsStrategy::new, 3).run(8, 3L);
+
+      assertEquals(name, single.getWins(), parallel.getWins());
+      assertEquals(name, single.getLosses(), parallel.getLosses());
+      assertEquals(name, single.getTies(), parallel.getTies());
+    }
+  }
+
+  @Test
+  public void testSeededShuffleDealsSameHands() {
+    List<Card> cards = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      cards.add(new GameCard("C" + i, 1 + i % 10, 1, 1, 1));
+    }
+    BasicThreeTriosGame first = new BasicThreeTriosGame();
+    first.setShuffleRandom(new Random(11L));
+    first.initializeGame(new GameGrid(3, 3), cards);
+    List<Card> firstHand = new ArrayList<>(first.getPlayerHand(PlayerColor.RED));
+
+    BasicThreeTriosGame second = new BasicThreeTriosGame();
+    second.setShuffleRandom(new Random(11L));
+    second.initializeGame(new GameGrid(3, 3), cards);
+    assertEquals(firstHand, second.getPlayerHand(PlayerColor.RED));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testTooFewCards() {
+    new TournamentRunner(new GameGrid(3, 3), Arrays.asList(
+            new GameCard("A", 1, 1, 1, 1), new GameCard("B", 1, 1, 1, 1)),
+            MaxFlipsStrategy::new, CornerStrategy::new, 1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testUnknownStrategy() {
+    TournamentRunner.strategyFactory("random");
+  }
+}
@@ -0,0 +1,62 @@
+package cs3500.view;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import cs3500.model.Card;
+import cs3500.model.GameCard;
+import cs3500.model.PlayerColor;
+import java.awt.image.BufferedImage;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests that card sprites are drawn once per card, owner and size.
+ */
+public class CardSpriteCacheTest {
+  private int paints;
+  private CardSpriteCache cache;
+  private Card card;
+
+  /**
+   * Creates a cache whose painter counts how often it draws.
+   */
+  @Before
+  public void setup() {
+    paints = 0;
+    cache = new CardSpriteCache((g2d, card, owner, width, height) -> paints++);
+    card = new GameCard("Dragon", 5, 7, 1, 9);
+  }
+
+  @Test
+  public void testSpriteDrawnOncePerOwner() {
+    BufferedImage red = cache.getSprite(card, PlayerColor.RED, 80, 100);
+    assertSame(red, cache.getSprite(card, PlayerColor.RED, 80, 100));
+    assertNotSame(red, cache.getSprite(card, PlayerColor.BLUE, 80, 100));
+    assertEquals(2, paints);
+    assertEquals(2, cache.size());
+    assertEquals(80, red.getWidth());
+    assertEquals(100, red.getHeight());
+  }
+
+  @Test
+  public void testSizesKeptUntilCleared() {
+    BufferedImage large = cache.getSprite(card, PlayerColor.RED, 80, 100);
+    BufferedImage small = cache.getSprite(card, PlayerColor.RED, 80, 75);
+    assertEquals(75, small.getHeight());
+    assertSame(large, cache.getSprite(card, PlayerColor.RED, 80, 100));
+    assertSame(small, cache.getSprite(card, PlayerColor.RED, 80, 75));
+    assertEquals(2, paints);
+
+    cache.clear();
+    assertEquals(0, cache.size());
+    assertNotSame(large, cache.getSprite(card, PlayerColor.RED, 80, 100));
+    assertEquals(3, paints);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testEmptySize() {
+    cache.getSprite(card, PlayerColor.RED, 0, 100);
+  }
+}